@@ -0,0 +1,475 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import edu.hm.hafner.util.TreeString;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Reads a {@link Report} that has been written by a {@link BinaryReportWriter}. When opened, only the footer of the
+ * binary format is read: so the number of issues, the number of issues per severity and per file, and the properties
+ * of the report are available without reading a single issue. The issues are read on demand, each issue can be read
+ * individually using its position. The hash codes and IDs of the issues are available without reading the issues as
+ * well.
+ * <p>
+ * The strings of the string table are decoded only when required. Only the strings of the properties with a small
+ * number of different values (severity, module, category, type, and origin) are cached and reused by all issues that
+ * refer to them. All other strings (file and package names, messages, descriptions, references, and fingerprints) are
+ * decoded for each issue, so the heap usage of the reader does not grow with the number of issues that have been read.
+ * </p>
+ * <p>
+ * A file that has been opened with {@link #open(Path)} remains mapped until the reader (and all {@link Report reports}
+ * that use the reader) have been garbage collected: the Java platform provides no means to release a mapping
+ * explicitly. On some operating systems (e.g., Windows) a mapped file can't be deleted or overwritten in the meantime.
+ * </p>
+ * <p>
+ * Note that this reader is not thread-safe.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ * @see BinaryReportWriter
+ */
+public class BinaryReportReader {
+    private final ByteBuffer buffer;
+
+    private final int[] stringPositions;
+    /** The decoded strings of the severities, modules, categories, types, and origins of the issues. */
+    private final Map<Integer, String> cachedStrings = new HashMap<>();
+
+    private final int[] offsets;
+    private final int issueKeysPosition;
+    private final int duplicatesSize;
+    private final List<String> infoMessages;
+    private final List<String> errorMessages;
+    private final Map<Severity, Integer> severityCounts;
+    private final Map<String, Integer> fileCounts;
+
+    /**
+     * Opens the specified file that contains a report in the binary format. The file is mapped into memory, so the
+     * issues are read directly from the file system cache. The file must not be larger than 2 GB. The mapping is
+     * released when the returned reader has been garbage collected.
+     *
+     * @param file
+     *         the file to read
+     *
+     * @return the reader
+     * @throws IOException
+     *         if the file could not be opened
+     * @throws ParsingException
+     *         if the file does not contain a valid report
+     */
+    public static BinaryReportReader open(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new ParsingException(String.format("File '%s' is too large: %d bytes", file, channel.size()));
+            }
+            return new BinaryReportReader(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Creates a new {@link BinaryReportReader} for a report in the binary format.
+     *
+     * @param content
+     *         the content that has been written by a {@link BinaryReportWriter}
+     *
+     * @throws ParsingException
+     *         if the content does not contain a valid report
+     */
+    public BinaryReportReader(final byte[] content) {
+        this(ByteBuffer.wrap(content));
+    }
+
+    private BinaryReportReader(final ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        try {
+            Decoder header = new Decoder(0);
+            if (buffer.limit() < 12 || header.readInt() != BinaryReportWriter.MAGIC_NUMBER) {
+                throw new ParsingException("Content does not contain a report in the binary format");
+            }
+            int version = header.readVarInt();
+            if (version != BinaryReportWriter.VERSION) {
+                throw new ParsingException("Unsupported version of the binary format: " + version);
+            }
+
+            Decoder footer = new Decoder(toPosition(buffer.getLong(buffer.limit() - Long.BYTES)));
+            int stringCount = footer.readVarInt();
+            stringPositions = new int[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                stringPositions[i] = footer.position;
+                footer.skip(footer.readVarInt());
+            }
+
+            int size = footer.readVarInt();
+            offsets = new int[size];
+            long offset = 0;
+            for (int i = 0; i < size; i++) {
+                offset += footer.readVarLong();
+                offsets[i] = toPosition(offset);
+            }
+            issueKeysPosition = footer.position;
+            footer.position = toPosition(issueKeysPosition + (long) size * BinaryReportWriter.ISSUE_KEY_BYTES);
+            duplicatesSize = footer.readVarInt();
+            infoMessages = readStrings(footer);
+            errorMessages = readStrings(footer);
+
+            severityCounts = new LinkedHashMap<>();
+            readCounts(footer).forEach((severity, count) -> severityCounts.put(Severity.valueOf(severity), count));
+            fileCounts = readCounts(footer);
+        }
+        catch (IndexOutOfBoundsException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    private int toPosition(final long offset) {
+        if (offset < 0 || offset >= buffer.limit()) {
+            throw new ParsingException("Invalid offset in binary format: " + offset);
+        }
+        return (int) offset;
+    }
+
+    private List<String> readStrings(final Decoder decoder) {
+        int count = decoder.readVarInt();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(getString(decoder.readVarInt()));
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    private Map<String, Integer> readCounts(final Decoder decoder) {
+        int count = decoder.readVarInt();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            counts.put(getString(decoder.readVarInt()), decoder.readVarInt());
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of issues.
+     *
+     * @return the number of issues
+     */
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * Returns the number of duplicates of the report.
+     *
+     * @return the number of duplicates
+     * @see Report#getDuplicatesSize()
+     */
+    public int getDuplicatesSize() {
+        return duplicatesSize;
+    }
+
+    /**
+     * Returns the info messages of the report.
+     *
+     * @return the info messages
+     * @see Report#getInfoMessages()
+     */
+    public List<String> getInfoMessages() {
+        return infoMessages;
+    }
+
+    /**
+     * Returns the error messages of the report.
+     *
+     * @return the error messages
+     * @see Report#getErrorMessages()
+     */
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+
+    /**
+     * Returns the number of issues with the specified {@code severity}. The issues are not read.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues with the specified severity
+     * @see Report#getSizeOf(Severity)
+     */
+    public int getSizeOf(final Severity severity) {
+        return severityCounts.getOrDefault(severity, 0);
+    }
+
+    /**
+     * Returns the severities of all issues. The issues are not read.
+     *
+     * @return the severities
+     * @see Report#getSeverities()
+     */
+    public Set<Severity> getSeverities() {
+        return Collections.unmodifiableSet(severityCounts.keySet());
+    }
+
+    /**
+     * Returns the affected files of all issues. The issues are not read.
+     *
+     * @return the affected files
+     * @see Report#getFiles()
+     */
+    public Set<String> getFiles() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(fileCounts.keySet()));
+    }
+
+    /**
+     * Returns the number of issues for each of the affected files. The issues are not read.
+     *
+     * @return mapping of file names to the number of issues in the file
+     */
+    public Map<String, Integer> getFileCounts() {
+        return Collections.unmodifiableMap(fileCounts);
+    }
+
+    /**
+     * Returns the hash code of the issue at the specified position. The issue is not read.
+     *
+     * @param index
+     *         the position of the issue, must be in the range of {@code 0} to {@code size() - 1}
+     *
+     * @return the hash code of the issue
+     * @see Issue#hashCode()
+     */
+    int getHashCode(final int index) {
+        return buffer.getInt(getIssueKeyPosition(index));
+    }
+
+    /**
+     * Returns the ID of the issue at the specified position. The issue is not read.
+     *
+     * @param index
+     *         the position of the issue, must be in the range of {@code 0} to {@code size() - 1}
+     *
+     * @return the ID of the issue
+     * @see Issue#getId()
+     */
+    UUID getId(final int index) {
+        int position = getIssueKeyPosition(index) + Integer.BYTES;
+        return new UUID(buffer.getLong(position), buffer.getLong(position + Long.BYTES));
+    }
+
+    private int getIssueKeyPosition(final int index) {
+        if (index < 0 || index >= offsets.length) {
+            throw new IndexOutOfBoundsException("No issue at index " + index);
+        }
+        return issueKeysPosition + index * BinaryReportWriter.ISSUE_KEY_BYTES;
+    }
+
+    /**
+     * Reads the issue at the specified position.
+     *
+     * @param index
+     *         the position of the issue, must be in the range of {@code 0} to {@code size() - 1}
+     *
+     * @return the issue at the specified position
+     * @throws IndexOutOfBoundsException
+     *         if the index is out of range
+     * @throws ParsingException
+     *         if the issue could not be read
+     */
+    public Issue get(final int index) {
+        return get(index, null);
+    }
+
+    /**
+     * Reads the issue at the specified position. The specified listener will be notified if one of the mutable
+     * properties of the returned issue has been changed.
+     *
+     * @param index
+     *         the position of the issue, must be in the range of {@code 0} to {@code size() - 1}
+     * @param changeListener
+     *         the listener to notify about changes of the issue
+     *
+     * @return the issue at the specified position
+     */
+    Issue get(final int index, @Nullable final Consumer<Issue> changeListener) {
+        if (index < 0 || index >= offsets.length) {
+            throw new IndexOutOfBoundsException("No issue at index " + index);
+        }
+        try {
+            return readIssue(getId(index), new Decoder(offsets[index]), changeListener);
+        }
+        catch (IndexOutOfBoundsException | IllegalArgumentException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    private Issue readIssue(final UUID id, final Decoder decoder, @Nullable final Consumer<Issue> changeListener) {
+        Severity severity = Severity.valueOf(getCachedString(decoder.readVarInt()));
+        TreeString fileName = getTreeString(decoder.readVarInt());
+        TreeString packageName = getTreeString(decoder.readVarInt());
+        String moduleName = getCachedString(decoder.readVarInt());
+        String category = getCachedString(decoder.readVarInt());
+        String type = getCachedString(decoder.readVarInt());
+        TreeString message = getTreeString(decoder.readVarInt());
+        TreeString description = getTreeString(decoder.readVarInt());
+        String origin = getCachedString(decoder.readVarInt());
+        String reference = getString(decoder.readVarInt());
+        String fingerprint = getString(decoder.readVarInt());
+        int lineStart = decoder.readVarInt();
+        int lineEnd = lineStart + decoder.readSignedVarInt();
+        int columnStart = decoder.readVarInt();
+        int columnEnd = columnStart + decoder.readSignedVarInt();
+        LineRangeList lineRanges = LineRangeList.fromByteArray(decoder.readBytes());
+        Serializable additionalProperties = deserialize(decoder.readBytes());
+
+        return new Issue(fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges, category, type,
+                packageName, moduleName, severity, message, description, origin, reference, fingerprint,
+                additionalProperties, id, changeListener);
+    }
+
+    @Nullable
+    private Serializable deserialize(final byte[] bytes) {
+        if (bytes.length == 0) {
+            return null;
+        }
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (Serializable) stream.readObject();
+        }
+        catch (IOException | ClassNotFoundException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Reads all issues and the properties of the report.
+     *
+     * @return the report
+     * @throws ParsingException
+     *         if the report could not be read
+     */
+    public Report readReport() {
+        Report report = new Report();
+        for (int i = 0; i < size(); i++) {
+            report.add(get(i));
+        }
+        report.setDuplicatesSize(report.getDuplicatesSize() + duplicatesSize);
+        for (String message : infoMessages) {
+            report.logInfo("%s", message);
+        }
+        for (String message : errorMessages) {
+            report.logError("%s", message);
+        }
+        return report;
+    }
+
+    private String getString(final int index) {
+        String cached = cachedStrings.get(index);
+        if (cached != null) {
+            return cached;
+        }
+        return new String(new Decoder(stringPositions[index]).readBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the string with the specified index of the string table. The string is cached, so use this method only
+     * for the properties with a small number of different values.
+     */
+    private String getCachedString(final int index) {
+        String cached = cachedStrings.get(index);
+        if (cached != null) {
+            return cached;
+        }
+        String value = getString(index);
+        cachedStrings.put(index, value);
+        return value;
+    }
+
+    private TreeString getTreeString(final int index) {
+        return TreeString.valueOf(getString(index));
+    }
+
+    /**
+     * Decodes numbers and byte arrays starting at a given position of the buffer. Uses absolute reads, so the position
+     * of the buffer is not changed.
+     */
+    private class Decoder {
+        private int position;
+
+        Decoder(final int position) {
+            this.position = position;
+        }
+
+        int readInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        long readLong() {
+            long value = buffer.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        int readVarInt() {
+            long value = readVarLong();
+            if (value > 0xFFFF_FFFFL) {
+                throw new ParsingException("Invalid integer value in binary format: " + value);
+            }
+            return (int) value;
+        }
+
+        int readSignedVarInt() {
+            int value = readVarInt();
+            return value >>> 1 ^ -(value & 1);
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte current = buffer.get(position++);
+                value |= (long) (current & 0x7F) << shift;
+                if (current >= 0) {
+                    return value;
+                }
+            }
+            throw new ParsingException("Invalid variable length number in binary format");
+        }
+
+        byte[] readBytes() {
+            int length = readVarInt();
+            if (length < 0 || length > buffer.limit() - position) {
+                throw new ParsingException("Invalid length in binary format: " + length);
+            }
+            byte[] bytes = new byte[length];
+            ByteBuffer content = buffer.duplicate();
+            ((Buffer) content).position(position);
+            content.get(bytes);
+            position += length;
+            return bytes;
+        }
+
+        void skip(final int length) {
+            position += length;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import edu.hm.hafner.util.Ensure;
+
+/**
+ * Writes the issues of a {@link Report} in a compact binary format. The issues are written one by one as soon as they
+ * are added, so a report can be written without keeping all issues in memory. The binary format can be read with a
+ * {@link BinaryReportReader}.
+ * <p>
+ * The format consists of a header, the records of the issues, and a footer. All strings of the issues are stored only
+ * once in a string table in the footer, the records refer to these strings by their index. Numbers are stored as
+ * variable length integers, the {@link LineRangeList line ranges} are stored using their own encoding. Additionally,
+ * the footer contains the offsets of all records (so that each issue can be read individually), the hash codes and
+ * IDs of all issues in a table with a fixed width (so that duplicates and issues with a given ID can be found without
+ * reading the records), the properties of the report, and the number of issues per severity and per file. The last 8
+ * bytes contain the offset of the footer.
+ * </p>
+ * <p>
+ * Note that this writer does not detect duplicates: the issues are written as they are added.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ * @see BinaryReportReader
+ */
+public class BinaryReportWriter implements AutoCloseable {
+    /** Magic number at the start of the binary format. */
+    static final int MAGIC_NUMBER = 0x41525054;
+    /** Version of the binary format. */
+    static final int VERSION = 2;
+    /** Number of bytes of the hash code and the ID of an issue in the footer. */
+    static final int ISSUE_KEY_BYTES = Integer.BYTES + 2 * Long.BYTES;
+
+    private final OutputStream output;
+    private final Encoder encoder = new Encoder();
+    private long position;
+
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private long[] offsets = new long[1024];
+    private int[] hashCodes = new int[1024];
+    private long[] ids = new long[2048];
+    private int size;
+
+    private final Map<String, Integer> severityCounts = new LinkedHashMap<>();
+    private final Map<String, Integer> fileCounts = new LinkedHashMap<>();
+    private int duplicatesSize;
+    private final List<String> infoMessages = new ArrayList<>();
+    private final List<String> errorMessages = new ArrayList<>();
+    private boolean isClosed;
+
+    /**
+     * Writes the specified report to the specified output stream.
+     *
+     * @param report
+     *         the report to write
+     * @param output
+     *         the output stream, the stream will not be closed
+     *
+     * @throws IOException
+     *         if the report could not be written
+     */
+    public static void write(final Report report, final OutputStream output) throws IOException {
+        BinaryReportWriter writer = new BinaryReportWriter(output);
+        writer.addAll(report);
+        writer.finish();
+    }
+
+    /**
+     * Creates a new {@link BinaryReportWriter} and writes the header of the binary format.
+     *
+     * @param output
+     *         the output stream to write to
+     *
+     * @throws IOException
+     *         if the header could not be written
+     */
+    public BinaryReportWriter(final OutputStream output) throws IOException {
+        this.output = new BufferedOutputStream(output);
+
+        encoder.writeInt(MAGIC_NUMBER);
+        encoder.writeVarInt(VERSION);
+        flushEncoder();
+    }
+
+    /**
+     * Writes the specified issue.
+     *
+     * @param issue
+     *         the issue to write
+     *
+     * @throws IOException
+     *         if the issue could not be written
+     */
+    public void add(final Issue issue) throws IOException {
+        Ensure.that(isClosed).isFalse("Writer has been finished already");
+
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            hashCodes = Arrays.copyOf(hashCodes, size * 2);
+            ids = Arrays.copyOf(ids, size * 4);
+        }
+        UUID id = issue.getId();
+        offsets[size] = position;
+        hashCodes[size] = issue.hashCode();
+        ids[2 * size] = id.getMostSignificantBits();
+        ids[2 * size + 1] = id.getLeastSignificantBits();
+        size++;
+
+        encoder.writeVarInt(indexOf(issue.getSeverity().getName()));
+        encoder.writeVarInt(indexOf(issue.getFileName()));
+        encoder.writeVarInt(indexOf(issue.getPackageName()));
+        encoder.writeVarInt(indexOf(issue.getModuleName()));
+        encoder.writeVarInt(indexOf(issue.getCategory()));
+        encoder.writeVarInt(indexOf(issue.getType()));
+        encoder.writeVarInt(indexOf(issue.getMessage()));
+        encoder.writeVarInt(indexOf(issue.getDescription()));
+        encoder.writeVarInt(indexOf(issue.getOrigin()));
+        encoder.writeVarInt(indexOf(issue.getReference()));
+        encoder.writeVarInt(indexOf(issue.getFingerprint()));
+        encoder.writeVarInt(issue.getLineStart());
+        encoder.writeSignedVarInt(issue.getLineEnd() - issue.getLineStart());
+        encoder.writeVarInt(issue.getColumnStart());
+        encoder.writeSignedVarInt(issue.getColumnEnd() - issue.getColumnStart());
+        encoder.writeBytes(issue.getLineRanges().toByteArray());
+        encoder.writeBytes(serialize(issue.getAdditionalProperties()));
+        flushEncoder();
+
+        severityCounts.merge(issue.getSeverity().getName(), 1, Integer::sum);
+        fileCounts.merge(issue.getFileName(), 1, Integer::sum);
+    }
+
+    /**
+     * Writes the issues of the specified report. The properties of the report (number of duplicates, info and error
+     * messages) will be written as well.
+     *
+     * @param report
+     *         the report to write
+     *
+     * @throws IOException
+     *         if the issues could not be written
+     */
+    public void addAll(final Report report) throws IOException {
+        for (Issue issue : report) {
+            add(issue);
+        }
+        duplicatesSize += report.getDuplicatesSize();
+        infoMessages.addAll(report.getInfoMessages().castToList());
+        errorMessages.addAll(report.getErrorMessages().castToList());
+    }
+
+    /**
+     * Writes the footer of the binary format and flushes the output stream. Afterwards, no more issues can be added.
+     * The underlying output stream will not be closed.
+     *
+     * @throws IOException
+     *         if the footer could not be written
+     */
+    public void finish() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+
+        for (String message : infoMessages) {
+            indexOf(message);
+        }
+        for (String message : errorMessages) {
+            indexOf(message);
+        }
+
+        long footer = position;
+        encoder.writeVarInt(strings.size());
+        for (String string : strings) {
+            encoder.writeBytes(string.getBytes(StandardCharsets.UTF_8));
+            flushEncoder();
+        }
+        encoder.writeVarInt(size);
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            encoder.writeVarLong(offsets[i] - previous);
+            previous = offsets[i];
+        }
+        for (int i = 0; i < size; i++) {
+            encoder.writeInt(hashCodes[i]);
+            encoder.writeLong(ids[2 * i]);
+            encoder.writeLong(ids[2 * i + 1]);
+            flushEncoder();
+        }
+        encoder.writeVarInt(duplicatesSize);
+        writeStrings(infoMessages);
+        writeStrings(errorMessages);
+        writeCounts(severityCounts);
+        writeCounts(fileCounts);
+        encoder.writeLong(footer);
+        flushEncoder();
+
+        output.flush();
+    }
+
+    /**
+     * Writes the footer of the binary format and closes the underlying output stream.
+     *
+     * @throws IOException
+     *         if the footer could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        }
+        finally {
+            output.close();
+        }
+    }
+
+    private void writeStrings(final List<String> values) {
+        encoder.writeVarInt(values.size());
+        for (String value : values) {
+            encoder.writeVarInt(indexOf(value));
+        }
+    }
+
+    private void writeCounts(final Map<String, Integer> counts) {
+        encoder.writeVarInt(counts.size());
+        counts.forEach((value, count) -> {
+            encoder.writeVarInt(indexOf(value));
+            encoder.writeVarInt(count);
+        });
+    }
+
+    private int indexOf(final String value) {
+        Integer index = stringIndexes.get(value);
+        if (index != null) {
+            return index;
+        }
+        strings.add(value);
+        stringIndexes.put(value, strings.size() - 1);
+        return strings.size() - 1;
+    }
+
+    private byte[] serialize(final Serializable additionalProperties) throws IOException {
+        if (additionalProperties == null) {
+            return new byte[0];
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+            stream.writeObject(additionalProperties);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void flushEncoder() throws IOException {
+        output.write(encoder.buffer, 0, encoder.length);
+        position += encoder.length;
+        encoder.length = 0;
+    }
+
+    /**
+     * Encodes numbers and byte arrays into a reusable buffer.
+     */
+    private static class Encoder {
+        private byte[] buffer = new byte[256];
+        private int length;
+
+        void writeInt(final int value) {
+            ensureCapacity(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                buffer[length++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeLong(final long value) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[length++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarInt(final int value) {
+            writeVarLong(value & 0xFFFF_FFFFL);
+        }
+
+        void writeSignedVarInt(final int value) {
+            writeVarInt(value << 1 ^ value >> 31);
+        }
+
+        void writeVarLong(final long value) {
+            ensureCapacity(10);
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                buffer[length++] = (byte) (remaining & 0x7F | 0x80);
+                remaining >>>= 7;
+            }
+            buffer[length++] = (byte) remaining;
+        }
+
+        void writeBytes(final byte[] bytes) {
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, length, bytes.length);
+            length += bytes.length;
+        }
+
+        private void ensureCapacity(final int additional) {
+            if (length + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+            }
+        }
+    }
+}
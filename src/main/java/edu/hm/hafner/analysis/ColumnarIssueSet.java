@@ -0,0 +1,492 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import edu.hm.hafner.util.TreeString;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A set of {@link Issue issues} that stores the properties of the issues in columns rather than in individual {@link
+ * Issue} instances. Each column is an array that contains the values of a single property for all issues: numbers are
+ * stored in primitive arrays, the ID of an issue is stored as two longs. Properties that have only a small number of
+ * different values (severity, category, type, package, module, origin, reference, file name and description) are
+ * dictionary encoded: each column stores the index of the value in a dictionary of the values of that property.
+ * <p>
+ * The {@link Issue} instances that are returned by this set are views that are materialized on demand. These views are
+ * not part of the set: if one of the mutable properties of such a view is changed, then the new values are written
+ * back to the columns of this set. Since every access materializes a new view, views must not be compared using the
+ * identity, use {@link Issue#equals(Object)} or the ID instead.
+ * </p>
+ * <p>
+ * The issues are ordered by their insertion order. Removed issues are marked as deleted, their rows will not be reused.
+ * Like the {@link java.util.LinkedHashSet} this set is not thread-safe.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+@SuppressWarnings({"PMD.TooManyFields", "PMD.GodClass"})
+final class ColumnarIssueSet extends AbstractSet<Issue> implements Serializable {
+    private static final long serialVersionUID = -4431425458327811062L;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_ROW = -1;
+    private static final LineRangeList NO_LINE_RANGES = new LineRangeList();
+
+    private final Dictionary<Severity> severities = new Dictionary<>();
+    private final Dictionary<String> categories = new Dictionary<>();
+    private final Dictionary<String> types = new Dictionary<>();
+    private final Dictionary<TreeString> packageNames = new Dictionary<>();
+    private final Dictionary<String> moduleNames = new Dictionary<>();
+    private final Dictionary<String> origins = new Dictionary<>();
+    private final Dictionary<String> references = new Dictionary<>();
+    private final Dictionary<TreeString> fileNames = new Dictionary<>();
+    private final Dictionary<TreeString> descriptions = new Dictionary<>();
+
+    private int[] severityCodes = new int[INITIAL_CAPACITY];
+    private int[] categoryCodes = new int[INITIAL_CAPACITY];
+    private int[] typeCodes = new int[INITIAL_CAPACITY];
+    private int[] packageNameCodes = new int[INITIAL_CAPACITY];
+    private int[] moduleNameCodes = new int[INITIAL_CAPACITY];
+    private int[] originCodes = new int[INITIAL_CAPACITY];
+    private int[] referenceCodes = new int[INITIAL_CAPACITY];
+    private int[] fileNameCodes = new int[INITIAL_CAPACITY];
+    private int[] descriptionCodes = new int[INITIAL_CAPACITY];
+
+    private int[] lineStarts = new int[INITIAL_CAPACITY];
+    private int[] lineEnds = new int[INITIAL_CAPACITY];
+    private int[] columnStarts = new int[INITIAL_CAPACITY];
+    private int[] columnEnds = new int[INITIAL_CAPACITY];
+    private long[] mostSignificantBits = new long[INITIAL_CAPACITY];
+    private long[] leastSignificantBits = new long[INITIAL_CAPACITY];
+
+    private TreeString[] messages = new TreeString[INITIAL_CAPACITY];
+    private String[] fingerprints = new String[INITIAL_CAPACITY];
+    /** Additional line ranges of the issues, {@code null} if an issue has no additional line ranges. */
+    private LineRangeList[] lineRanges = new LineRangeList[INITIAL_CAPACITY];
+    private Serializable[] additionalProperties = new Serializable[INITIAL_CAPACITY];
+
+    private final BitSet removed = new BitSet();
+    private int rows;
+    private int size;
+
+    /** Hash codes of the issues, used to find duplicates. */
+    private transient int[] hashes = new int[INITIAL_CAPACITY];
+    /** The first row of each hash bucket. */
+    private transient int[] buckets = createBuckets(INITIAL_CAPACITY);
+    /** The next row in the hash bucket of each row. */
+    private transient int[] next = new int[INITIAL_CAPACITY];
+    /** The first row of each ID bucket. */
+    private transient int[] idBuckets = createBuckets(INITIAL_CAPACITY);
+    /** The next row in the ID bucket of each row. */
+    private transient int[] idNext = new int[INITIAL_CAPACITY];
+    private transient int modificationCount;
+    /** The rows of the issues at each position, {@code null} if the positions need to be recomputed. */
+    @Nullable
+    private transient int[] positions;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return o instanceof Issue && find((Issue) o) != NO_ROW;
+    }
+
+    @Override
+    public boolean add(final Issue issue) {
+        int hash = issue.hashCode();
+        if (find(issue, hash) != NO_ROW) {
+            return false;
+        }
+        ensureCapacity(rows + 1);
+
+        int row = rows++;
+        severityCodes[row] = severities.encode(issue.getSeverity());
+        categoryCodes[row] = categories.encode(issue.getCategory());
+        typeCodes[row] = types.encode(issue.getType());
+        descriptionCodes[row] = descriptions.encode(issue.getDescriptionTreeString());
+        lineStarts[row] = issue.getLineStart();
+        lineEnds[row] = issue.getLineEnd();
+        columnStarts[row] = issue.getColumnStart();
+        columnEnds[row] = issue.getColumnEnd();
+        mostSignificantBits[row] = issue.getId().getMostSignificantBits();
+        leastSignificantBits[row] = issue.getId().getLeastSignificantBits();
+        messages[row] = issue.getMessageTreeString();
+        LineRangeList ranges = issue.getLineRanges();
+        lineRanges[row] = ranges.isEmpty() ? null : ranges;
+        additionalProperties[row] = issue.getAdditionalProperties();
+        writeMutableProperties(row, issue);
+
+        hashes[row] = hash;
+        link(row);
+        linkId(row);
+        if (positions != null) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size] = row;
+        }
+        size++;
+        modificationCount++;
+
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        if (o instanceof Issue) {
+            int row = find((Issue) o);
+            if (row != NO_ROW) {
+                removeRow(row);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the issue at the specified position.
+     *
+     * @param index
+     *         the position of the issue, must be in the range of {@code 0} to {@code size() - 1}
+     *
+     * @return a view of the issue
+     */
+    Issue get(final int index) {
+        if (removed.isEmpty()) {
+            return materialize(index);
+        }
+        if (positions == null) {
+            int[] rowsOfPositions = new int[Math.max(size, INITIAL_CAPACITY)];
+            int position = 0;
+            for (int row = removed.nextClearBit(0); row < rows; row = removed.nextClearBit(row + 1)) {
+                rowsOfPositions[position++] = row;
+            }
+            positions = rowsOfPositions;
+        }
+        return materialize(positions[index]);
+    }
+
+    /**
+     * Returns the issue with the specified ID. If there are several issues with the same ID, then the first one will
+     * be returned.
+     *
+     * @param id
+     *         the ID of the issue
+     *
+     * @return the issue, or {@code null} if there is no issue with the specified ID
+     */
+    @Nullable
+    Issue findById(final UUID id) {
+        int row = findRow(id);
+        return row == NO_ROW ? null : materialize(row);
+    }
+
+    private int findRow(final UUID id) {
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+        int found = NO_ROW;
+        for (int row = idBuckets[idBucketOf(most, least)]; row != NO_ROW; row = idNext[row]) {
+            if (mostSignificantBits[row] == most && leastSignificantBits[row] == least) {
+                found = row; // rows are linked in reverse order
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Iterator<Issue> iterator() {
+        return new RowIterator();
+    }
+
+    /**
+     * Materializes the issue that is stored in the specified row.
+     *
+     * @param row
+     *         the row of the issue
+     *
+     * @return a view of the issue
+     */
+    private Issue materialize(final int row) {
+        LineRangeList ranges = lineRanges[row];
+        return new Issue(fileNames.decode(fileNameCodes[row]), lineStarts[row], lineEnds[row], columnStarts[row],
+                columnEnds[row], ranges == null ? NO_LINE_RANGES : ranges, categories.decode(categoryCodes[row]),
+                types.decode(typeCodes[row]), packageNames.decode(packageNameCodes[row]),
+                moduleNames.decode(moduleNameCodes[row]), severities.decode(severityCodes[row]), messages[row],
+                descriptions.decode(descriptionCodes[row]), origins.decode(originCodes[row]),
+                references.decode(referenceCodes[row]), fingerprints[row], additionalProperties[row],
+                new UUID(mostSignificantBits[row], leastSignificantBits[row]), view -> update(row, view));
+    }
+
+    private void writeMutableProperties(final int row, final Issue issue) {
+        packageNameCodes[row] = packageNames.encode(issue.getPackageNameTreeString());
+        moduleNameCodes[row] = moduleNames.encode(issue.getModuleName());
+        originCodes[row] = origins.encode(issue.getOrigin());
+        referenceCodes[row] = references.encode(issue.getReference());
+        fileNameCodes[row] = fileNames.encode(issue.getFileNameTreeString());
+        fingerprints[row] = issue.getFingerprint();
+    }
+
+    /**
+     * Writes the mutable properties of a view back to the specified row. Since these properties are part of the hash
+     * code of an issue, the row will be moved to the new hash bucket.
+     *
+     * @param row
+     *         the row of the issue
+     * @param view
+     *         the view that has been changed
+     */
+    private void update(final int row, final Issue view) {
+        if (row >= rows || removed.get(row)) {
+            return; // the view has been removed from this set
+        }
+        writeMutableProperties(row, view);
+
+        int hash = view.hashCode();
+        if (hash != hashes[row]) {
+            unlink(row);
+            hashes[row] = hash;
+            link(row);
+        }
+    }
+
+    private void removeRow(final int row) {
+        unlink(row);
+        unlinkId(row);
+        removed.set(row);
+        positions = null;
+        messages[row] = null;
+        fingerprints[row] = null;
+        lineRanges[row] = null;
+        additionalProperties[row] = null;
+        size--;
+        modificationCount++;
+    }
+
+    private int find(final Issue issue) {
+        return find(issue, issue.hashCode());
+    }
+
+    private int find(final Issue issue, final int hash) {
+        for (int row = buckets[bucketOf(hash)]; row != NO_ROW; row = next[row]) {
+            if (hashes[row] == hash && materialize(row).equals(issue)) {
+                return row;
+            }
+        }
+        return NO_ROW;
+    }
+
+    private int bucketOf(final int hash) {
+        return (hash ^ hash >>> 16) & (buckets.length - 1);
+    }
+
+    private void link(final int row) {
+        int bucket = bucketOf(hashes[row]);
+        next[row] = buckets[bucket];
+        buckets[bucket] = row;
+    }
+
+    private void unlink(final int row) {
+        int bucket = bucketOf(hashes[row]);
+        if (buckets[bucket] == row) {
+            buckets[bucket] = next[row];
+        }
+        else {
+            int previous = buckets[bucket];
+            while (next[previous] != row) {
+                previous = next[previous];
+            }
+            next[previous] = next[row];
+        }
+    }
+
+    private int idBucketOf(final long most, final long least) {
+        long hash = most ^ least;
+        return ((int) (hash ^ hash >>> 32)) & (idBuckets.length - 1);
+    }
+
+    private void linkId(final int row) {
+        int bucket = idBucketOf(mostSignificantBits[row], leastSignificantBits[row]);
+        idNext[row] = idBuckets[bucket];
+        idBuckets[bucket] = row;
+    }
+
+    private void unlinkId(final int row) {
+        int bucket = idBucketOf(mostSignificantBits[row], leastSignificantBits[row]);
+        if (idBuckets[bucket] == row) {
+            idBuckets[bucket] = idNext[row];
+        }
+        else {
+            int previous = idBuckets[bucket];
+            while (idNext[previous] != row) {
+                previous = idNext[previous];
+            }
+            idNext[previous] = idNext[row];
+        }
+    }
+
+    private static int[] createBuckets(final int capacity) {
+        int[] buckets = new int[Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1)];
+        Arrays.fill(buckets, NO_ROW);
+        return buckets;
+    }
+
+    private void rebuildIndex() {
+        buckets = createBuckets(next.length);
+        idBuckets = createBuckets(next.length);
+        for (int row = 0; row < rows; row++) {
+            if (!removed.get(row)) {
+                link(row);
+                linkId(row);
+            }
+        }
+    }
+
+    private void ensureCapacity(final int capacity) {
+        int length = next.length;
+        if (capacity <= length) {
+            return;
+        }
+        resize(Math.max(capacity, length + (length >> 1)));
+    }
+
+    private void resize(final int capacity) {
+        severityCodes = Arrays.copyOf(severityCodes, capacity);
+        categoryCodes = Arrays.copyOf(categoryCodes, capacity);
+        typeCodes = Arrays.copyOf(typeCodes, capacity);
+        packageNameCodes = Arrays.copyOf(packageNameCodes, capacity);
+        moduleNameCodes = Arrays.copyOf(moduleNameCodes, capacity);
+        originCodes = Arrays.copyOf(originCodes, capacity);
+        referenceCodes = Arrays.copyOf(referenceCodes, capacity);
+        fileNameCodes = Arrays.copyOf(fileNameCodes, capacity);
+        descriptionCodes = Arrays.copyOf(descriptionCodes, capacity);
+        lineStarts = Arrays.copyOf(lineStarts, capacity);
+        lineEnds = Arrays.copyOf(lineEnds, capacity);
+        columnStarts = Arrays.copyOf(columnStarts, capacity);
+        columnEnds = Arrays.copyOf(columnEnds, capacity);
+        mostSignificantBits = Arrays.copyOf(mostSignificantBits, capacity);
+        leastSignificantBits = Arrays.copyOf(leastSignificantBits, capacity);
+        messages = Arrays.copyOf(messages, capacity);
+        fingerprints = Arrays.copyOf(fingerprints, capacity);
+        lineRanges = Arrays.copyOf(lineRanges, capacity);
+        additionalProperties = Arrays.copyOf(additionalProperties, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+        next = Arrays.copyOf(next, capacity);
+        idNext = Arrays.copyOf(idNext, capacity);
+
+        if (capacity > buckets.length) {
+            rebuildIndex();
+        }
+    }
+
+    private void writeObject(final ObjectOutputStream output) throws IOException {
+        resize(Math.max(rows, 1));
+
+        output.defaultWriteObject();
+    }
+
+    private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+        input.defaultReadObject();
+
+        int capacity = severityCodes.length;
+        hashes = new int[capacity];
+        next = new int[capacity];
+        idNext = new int[capacity];
+        for (int row = 0; row < rows; row++) {
+            if (!removed.get(row)) {
+                hashes[row] = materialize(row).hashCode();
+            }
+        }
+        rebuildIndex();
+    }
+
+    /**
+     * Iterates over the rows of this set that have not been removed, in insertion order.
+     */
+    private class RowIterator implements Iterator<Issue> {
+        private int position = removed.nextClearBit(0);
+        private int last = NO_ROW;
+        private int expectedModificationCount = modificationCount;
+
+        @Override
+        public boolean hasNext() {
+            return position < rows;
+        }
+
+        @Override
+        public Issue next() {
+            if (modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more issues available");
+            }
+            last = position;
+            position = removed.nextClearBit(position + 1);
+            return materialize(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last == NO_ROW) {
+                throw new IllegalStateException("No issue to remove");
+            }
+            if (modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeRow(last);
+            last = NO_ROW;
+            expectedModificationCount = modificationCount;
+        }
+    }
+
+    /**
+     * A dictionary that maps the different values of a column to consecutive codes.
+     *
+     * @param <T>
+     *         type of the values
+     */
+    private static class Dictionary<T extends Serializable> implements Serializable {
+        private static final long serialVersionUID = 6104357938232389212L;
+
+        private final List<T> values = new ArrayList<>();
+        @Nullable
+        private transient Map<T, Integer> codes;
+
+        int encode(final T value) {
+            if (codes == null) {
+                codes = new HashMap<>();
+                for (int i = 0; i < values.size(); i++) {
+                    codes.put(values.get(i), i);
+                }
+            }
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            values.add(value);
+            codes.put(value, values.size() - 1);
+            return values.size() - 1;
+        }
+
+        T decode(final int code) {
+            return values.get(code);
+        }
+    }
+}
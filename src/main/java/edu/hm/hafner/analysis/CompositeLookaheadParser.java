@@ -0,0 +1,140 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import edu.hm.hafner.util.Ensure;
+import edu.hm.hafner.util.LookaheadStream;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Parses a report file with several {@link LookaheadParser} instances at once. The report is read and decoded only
+ * once (see {@link ReaderFactory#readCharSequences()}), each line is handed over to all parsers. Each parser keeps its
+ * own state, i.e. its lookahead, the active {@code make} directory and the issue builder. The parsers process the
+ * report in lockstep, so only a small window of lines needs to be kept in memory, even if some of the parsers consume
+ * additional lines using the lookahead.
+ *
+ * @author Ullrich Hafner
+ */
+public class CompositeLookaheadParser {
+    /** Number of lines that each parser processes before the next parser continues. */
+    private static final int STEP_SIZE = 1000;
+
+    private final List<LookaheadParser> parsers;
+
+    /**
+     * Creates a new instance of {@link CompositeLookaheadParser}.
+     *
+     * @param parsers
+     *         the parsers to use
+     */
+    public CompositeLookaheadParser(final LookaheadParser... parsers) {
+        this(Arrays.asList(parsers));
+    }
+
+    /**
+     * Creates a new instance of {@link CompositeLookaheadParser}.
+     *
+     * @param parsers
+     *         the parsers to use
+     */
+    public CompositeLookaheadParser(final Collection<? extends LookaheadParser> parsers) {
+        Ensure.that(parsers).isNotEmpty("No parsers specified");
+
+        this.parsers = new ArrayList<>(parsers);
+    }
+
+    /**
+     * Returns the parsers of this composite.
+     *
+     * @return the parsers
+     */
+    public List<LookaheadParser> getParsers() {
+        return new ArrayList<>(parsers);
+    }
+
+    /**
+     * Parses the specified file for issues using all parsers of this composite. The file will be read only once.
+     *
+     * @param readerFactory
+     *         provides a reader to the report
+     *
+     * @return the issues of each parser, the order of the reports corresponds to the order of the parsers. Each report
+     *         is equal to the report that would be returned by {@link LookaheadParser#parse(ReaderFactory)} of the
+     *         corresponding parser.
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the user has aborted the parsing
+     */
+    public List<Report> parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+        List<ParserState> states;
+        try (Stream<CharSequence> lines = readerFactory.readCharSequences()) {
+            states = createStates(LookaheadChunk.readFirst(lines.iterator(), STEP_SIZE));
+
+            boolean hasMoreLines = !states.isEmpty();
+            for (int lastLine = STEP_SIZE; hasMoreLines; lastLine += STEP_SIZE) {
+                hasMoreLines = false;
+                for (ParserState state : states) {
+                    hasMoreLines |= state.parse(lastLine);
+                }
+            }
+        }
+
+        if (states.isEmpty()) {
+            return parsers.stream().map(parser -> parser.postProcess(new Report())).collect(Collectors.toList());
+        }
+        return states.stream().map(ParserState::postProcess).collect(Collectors.toList());
+    }
+
+    private List<ParserState> createStates(@Nullable final LookaheadChunk first) {
+        List<ParserState> states = new ArrayList<>();
+        if (first != null) {
+            for (LookaheadParser parser : parsers) {
+                states.add(new ParserState(parser, new LookaheadStream(first.stream(1))));
+            }
+        }
+        return states;
+    }
+
+    /**
+     * The state of a single parser while processing the shared lines of the report.
+     */
+    private static class ParserState {
+        private final LookaheadParser parser;
+        private final LookaheadStream lookahead;
+        private final IssueBuilder builder = new IssueBuilder();
+        private final Report report = new Report();
+        @Nullable
+        private String directory;
+
+        ParserState(final LookaheadParser parser, final LookaheadStream lookahead) {
+            this.parser = parser;
+            this.lookahead = lookahead;
+        }
+
+        /**
+         * Parses the lines of the report until the specified line has been reached.
+         *
+         * @param lastLine
+         *         the number of the last line to parse
+         *
+         * @return {@code true} if there are more lines to parse, {@code false} if the report has been parsed completely
+         */
+        boolean parse(final int lastLine) {
+            directory = parser.parseLines(lookahead, builder, directory, lastLine, report::add);
+
+            return lookahead.hasNext();
+        }
+
+        Report postProcess() {
+            builder.dedup();
+
+            return parser.postProcess(report);
+        }
+    }
+}
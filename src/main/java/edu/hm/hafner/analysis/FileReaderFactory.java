@@ -6,10 +6,14 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.function.Function;
 
 import org.apache.commons.io.input.BOMInputStream;
 
@@ -36,9 +40,40 @@ public class FileReaderFactory extends ReaderFactory {
      */
     public FileReaderFactory(final Path file, final @Nullable Charset charset) {
         super(charset);
-        
+
+        this.file = file;
+        fileName = createFileName(file);
+    }
+
+    /**
+     * Creates a new factory to read the specified file with a given charset.
+     *
+     * @param file
+     *         the file to open
+     * @param charset
+     *         the charset to use when reading the file
+     * @param lineMapper
+     *         provides a mapper to transform each of the resource lines
+     */
+    public FileReaderFactory(final Path file, final @Nullable Charset charset,
+            final Function<String, String> lineMapper) {
+        super(charset, lineMapper);
+
         this.file = file;
-        fileName = file.toAbsolutePath().toString().replace('\\', '/');
+        fileName = createFileName(file);
+    }
+
+    private static String createFileName(final Path file) {
+        return file.toAbsolutePath().toString().replace('\\', '/');
+    }
+
+    /**
+     * Returns the file that will be read by this factory.
+     *
+     * @return the file
+     */
+    protected Path getFile() {
+        return file;
     }
 
     @Override @MustBeClosed
@@ -56,6 +91,37 @@ public class FileReaderFactory extends ReaderFactory {
         }
     }
 
+    /**
+     * Opens the file and skips the specified number of bytes. The byte order mark of the file is not removed.
+     *
+     * @param offset
+     *         the byte offset to start reading from
+     *
+     * @return the content of the file starting at the specified offset
+     * @throws ParsingException
+     *         if the file could not be opened
+     */
+    @MustBeClosed
+    InputStream createInputStream(final long offset) {
+        try {
+            SeekableByteChannel channel = Files.newByteChannel(file);
+            try {
+                channel.position(offset);
+            }
+            catch (IOException exception) {
+                channel.close();
+                throw exception;
+            }
+            return Channels.newInputStream(channel);
+        }
+        catch (NoSuchFileException | InvalidPathException exception) {
+            throw new ParsingException(exception, "Can't find file: " + fileName);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception, "Can't scan file for issues: " + fileName);
+        }
+    }
+
     /**
      * Returns the absolute path of the resource. The file name uses UNIX path separators.
      *
@@ -0,0 +1,36 @@
+package edu.hm.hafner.analysis;
+
+/**
+ * Computes the hash value of the source code context of an issue. The hash value is used as fingerprint of the issue
+ * so it needs to be stable, but not cryptographically strong. Implementations must be thread-safe.
+ *
+ * @author Ullrich Hafner
+ * @see FullTextFingerprint
+ */
+public interface FingerprintAlgorithm {
+    /** The MD5 message digest, the default algorithm of {@link FullTextFingerprint}. */
+    FingerprintAlgorithm MD5 = new Md5FingerprintAlgorithm();
+    /** The 128 bit variant of the non-cryptographic MurmurHash3 function, considerably faster than MD5. */
+    FingerprintAlgorithm MURMUR3_128 = new Murmur3FingerprintAlgorithm();
+
+    /**
+     * Returns the name of this algorithm. The name is part of the key of cached fingerprints, so it must be unique.
+     *
+     * @return the name of this algorithm
+     */
+    String getName();
+
+    /**
+     * Computes the hash value of the specified range of bytes.
+     *
+     * @param content
+     *         the encoded source code context
+     * @param offset
+     *         the offset of the first byte to use
+     * @param length
+     *         the number of bytes to use
+     *
+     * @return the hash value
+     */
+    byte[] hash(byte[] content, int offset, int length);
+}
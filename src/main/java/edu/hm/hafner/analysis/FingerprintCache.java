@@ -0,0 +1,67 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caches the fingerprints of the lines of source files so that the fingerprints of unchanged files do not need to be
+ * computed again. A cache stores the fingerprints of a file together with the state of the file (e.g., its size and
+ * modification time): once the file has been changed, the cached fingerprints are not returned anymore. The state is
+ * obtained before the file is read, so fingerprints of a file that is changed while being read are stored with the
+ * previous state and will not be returned.
+ *
+ * @author Ullrich Hafner
+ * @see FingerprintGenerator
+ * @see LocalFingerprintCache
+ */
+public interface FingerprintCache {
+    /**
+     * Returns the cached fingerprints of the specified file.
+     *
+     * @param fileName
+     *         the absolute path of the file
+     * @param variant
+     *         the variant of the fingerprints (e.g., the character set that has been used to read the file), the
+     *         fingerprints are returned only if they have been computed for the same variant
+     *
+     * @return the cached fingerprints (line number to fingerprint), an empty map if there are no fingerprints for the
+     *         file or if the file has been changed in the meantime
+     */
+    Map<Integer, String> get(String fileName, String variant);
+
+    /**
+     * Returns the current state of the specified file (e.g., its size and modification time). Call this method before
+     * the file is read and pass the result to {@link #put(String, String, String, Map)}. This method may be called
+     * concurrently by several threads.
+     *
+     * @param fileName
+     *         the absolute path of the file
+     *
+     * @return the state of the file, or an empty optional if the state of the file can't be determined (e.g., if the
+     *         file does not exist)
+     */
+    Optional<String> getState(String fileName);
+
+    /**
+     * Stores the fingerprints of the specified file. Replaces all previously cached fingerprints of the file.
+     *
+     * @param fileName
+     *         the absolute path of the file
+     * @param variant
+     *         the variant of the fingerprints
+     * @param state
+     *         the state of the file before the fingerprints have been computed, see {@link #getState(String)}
+     * @param fingerprints
+     *         the fingerprints of the file (line number to fingerprint)
+     */
+    void put(String fileName, String variant, String state, Map<Integer, String> fingerprints);
+
+    /**
+     * Writes the changes of this cache to its persistent storage.
+     *
+     * @throws IOException
+     *         if the cache could not be written
+     */
+    void flush() throws IOException;
+}
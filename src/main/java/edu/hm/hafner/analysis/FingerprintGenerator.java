@@ -6,17 +6,53 @@ import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.file.InvalidPathException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 
+import edu.hm.hafner.util.Ensure;
 import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
- * Creates fingerprints for a set of issues.
+ * Creates fingerprints for a set of issues. The issues are grouped by their affected files so that each file is read
+ * only once. Optionally, the files are read and fingerprinted in parallel. If a {@link FingerprintCache} is provided,
+ * then the fingerprints of unchanged files are taken from the cache without reading the files again.
  *
  * @author Ullrich Hafner
  */
 public class FingerprintGenerator {
+    private final FingerprintCache cache;
+
+    /**
+     * Creates a new instance of {@link FingerprintGenerator} that does not cache fingerprints.
+     */
+    public FingerprintGenerator() {
+        this(new NoCache());
+    }
+
+    /**
+     * Creates a new instance of {@link FingerprintGenerator} that uses the specified cache.
+     *
+     * @param cache
+     *         the cache to obtain the fingerprints of unchanged files from
+     */
+    public FingerprintGenerator(final FingerprintCache cache) {
+        this.cache = cache;
+    }
+
     /**
      * Creates fingerprints for the specified set of issues.
      *
@@ -28,38 +64,199 @@ public class FingerprintGenerator {
      *         the character set to use when reading the source files
      */
     public void run(final FullTextFingerprint algorithm, final Report report, final Charset charset) {
+        run(algorithm, report, charset, 1);
+    }
+
+    /**
+     * Creates fingerprints for the specified set of issues. The fingerprints of different files are computed in
+     * parallel using the specified number of threads. The fingerprints and the logged messages are the same as if the
+     * files would have been processed sequentially.
+     *
+     * @param algorithm
+     *         fingerprinting algorithm
+     * @param report
+     *         the issues to analyze
+     * @param charset
+     *         the character set to use when reading the source files
+     * @param threads
+     *         the number of threads that read and fingerprint the files, use 1 to process the files sequentially
+     */
+    public void run(final FullTextFingerprint algorithm, final Report report, final Charset charset,
+            final int threads) {
+        Ensure.that(threads > 0).isTrue("Number of threads must be positive: %d", threads);
+
         FilteredLog log = new FilteredLog(report, "Can't create fingerprints for some files:");
-        int sum = 0;
+        Map<String, List<Issue>> issuesByFile = new LinkedHashMap<>();
         for (Issue issue : report) {
             if (!issue.hasFingerprint()) {
-                sum += computeFingerprint(issue, algorithm, charset, log);
+                if (issue.hasFileName()) {
+                    issuesByFile.computeIfAbsent(issue.getFileName(), key -> new ArrayList<>()).add(issue);
+                }
+                else {
+                    issue.setFingerprint(createDefaultFingerprint(issue));
+                }
+            }
+        }
+        String variant = getCacheVariant(algorithm, charset);
+        int sum = 0;
+        Map<String, List<Issue>> changedFiles = new LinkedHashMap<>();
+        for (Entry<String, List<Issue>> issuesOfFile : issuesByFile.entrySet()) {
+            int cached = assignCachedFingerprints(issuesOfFile.getKey(), issuesOfFile.getValue(), variant);
+            if (cached < 0) {
+                changedFiles.put(issuesOfFile.getKey(), issuesOfFile.getValue());
+            }
+            else {
+                sum += cached;
+            }
+        }
+        int hits = issuesByFile.size() - changedFiles.size();
+
+        if (threads > 1 && changedFiles.size() > 1) {
+            sum += runInParallel(algorithm, changedFiles, charset, variant, threads, log);
+        }
+        else {
+            for (Entry<String, List<Issue>> issuesOfFile : changedFiles.entrySet()) {
+                String fileName = issuesOfFile.getKey();
+                List<Issue> issues = issuesOfFile.getValue();
+                sum += assignFingerprints(fileName, issues,
+                        computeFingerprints(algorithm, cache, fileName, getLines(issues), charset), charset, variant,
+                        log);
             }
         }
         report.logInfo("-> created fingerprints for %d issues", sum);
+        if (!(cache instanceof NoCache)) {
+            report.logInfo("-> fingerprint cache: %d hits, %d misses", hits, changedFiles.size());
+            try {
+                cache.flush();
+            }
+            catch (IOException exception) {
+                report.logException(exception, "Can't write fingerprint cache");
+            }
+        }
         log.logSummary();
     }
 
-    private int computeFingerprint(final Issue issue, final FullTextFingerprint algorithm, final Charset charset,
-            final FilteredLog log) {
+    /**
+     * Computes the fingerprints of each file in a bounded thread pool. The threads only read the files and compute
+     * the fingerprints: the fingerprints are assigned to the issues (and errors are logged) by the calling thread in
+     * the order of the files.
+     */
+    private int runInParallel(final FullTextFingerprint algorithm, final Map<String, List<Issue>> issuesByFile,
+            final Charset charset, final String variant, final int threads, final FilteredLog log) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, issuesByFile.size()));
         try {
-            if (issue.hasFileName()) {
-                String digest = algorithm.compute(issue.getFileName(), issue.getLineStart(), charset);
-                issue.setFingerprint(digest);
-                return 1;
+            List<Future<FileFingerprints>> results = new ArrayList<>();
+            for (Entry<String, List<Issue>> issuesOfFile : issuesByFile.entrySet()) {
+                String fileName = issuesOfFile.getKey();
+                int[] lines = getLines(issuesOfFile.getValue());
+                results.add(executor.submit(() -> computeFingerprints(algorithm, cache, fileName, lines, charset)));
+            }
+
+            int sum = 0;
+            int position = 0;
+            for (Entry<String, List<Issue>> issuesOfFile : issuesByFile.entrySet()) {
+                sum += assignFingerprints(issuesOfFile.getKey(), issuesOfFile.getValue(),
+                        getResult(results.get(position++)), charset, variant, log);
+            }
+            return sum;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Assigns the cached fingerprints of the specified file to the issues. Fingerprints are only assigned if the cache
+     * contains the fingerprints of all affected lines.
+     *
+     * @return the number of assigned fingerprints, or -1 if the cache does not contain all fingerprints
+     */
+    private int assignCachedFingerprints(final String fileName, final List<Issue> issues, final String variant) {
+        Map<Integer, String> fingerprints = cache.get(fileName, variant);
+        if (fingerprints.isEmpty()) {
+            return -1;
+        }
+        for (Issue issue : issues) {
+            if (!fingerprints.containsKey(issue.getLineStart())) {
+                return -1;
             }
         }
-        catch (FileNotFoundException exception) {
-            log.logError("- '%s' file not found", issue.getFileName());
+        for (Issue issue : issues) {
+            issue.setFingerprint(fingerprints.get(issue.getLineStart()));
+        }
+        return issues.size();
+    }
+
+    private FileFingerprints getResult(final Future<FileFingerprints> result) {
+        try {
+            return result.get();
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating fingerprints", exception);
+        }
+        catch (ExecutionException exception) {
+            return ExceptionUtils.rethrow(exception.getCause());
+        }
+    }
+
+    /**
+     * Returns the variant of the cached fingerprints: fingerprints are only valid for the same algorithm, the same mode
+     * and the same character set.
+     */
+    private String getCacheVariant(final FullTextFingerprint algorithm, final Charset charset) {
+        return algorithm.getAlgorithm().getName() + "/" + algorithm.getMode() + "/" + charset.name();
+    }
+
+    private int[] getLines(final List<Issue> issues) {
+        return issues.stream().mapToInt(Issue::getLineStart).toArray();
+    }
+
+    /**
+     * Computes the fingerprints of the specified file. The state of the file is obtained from the cache before the
+     * file is read, so a change of the file while reading is detected by the cache afterwards.
+     */
+    private static FileFingerprints computeFingerprints(final FullTextFingerprint algorithm,
+            final FingerprintCache cache, final String fileName, final int[] lines, final Charset charset) {
+        String state = cache.getState(fileName).orElse(null);
+        try {
+            return new FileFingerprints(algorithm.compute(fileName, lines, charset), state, null);
         }
         catch (IOException | InvalidPathException | UncheckedIOException exception) {
-            if (exception.getCause() instanceof MalformedInputException) {
-                log.logError("- '%s', provided encoding '%s' seems to be wrong", issue.getFileName(), charset);
+            return new FileFingerprints(null, null, exception);
+        }
+    }
+
+    private int assignFingerprints(final String fileName, final List<Issue> issues, final FileFingerprints result,
+            final Charset charset, final String variant, final FilteredLog log) {
+        String[] digests = result.digests;
+        if (digests != null) {
+            for (int i = 0; i < digests.length; i++) {
+                issues.get(i).setFingerprint(digests[i]);
             }
-            else {
-                log.logError("- '%s', IO exception has been thrown: %s", issue.getFileName(), exception);
+            if (result.state != null) {
+                Map<Integer, String> fingerprints = new HashMap<>(cache.get(fileName, variant));
+                for (int i = 0; i < digests.length; i++) {
+                    fingerprints.put(issues.get(i).getLineStart(), digests[i]);
+                }
+                cache.put(fileName, variant, result.state, fingerprints);
             }
+            return digests.length;
+        }
+
+        Exception exception = result.exception;
+        if (exception instanceof FileNotFoundException) {
+            log.logError("- '%s' file not found", fileName);
+        }
+        else if (exception != null && exception.getCause() instanceof MalformedInputException) {
+            log.logError("- '%s', provided encoding '%s' seems to be wrong", fileName, charset);
+        }
+        else {
+            log.logError("- '%s', IO exception has been thrown: %s", fileName, exception);
+        }
+        for (Issue issue : issues) {
+            issue.setFingerprint(createDefaultFingerprint(issue));
         }
-        issue.setFingerprint(createDefaultFingerprint(issue));
         return 0;
     }
 
@@ -74,4 +271,50 @@ public class FingerprintGenerator {
                         .append(issue.getOrigin())
                         .append(issue.getLineStart()).build());
     }
+
+    /**
+     * A cache that does not store any fingerprints.
+     */
+    private static class NoCache implements FingerprintCache {
+        @Override
+        public Map<Integer, String> get(final String fileName, final String variant) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Optional<String> getState(final String fileName) {
+            return Optional.empty(); // nothing will be stored
+        }
+
+        @Override
+        public void put(final String fileName, final String variant, final String state,
+                final Map<Integer, String> fingerprints) {
+            // nothing to store
+        }
+
+        @Override
+        public void flush() {
+            // nothing to write
+        }
+    }
+
+    /**
+     * The fingerprints of the issues in a file together with the state of the file before it has been read, or the
+     * exception that has been thrown while reading the file.
+     */
+    private static class FileFingerprints {
+        @Nullable
+        private final String[] digests;
+        @Nullable
+        private final String state;
+        @Nullable
+        private final Exception exception;
+
+        FileFingerprints(@Nullable final String[] digests, @Nullable final String state,
+                @Nullable final Exception exception) {
+            this.digests = digests;
+            this.state = state;
+            this.exception = exception;
+        }
+    }
 }
@@ -1,14 +1,19 @@
 package edu.hm.hafner.analysis;
 
 import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Paths;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Locale;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -20,35 +25,90 @@ import edu.hm.hafner.util.VisibleForTesting;
 /**
  * Creates a fingerprint of the specified issue using the source code at the affected line. The fingerprint is computed
  * using the 1:1 content of a small number of lines before and after the affected line (see {@link #LINES_LOOK_AHEAD}).
+ * The fingerprints of several issues in the same file can be computed by reading the file only once. The hash
+ * function that is used to create the fingerprint of the lines is selected by a {@link FingerprintAlgorithm}, the
+ * default is MD5.
+ * <p>
+ * In {@link Mode#NORMALIZED} mode the lines are normalized by a {@link SourceCodeTokenizer} while the file is read:
+ * whitespace and comments are skipped, and the context consists of the affected line and the nearest lines before and
+ * after the affected line that contain source code. So the fingerprints do not change if the code around an issue is
+ * reformatted, commented, or separated by blank lines.
+ * </p>
+ * <p>
+ * This class is thread-safe: the fingerprints of different files can be computed in parallel.
+ * </p>
  *
  * @author Ullrich Hafner
  */
 public class FullTextFingerprint {
     /** Number of lines before and after current line to consider. */
     private static final int LINES_LOOK_AHEAD = 3;
+    /** Number of lines that are used to compute a fingerprint. */
+    private static final int CONTEXT_SIZE = 2 * LINES_LOOK_AHEAD + 1;
     private static final int LINE_RANGE_BUFFER_SIZE = 1000;
     private static final char[] HEX_CHARACTERS = "0123456789ABCDEF".toCharArray();
 
-    private final MessageDigest digest;
+    private final FingerprintAlgorithm algorithm;
+    private final Mode mode;
     private final FileSystem fileSystem;
 
+    /**
+     * Creates a new instance of {@link FullTextFingerprint} that uses the {@link FingerprintAlgorithm#MD5} algorithm.
+     */
+    public FullTextFingerprint() {
+        this(FingerprintAlgorithm.MD5);
+    }
 
     /**
      * Creates a new instance of {@link FullTextFingerprint}.
+     *
+     * @param algorithm
+     *         the algorithm that computes the hash value of the source code context
      */
-    public FullTextFingerprint() {
-        this(new FileSystem());
+    public FullTextFingerprint(final FingerprintAlgorithm algorithm) {
+        this(algorithm, Mode.RAW);
+    }
+
+    /**
+     * Creates a new instance of {@link FullTextFingerprint}.
+     *
+     * @param algorithm
+     *         the algorithm that computes the hash value of the source code context
+     * @param mode
+     *         determines how the source code context is extracted from the lines of a file
+     */
+    public FullTextFingerprint(final FingerprintAlgorithm algorithm, final Mode mode) {
+        this(algorithm, mode, new FileSystem());
     }
 
     @VisibleForTesting
     FullTextFingerprint(final FileSystem fileSystem) {
+        this(FingerprintAlgorithm.MD5, Mode.RAW, fileSystem);
+    }
+
+    @VisibleForTesting
+    FullTextFingerprint(final FingerprintAlgorithm algorithm, final Mode mode, final FileSystem fileSystem) {
+        this.algorithm = algorithm;
+        this.mode = mode;
         this.fileSystem = fileSystem;
-        try {
-            digest = MessageDigest.getInstance("MD5");
-        }
-        catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException(e);
-        }
+    }
+
+    /**
+     * Returns the algorithm that computes the hash value of the source code context.
+     *
+     * @return the algorithm
+     */
+    public FingerprintAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Returns the mode that determines how the source code context is extracted from the lines of a file.
+     *
+     * @return the mode
+     */
+    public Mode getMode() {
+        return mode;
     }
 
     /**
@@ -74,6 +134,28 @@ public class FullTextFingerprint {
         }
     }
 
+    /**
+     * Creates fingerprints of several issues in the same file using the source code at the affected lines. The file is
+     * read only once: the contexts of all affected lines are extracted in a single pass over the lines of the file.
+     *
+     * @param fileName
+     *         the absolute path of the affected file
+     * @param lines
+     *         the lines of the issues
+     * @param charset
+     *         the encoding to be used when reading the affected file
+     *
+     * @return the fingerprints of the selected ranges of source code lines, in the same order as the lines
+     * @throws IOException
+     *         if the file could not be read
+     * @see #compute(String, int, Charset)
+     */
+    public String[] compute(final String fileName, final int[] lines, final Charset charset) throws IOException {
+        try (Stream<String> content = fileSystem.readLinesFromFile(fileName, charset)) {
+            return createFingerprints(lines, content, charset);
+        }
+    }
+
     @VisibleForTesting
     String getFallbackFingerprint(final String fileName) {
         return String.format("%x", fileName.hashCode());
@@ -81,11 +163,17 @@ public class FullTextFingerprint {
 
     @VisibleForTesting
     String createFingerprint(final int line, final Stream<String> lines, final Charset charset) {
-        String context = extractContext(line, lines.iterator());
+        return createFingerprints(new int[] {line}, lines, charset)[0];
+    }
+
+    private String[] createFingerprints(final int[] affectedLines, final Stream<String> lines, final Charset charset) {
+        String[] fingerprints = new String[affectedLines.length];
+        ContextEncoder encoder = new ContextEncoder(charset);
+        visitContexts(affectedLines, lines.iterator(),
+                (index, context) -> fingerprints[index] = asHex(encoder.hash(context, algorithm)));
         lines.close();
-        digest.update(context.getBytes(charset));
 
-        return asHex(digest.digest()).toUpperCase(Locale.ENGLISH);
+        return fingerprints;
     }
 
     private String asHex(final byte[] bytes) {
@@ -100,22 +188,148 @@ public class FullTextFingerprint {
 
     @VisibleForTesting
     String extractContext(final int affectedLine, final Iterator<String> lines) {
-        if (affectedLine < 0) {
-            return StringUtils.EMPTY;
-        }
+        return extractContexts(new int[] {affectedLine}, lines)[0];
+    }
 
-        int start = computeStartLine(affectedLine);
+    /**
+     * Extracts the contexts of all affected lines in a single pass over the lines of a file.
+     *
+     * @param affectedLines
+     *         the affected lines
+     * @param lines
+     *         the lines of the file
+     *
+     * @return the contexts of the affected lines, in the same order as the lines
+     */
+    @VisibleForTesting
+    String[] extractContexts(final int[] affectedLines, final Iterator<String> lines) {
+        String[] contexts = new String[affectedLines.length];
+        visitContexts(affectedLines, lines, (index, context) -> contexts[index] = context.toString());
+        return contexts;
+    }
 
+    private void visitContexts(final int[] affectedLines, final Iterator<String> lines, final ContextVisitor visitor) {
+        if (mode == Mode.NORMALIZED) {
+            visitNormalizedContexts(affectedLines, lines, visitor);
+        }
+        else {
+            visitRawContexts(affectedLines, lines, visitor);
+        }
+    }
+
+    /**
+     * Visits the contexts of all affected lines in a single pass over the lines of a file. The last lines of the file
+     * are kept in a ring buffer: as soon as the last line of a context has been read, the context is created from the
+     * buffer and handed over to the visitor. Reading stops after the last line of the last context.
+     */
+    private void visitRawContexts(final int[] affectedLines, final Iterator<String> lines,
+            final ContextVisitor visitor) {
         StringBuilder context = new StringBuilder(LINE_RANGE_BUFFER_SIZE);
-        int line = 1;
-        for (; lines.hasNext() && line < start - LINES_LOOK_AHEAD; line++) {
-            lines.next(); // skip the first lines
+        long[] windows = new long[affectedLines.length]; // end line of the context in the upper bits, index below
+        int pending = 0;
+        for (int i = 0; i < affectedLines.length; i++) {
+            if (affectedLines[i] < 0) {
+                visitor.visit(i, StringUtils.EMPTY);
+            }
+            else {
+                long endLine = Math.min((long) computeStartLine(affectedLines[i]) + LINES_LOOK_AHEAD,
+                        Integer.MAX_VALUE);
+                windows[pending++] = endLine << 32 | i;
+            }
         }
-        for (; lines.hasNext() && line <= start + LINES_LOOK_AHEAD; line++) {
-            context.append(lines.next());
+        Arrays.sort(windows, 0, pending);
+
+        String[] recentLines = new String[CONTEXT_SIZE];
+        int line = 0;
+        int next = 0;
+        while (next < pending && lines.hasNext()) {
+            line++;
+            recentLines[line % CONTEXT_SIZE] = lines.next();
+            for (; next < pending && getLine(windows[next]) == line; next++) {
+                visitor.visit(getIndex(windows[next]), createContext(context, recentLines, line, line));
+            }
+        }
+        for (; next < pending; next++) { // the file ends before the last line of these contexts
+            visitor.visit(getIndex(windows[next]), createContext(context, recentLines, getLine(windows[next]), line));
+        }
+    }
+
+    /**
+     * Visits the normalized contexts of all affected lines in a single pass over the lines of a file. Each line is
+     * normalized when it is read, the last normalized lines that contain source code are kept in a ring buffer. The
+     * context of an affected line is opened when the affected line is read and is handed over to the visitor as soon
+     * as the following lines with source code have been read. Reading stops after the last line of the last context.
+     * If the affected line itself contains no source code (e.g., a line of a comment), then its text with collapsed
+     * whitespace is part of the context: otherwise all issues in the same comment would get the same context.
+     */
+    private void visitNormalizedContexts(final int[] affectedLines, final Iterator<String> lines,
+            final ContextVisitor visitor) {
+        long[] starts = new long[affectedLines.length]; // affected line in the upper bits, index below
+        int pending = 0;
+        for (int i = 0; i < affectedLines.length; i++) {
+            if (affectedLines[i] < 0) {
+                visitor.visit(i, StringUtils.EMPTY);
+            }
+            else {
+                starts[pending++] = (long) computeStartLine(affectedLines[i]) << 32 | i;
+            }
         }
+        Arrays.sort(starts, 0, pending);
 
-        return context.toString();
+        SourceCodeTokenizer tokenizer = new SourceCodeTokenizer();
+        String[] previousLines = new String[LINES_LOOK_AHEAD];
+        int previousCount = 0;
+        List<NormalizedContext> openContexts = new ArrayList<>();
+        int line = 0;
+        int next = 0;
+        while ((next < pending || !openContexts.isEmpty()) && lines.hasNext()) {
+            line++;
+            String text = lines.next();
+            String normalized = tokenizer.normalize(text);
+            if (!normalized.isEmpty()) {
+                for (Iterator<NormalizedContext> iterator = openContexts.iterator(); iterator.hasNext(); ) {
+                    NormalizedContext context = iterator.next();
+                    if (context.appendFollowingLine(normalized)) {
+                        visitor.visit(context.index, context.context);
+                        iterator.remove();
+                    }
+                }
+            }
+            for (; next < pending && getLine(starts[next]) == line; next++) {
+                NormalizedContext context = new NormalizedContext(getIndex(starts[next]));
+                for (int i = Math.max(0, previousCount - LINES_LOOK_AHEAD); i < previousCount; i++) {
+                    context.append(previousLines[i % LINES_LOOK_AHEAD]);
+                }
+                context.append(normalized.isEmpty() ? StringUtils.normalizeSpace(text) : normalized);
+                openContexts.add(context);
+            }
+            if (!normalized.isEmpty()) {
+                previousLines[previousCount++ % LINES_LOOK_AHEAD] = normalized;
+            }
+        }
+        for (NormalizedContext context : openContexts) { // the file ends before the following lines of the context
+            visitor.visit(context.index, context.context);
+        }
+        for (; next < pending; next++) { // the file ends before the affected line
+            visitor.visit(getIndex(starts[next]), StringUtils.EMPTY);
+        }
+    }
+
+    private int getLine(final long window) {
+        return (int) (window >>> 32);
+    }
+
+    private int getIndex(final long window) {
+        return (int) window;
+    }
+
+    private StringBuilder createContext(final StringBuilder context, final String[] recentLines, final int endLine,
+            final int lastLine) {
+        context.setLength(0);
+        for (int line = Math.max(1, endLine - CONTEXT_SIZE + 1); line <= Math.min(endLine, lastLine); line++) {
+            context.append(recentLines[line % CONTEXT_SIZE]);
+        }
+        return context;
     }
 
     private int computeStartLine(final int affectedLine) {
@@ -127,6 +341,101 @@ public class FullTextFingerprint {
         }
     }
 
+    /**
+     * Determines how the source code context of an affected line is extracted from the lines of a file.
+     */
+    public enum Mode {
+        /** The context consists of the 1:1 content of the lines before and after the affected line. */
+        RAW,
+        /**
+         * The context consists of the tokens of the affected line and of the nearest lines with source code before and
+         * after the affected line, whitespace and comments are skipped. If the affected line contains no source code,
+         * then its text with collapsed whitespace is used instead of its tokens.
+         */
+        NORMALIZED
+    }
+
+    /**
+     * Receives the context of an affected line. The context may be reused by the caller after the visit.
+     */
+    @FunctionalInterface
+    private interface ContextVisitor {
+        void visit(int index, CharSequence context);
+    }
+
+    /**
+     * The normalized context of an affected line that is still waiting for the following lines with source code.
+     */
+    private static class NormalizedContext {
+        private final int index;
+        private final StringBuilder context = new StringBuilder(LINE_RANGE_BUFFER_SIZE);
+        private int missingLines = LINES_LOOK_AHEAD;
+
+        NormalizedContext(final int index) {
+            this.index = index;
+        }
+
+        void append(final String normalizedLine) {
+            if (context.length() > 0 && !normalizedLine.isEmpty()) {
+                context.append(' ');
+            }
+            context.append(normalizedLine);
+        }
+
+        /**
+         * Appends a following line with source code.
+         *
+         * @param normalizedLine
+         *         the normalized line
+         *
+         * @return {@code true} if the context is complete, {@code false} if more lines are required
+         */
+        boolean appendFollowingLine(final String normalizedLine) {
+            append(normalizedLine);
+            missingLines--;
+            return missingLines == 0;
+        }
+    }
+
+    /**
+     * Encodes the contexts of a file with the character set of the file and computes the hash values of the encoded
+     * bytes. The byte buffer is reused for all contexts of the file, so the encoding produces the same bytes as {@link
+     * String#getBytes(Charset)} without creating intermediate strings and arrays.
+     */
+    private static class ContextEncoder {
+        private final CharsetEncoder encoder;
+        private ByteBuffer bytes = ByteBuffer.allocate(0);
+
+        ContextEncoder(final Charset charset) {
+            encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        /**
+         * Encodes the context and computes the hash value of the encoded bytes.
+         *
+         * @param context
+         *         the context to hash
+         * @param algorithm
+         *         the algorithm that computes the hash value
+         *
+         * @return the hash value
+         */
+        byte[] hash(final CharSequence context, final FingerprintAlgorithm algorithm) {
+            int maximumLength = (int) Math.ceil(context.length() * (double) encoder.maxBytesPerChar()) + 16;
+            if (bytes.capacity() < maximumLength) {
+                bytes = ByteBuffer.allocate(maximumLength);
+            }
+            ((Buffer) bytes).clear();
+            encoder.reset();
+            encoder.encode(CharBuffer.wrap(context), bytes, true);
+            encoder.flush(bytes);
+
+            return algorithm.hash(bytes.array(), 0, bytes.position());
+        }
+    }
+
     /**
      * Facade for file system operations. May be replaced by stubs in test cases.
      */
@@ -1,11 +1,16 @@
 package edu.hm.hafner.analysis;
 
 import java.io.Serializable;
+import java.lang.ref.Reference;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -14,8 +19,8 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import edu.hm.hafner.util.Ensure;
+import edu.hm.hafner.util.StringInterner;
 import edu.hm.hafner.util.TreeString;
-import edu.hm.hafner.util.TreeStringBuilder;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
@@ -57,6 +62,10 @@ public class Issue implements Serializable {
      * @return the function that obtains the value
      */
     public static Function<Issue, String> getPropertyValueGetter(final String propertyName) {
+        Optional<IssueProperty> indexedProperty = IssueProperty.fromPropertyName(propertyName);
+        if (indexedProperty.isPresent()) {
+            return indexedProperty.get();
+        }
         return issue -> Issue.getPropertyValueAsString(issue, propertyName);
     }
 
@@ -69,7 +78,7 @@ public class Issue implements Serializable {
      * @return the predicate
      */
     public static Predicate<Issue> byPackageName(final String packageName) {
-        return issue -> issue.getPackageName().equals(packageName);
+        return IssueProperty.PACKAGE_NAME.matches(packageName);
     }
 
     /**
@@ -81,7 +90,7 @@ public class Issue implements Serializable {
      * @return the predicate
      */
     public static Predicate<Issue> byModuleName(final String moduleName) {
-        return issue -> issue.getModuleName().equals(moduleName);
+        return IssueProperty.MODULE_NAME.matches(moduleName);
     }
 
     /**
@@ -93,7 +102,7 @@ public class Issue implements Serializable {
      * @return the predicate
      */
     public static Predicate<Issue> byFileName(final String fileName) {
-        return issue -> issue.getFileName().equals(fileName);
+        return IssueProperty.FILE_NAME.matches(fileName);
     }
 
     /**
@@ -117,7 +126,7 @@ public class Issue implements Serializable {
      * @return the predicate
      */
     public static Predicate<Issue> byCategory(final String category) {
-        return issue -> issue.getCategory().equals(category);
+        return IssueProperty.CATEGORY.matches(category);
     }
 
     /**
@@ -141,7 +150,7 @@ public class Issue implements Serializable {
      * @return the predicate
      */
     public static Predicate<Issue> byType(final String type) {
-        return issue -> issue.getType().equals(type);
+        return IssueProperty.TYPE.matches(type);
     }
 
     private String category; // almost final
@@ -172,6 +181,16 @@ public class Issue implements Serializable {
 
     private String fingerprint;     // mutable, not part of equals
 
+    @Nullable
+    private transient Consumer<Issue> changeListener;
+    /** The indexes of the reports that contain this issue, see {@link #addIndex(Reference)}. Guarded by this. */
+    @Nullable
+    private transient Reference<ReportIndex> index;
+    @Nullable
+    private transient List<Reference<ReportIndex>> additionalIndexes;
+    /** The hash code of this issue, or 0 if the hash code has not been computed yet. */
+    private transient int cachedHashCode;
+
     /**
      * Creates a new instance of {@link Issue} using the properties of the other issue instance. The new issue has the
      * same ID as the copy.
@@ -289,9 +308,64 @@ public class Issue implements Serializable {
             @Nullable final String origin, @Nullable final String reference,
             @Nullable final String fingerprint, @Nullable final Serializable additionalProperties,
             final UUID id) {
-        TreeStringBuilder builder = new TreeStringBuilder();
+        this(fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges, category, type, packageName, moduleName,
+                severity, message, description, origin, reference, fingerprint, additionalProperties, id,
+                new StringInterner(Integer.MAX_VALUE, 0));
+    }
 
-        this.fileName = builder.intern(normalizeFileName(fileName));
+    /**
+     * Creates a new instance of {@link Issue} using the specified properties. The strings of the issue are interned
+     * using the specified interner, so they may share their memory with the strings of other issues.
+     *
+     * @param fileName
+     *         the name of the file that contains this issue
+     * @param lineStart
+     *         the first line of this issue (lines start at 1; 0 indicates the whole file)
+     * @param lineEnd
+     *         the last line of this issue (lines start at 1)
+     * @param columnStart
+     *         the first column of this issue (columns start at 1, 0 indicates the whole line)
+     * @param columnEnd
+     *         the last column of this issue (columns start at 1)
+     * @param lineRanges
+     *         additional line ranges of this issue
+     * @param category
+     *         the category of this issue (depends on the available categories of the static analysis tool)
+     * @param type
+     *         the type of this issue (depends on the available types of the static analysis tool)
+     * @param packageName
+     *         the name of the package (or name space) that contains this issue
+     * @param moduleName
+     *         the name of the moduleName (or project) that contains this issue
+     * @param severity
+     *         the severity of this issue
+     * @param message
+     *         the detail message of this issue
+     * @param description
+     *         the description for this issue
+     * @param origin
+     *         the ID of the tool that did report this issue
+     * @param reference
+     *         an arbitrary reference to the execution of the static analysis tool (build ID, timestamp, etc.)
+     * @param fingerprint
+     *         the finger print for this issue
+     * @param additionalProperties
+     *         additional properties from the statical analysis tool
+     * @param id
+     *         the ID of this issue
+     * @param interner
+     *         the interner for the strings of this issue
+     */
+    @SuppressWarnings("ParameterNumber")
+    Issue(@Nullable final String fileName, final int lineStart, final int lineEnd, final int columnStart,
+            final int columnEnd, @Nullable final LineRangeList lineRanges, @Nullable final String category,
+            @Nullable final String type, @Nullable final String packageName,
+            @Nullable final String moduleName, @Nullable final Severity severity,
+            @Nullable final String message, @Nullable final String description,
+            @Nullable final String origin, @Nullable final String reference,
+            @Nullable final String fingerprint, @Nullable final Serializable additionalProperties,
+            final UUID id, final StringInterner interner) {
+        this.fileName = interner.intern(normalizeFileName(fileName));
 
         int providedLineStart = defaultInteger(lineStart);
         int providedLineEnd = defaultInteger(lineEnd) == 0 ? providedLineStart : defaultInteger(lineEnd);
@@ -318,25 +392,97 @@ public class Issue implements Serializable {
         if (lineRanges != null) {
             this.lineRanges.addAll(lineRanges);
         }
-        this.category = StringUtils.defaultString(category).intern();
-        this.type = defaultString(type);
+        this.category = interner.internString(StringUtils.defaultString(category));
+        this.type = interner.internString(defaultString(type));
 
-        this.packageName = builder.intern(defaultString(packageName));
-        this.moduleName = defaultString(moduleName);
+        this.packageName = interner.intern(defaultString(packageName));
+        this.moduleName = interner.internString(defaultString(moduleName));
 
         this.severity = ObjectUtils.defaultIfNull(severity, Severity.WARNING_NORMAL);
-        this.message = builder.intern(StringUtils.stripToEmpty(message));
-        this.description = builder.intern(StringUtils.stripToEmpty(description));
+        this.message = interner.intern(StringUtils.stripToEmpty(message));
+        this.description = interner.intern(StringUtils.stripToEmpty(description));
 
-        this.origin = stripToEmpty(origin);
-        this.reference = stripToEmpty(reference);
+        this.origin = interner.internString(StringUtils.stripToEmpty(origin));
+        this.reference = interner.internString(StringUtils.stripToEmpty(reference));
 
-        this.fingerprint = defaultString(fingerprint);
+        this.fingerprint = defaultString(fingerprint); // unique for each issue, so there is nothing to share
         this.additionalProperties = additionalProperties;
 
         this.id = id;
     }
 
+    /**
+     * Creates a new instance of {@link Issue} using the specified properties. The properties are already normalized
+     * and interned, so they are used as such. The specified line ranges are shared with the caller and must not be
+     * changed anymore.
+     *
+     * @param fileName
+     *         the name of the file that contains this issue
+     * @param lineStart
+     *         the first line of this issue
+     * @param lineEnd
+     *         the last line of this issue
+     * @param columnStart
+     *         the first column of this issue
+     * @param columnEnd
+     *         the last column of this issue
+     * @param lineRanges
+     *         additional line ranges of this issue
+     * @param category
+     *         the category of this issue
+     * @param type
+     *         the type of this issue
+     * @param packageName
+     *         the name of the package (or name space) that contains this issue
+     * @param moduleName
+     *         the name of the moduleName (or project) that contains this issue
+     * @param severity
+     *         the severity of this issue
+     * @param message
+     *         the detail message of this issue
+     * @param description
+     *         the description for this issue
+     * @param origin
+     *         the ID of the tool that did report this issue
+     * @param reference
+     *         an arbitrary reference to the execution of the static analysis tool
+     * @param fingerprint
+     *         the finger print for this issue
+     * @param additionalProperties
+     *         additional properties from the statical analysis tool
+     * @param id
+     *         the ID of this issue
+     * @param changeListener
+     *         the listener that will be notified if one of the mutable properties of this issue has been changed
+     */
+    @SuppressWarnings("ParameterNumber")
+    Issue(final TreeString fileName, final int lineStart, final int lineEnd, final int columnStart,
+            final int columnEnd, final LineRangeList lineRanges, final String category, final String type,
+            final TreeString packageName, final String moduleName, final Severity severity,
+            final TreeString message, final TreeString description, final String origin, final String reference,
+            final String fingerprint, @Nullable final Serializable additionalProperties, final UUID id,
+            @Nullable final Consumer<Issue> changeListener) {
+        this.fileName = fileName;
+        this.lineStart = lineStart;
+        this.lineEnd = lineEnd;
+        this.columnStart = columnStart;
+        this.columnEnd = columnEnd;
+        this.lineRanges = lineRanges;
+        this.category = category;
+        this.type = type;
+        this.packageName = packageName;
+        this.moduleName = moduleName;
+        this.severity = severity;
+        this.message = message;
+        this.description = description;
+        this.origin = origin;
+        this.reference = reference;
+        this.fingerprint = fingerprint;
+        this.additionalProperties = additionalProperties;
+        this.id = id;
+        this.changeListener = changeListener;
+    }
+
     /**
      * Called after de-serialization to improve the memory usage.
      *
@@ -378,7 +524,7 @@ public class Issue implements Serializable {
      * @return the valid string or a default string if the specified string is not valid
      */
     private String defaultString(@Nullable final String string) {
-        return StringUtils.defaultIfEmpty(string, UNDEFINED).intern();
+        return StringUtils.defaultIfEmpty(string, UNDEFINED);
     }
 
     /**
@@ -411,6 +557,15 @@ public class Issue implements Serializable {
         return fileName.toString();
     }
 
+    /**
+     * Returns the file name of this issue without creating a new string.
+     *
+     * @return the file name
+     */
+    TreeString getFileNameTreeString() {
+        return fileName;
+    }
+
     /**
      * Returns the base name of the file that contains this issue (i.e. the file name without the full path). 
      *
@@ -437,6 +592,10 @@ public class Issue implements Serializable {
      */
     public void setFileName(@Nullable final String fileName) {
         this.fileName = TreeString.valueOf(normalizeFileName(fileName));
+        invalidateIndexes();
+        cachedHashCode = 0;
+
+        notifyChangeListener();
     }
 
     /**
@@ -487,6 +646,15 @@ public class Issue implements Serializable {
         return message.toString();
     }
 
+    /**
+     * Returns the message of this issue without creating a new string.
+     *
+     * @return the message
+     */
+    TreeString getMessageTreeString() {
+        return message;
+    }
+
     /**
      * Returns an additional description for this issue. Static analysis tools might provide some additional information
      * about this issue. This description may contain valid HTML.
@@ -497,6 +665,15 @@ public class Issue implements Serializable {
         return description.toString();
     }
 
+    /**
+     * Returns the description of this issue without creating a new string.
+     *
+     * @return the description
+     */
+    TreeString getDescriptionTreeString() {
+        return description;
+    }
+
     /**
      * Returns the first line of this issue (lines start at 1; 0 indicates the whole file).
      *
@@ -552,6 +729,15 @@ public class Issue implements Serializable {
         return packageName.toString();
     }
 
+    /**
+     * Returns the package name of this issue without creating a new string.
+     *
+     * @return the package name
+     */
+    TreeString getPackageNameTreeString() {
+        return packageName;
+    }
+
     /**
      * Sets the name of the package or name space (or similar concept) that contains this issue.
      *
@@ -560,6 +746,10 @@ public class Issue implements Serializable {
      */
     public void setPackageName(@Nullable final String packageName) {
         this.packageName = TreeString.valueOf(StringUtils.stripToEmpty(packageName));
+        invalidateIndexes();
+        cachedHashCode = 0;
+
+        notifyChangeListener();
     }
 
     /**
@@ -589,6 +779,10 @@ public class Issue implements Serializable {
      */
     public void setModuleName(@Nullable final String moduleName) {
         this.moduleName = stripToEmpty(moduleName);
+        invalidateIndexes();
+        cachedHashCode = 0;
+
+        notifyChangeListener();
     }
 
     /**
@@ -620,6 +814,9 @@ public class Issue implements Serializable {
         Ensure.that(origin).isNotBlank("Issue origin '%s' must be not blank (%s)", id, toString());
 
         this.origin = origin.intern();
+        cachedHashCode = 0;
+
+        notifyChangeListener();
     }
 
     /**
@@ -639,6 +836,8 @@ public class Issue implements Serializable {
      */
     public void setReference(@Nullable final String reference) {
         this.reference = stripToEmpty(reference);
+
+        notifyChangeListener();
     }
 
     /**
@@ -666,6 +865,73 @@ public class Issue implements Serializable {
      */
     public void setFingerprint(@Nullable final String fingerprint) {
         this.fingerprint = StringUtils.stripToEmpty(fingerprint);
+
+        notifyChangeListener();
+    }
+
+    /**
+     * Registers the index of a report that contains this issue. The index will be invalidated as soon as one of the
+     * indexed properties (file, package, or module name) of this issue changes. The index is referenced weakly, so the
+     * registration does not prevent that the report is garbage collected.
+     * <p>
+     * Since several reports may share the same issue instances, the indexes of different reports may be created
+     * concurrently by different threads: so the registrations are synchronized. An index must register itself before
+     * it reads the indexed properties of the issue, otherwise a concurrent change of a property might be missed.
+     * </p>
+     *
+     * @param reference
+     *         the reference to the index
+     */
+    synchronized void addIndex(final Reference<ReportIndex> reference) {
+        if (index == null || index.get() == null || index == reference) {
+            index = reference;
+        }
+        else {
+            if (additionalIndexes == null) {
+                additionalIndexes = new ArrayList<>(1);
+            }
+            additionalIndexes.removeIf(other -> other.get() == null || other == reference);
+            additionalIndexes.add(reference);
+        }
+    }
+
+    /**
+     * Removes the registration of the index of a report that does not contain this issue anymore.
+     *
+     * @param reference
+     *         the reference to the index
+     */
+    synchronized void removeIndex(final Reference<ReportIndex> reference) {
+        if (index == reference) {
+            index = null;
+        }
+        if (additionalIndexes != null) {
+            additionalIndexes.remove(reference);
+        }
+    }
+
+    private synchronized void invalidateIndexes() {
+        invalidate(index);
+        if (additionalIndexes != null) {
+            additionalIndexes.forEach(this::invalidate);
+        }
+        index = null;
+        additionalIndexes = null;
+    }
+
+    private void invalidate(@Nullable final Reference<ReportIndex> reference) {
+        if (reference != null) {
+            ReportIndex reportIndex = reference.get();
+            if (reportIndex != null) {
+                reportIndex.invalidate();
+            }
+        }
+    }
+
+    private void notifyChangeListener() {
+        if (changeListener != null) {
+            changeListener.accept(this);
+        }
     }
 
     /**
@@ -700,6 +966,9 @@ public class Issue implements Serializable {
 
         Issue issue = (Issue) o;
 
+        if (cachedHashCode != 0 && issue.cachedHashCode != 0 && cachedHashCode != issue.cachedHashCode) {
+            return false;
+        }
         if (lineStart != issue.lineStart) {
             return false;
         }
@@ -749,6 +1018,13 @@ public class Issue implements Serializable {
     @SuppressWarnings("all")
     @Override
     public int hashCode() {
+        if (cachedHashCode == 0) {
+            cachedHashCode = computeHashCode();
+        }
+        return cachedHashCode;
+    }
+
+    private int computeHashCode() {
         int result = category.hashCode();
         result = 31 * result + type.hashCode();
         result = 31 * result + severity.hashCode();
@@ -7,6 +7,7 @@ import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 
 import edu.hm.hafner.util.PathUtil;
+import edu.hm.hafner.util.StringInterner;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 import static edu.hm.hafner.util.IntegerParser.*;
@@ -23,6 +24,11 @@ import static edu.hm.hafner.util.IntegerParser.*;
  *                      .setMessage("Missing JavaDoc")
  *                      .setSeverity(Severity.WARNING_LOW);
  * </pre></blockquote>
+ * <p>
+ * The strings of all issues that are created by the same builder instance are interned in a shared {@link
+ * StringInterner}: e.g., file names and messages of these issues share common prefixes. So a parser should use the same
+ * builder for all issues of a report and call {@link #dedup()} when the report is complete.
+ * </p>
  *
  * @author Ullrich Hafner
  */
@@ -63,6 +69,8 @@ public class IssueBuilder {
 
     private UUID id = UUID.randomUUID();
 
+    private final StringInterner interner = new StringInterner();
+
     public IssueBuilder setId(final UUID id) {
         this.id = id;
         return this;
@@ -226,11 +234,22 @@ public class IssueBuilder {
     public Issue build() {
         Issue issue = new Issue(fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges, category, type,
                 packageName, moduleName, severity, message, description, origin, reference, fingerprint,
-                additionalProperties, id);
+                additionalProperties, id, interner);
         id = UUID.randomUUID(); // make sure that multiple invocations will create different IDs
         return issue;
     }
 
+    /**
+     * Further reduces the memory footprint of the issues that have been created by this builder so far by finding the
+     * same string labels across these issues. Afterwards, the interned strings of these issues will not be changed
+     * anymore when new issues are created. Call this method when all issues of a report have been created.
+     *
+     * @see StringInterner#dedup()
+     */
+    public void dedup() {
+        interner.dedup();
+    }
+
     /**
      * Creates a new {@link Issue} based on the specified properties. The returned issue is wrapped in an {@link
      * Optional}.
@@ -0,0 +1,86 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The string properties of an {@link Issue} that are indexed by a {@link Report}. Each property is a function that
+ * obtains the value of the property from an issue. If such a function (or a {@link PropertyPredicate predicate} that
+ * has been created for such a property) is passed to one of the query methods of a report, then the query can be
+ * answered using the index of the report.
+ *
+ * @author Ullrich Hafner
+ * @see ReportIndex
+ */
+enum IssueProperty implements Function<Issue, String> {
+    FILE_NAME("fileName", Issue::getFileName),
+    MODULE_NAME("moduleName", Issue::getModuleName),
+    PACKAGE_NAME("packageName", Issue::getPackageName),
+    CATEGORY("category", Issue::getCategory),
+    TYPE("type", Issue::getType);
+
+    private final String propertyName;
+    private final Function<Issue, String> getter;
+
+    IssueProperty(final String propertyName, final Function<Issue, String> getter) {
+        this.propertyName = propertyName;
+        this.getter = getter;
+    }
+
+    /**
+     * Returns the property with the specified bean property name.
+     *
+     * @param propertyName
+     *         the name of the property
+     *
+     * @return the property, or an empty optional if the property is not indexed
+     */
+    static Optional<IssueProperty> fromPropertyName(final String propertyName) {
+        return Arrays.stream(values()).filter(property -> property.propertyName.equals(propertyName)).findFirst();
+    }
+
+    @Override
+    public String apply(final Issue issue) {
+        return getter.apply(issue);
+    }
+
+    /**
+     * Returns a predicate that checks if the value of this property is equal to the specified value.
+     *
+     * @param value
+     *         the value to match
+     *
+     * @return the predicate
+     */
+    PropertyPredicate matches(final String value) {
+        return new PropertyPredicate(this, value);
+    }
+
+    /**
+     * A predicate that checks if the value of a property of an issue is equal to a given value.
+     */
+    static final class PropertyPredicate implements Predicate<Issue> {
+        private final IssueProperty property;
+        private final String value;
+
+        private PropertyPredicate(final IssueProperty property, final String value) {
+            this.property = property;
+            this.value = value;
+        }
+
+        IssueProperty getProperty() {
+            return property;
+        }
+
+        String getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean test(final Issue issue) {
+            return property.apply(issue).equals(value);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Matches a property of an {@link Issue} against a list of regular expressions. The predicate returns {@code true} if
+ * the property value matches at least one of the regular expressions.
+ * <p>
+ * The regular expressions are compiled only once: if possible, all expressions are merged into a single alternation.
+ * Since many issues share the same value of a property (e.g., the same file or package name), the result for each
+ * value is cached. The matcher is thread-safe, so it can be used in parallel streams.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class IssuePropertyMatcher implements Predicate<Issue> {
+    /** Maximum number of property values whose results are cached. */
+    private static final int MAXIMUM_CACHE_SIZE = 100_000;
+    /**
+     * Constructs that prevent merging a regular expression with other expressions: back references and named groups
+     * would refer to the wrong groups, quotes without an end and comments would consume the end of the alternation.
+     */
+    private static final Pattern NOT_MERGEABLE = Pattern.compile("\\\\[1-9kQ]|\\(\\?<[a-zA-Z]|\\(\\?[a-zA-Z-]*x");
+
+    private final IssueProperty property;
+    private final List<Pattern> patterns;
+    private final Map<String, Boolean> results = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance of {@link IssuePropertyMatcher}.
+     *
+     * @param property
+     *         the property to match
+     * @param regularExpressions
+     *         the regular expressions to match the property value against
+     *
+     * @throws java.util.regex.PatternSyntaxException
+     *         if one of the regular expressions is invalid
+     */
+    IssuePropertyMatcher(final IssueProperty property, final List<String> regularExpressions) {
+        this.property = property;
+        patterns = compile(regularExpressions);
+    }
+
+    private static List<Pattern> compile(final List<String> regularExpressions) {
+        List<Pattern> compiled = new ArrayList<>();
+        for (String regularExpression : regularExpressions) {
+            compiled.add(Pattern.compile(regularExpression));
+        }
+        if (compiled.size() > 1
+                && regularExpressions.stream().noneMatch(expression -> NOT_MERGEABLE.matcher(expression).find())) {
+            String alternation = regularExpressions.stream()
+                    .map(expression -> "(?:" + expression + ")")
+                    .collect(Collectors.joining("|"));
+            List<Pattern> merged = new ArrayList<>();
+            merged.add(Pattern.compile(alternation));
+            return merged;
+        }
+        return compiled;
+    }
+
+    @Override
+    public boolean test(final Issue issue) {
+        String value = property.apply(issue);
+        Boolean result = results.get(value);
+        if (result == null) {
+            result = matches(value);
+            if (results.size() < MAXIMUM_CACHE_SIZE) {
+                results.put(value, result);
+            }
+        }
+        return result;
+    }
+
+    private boolean matches(final String value) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(value).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -148,6 +148,33 @@ public class LineRangeList extends AbstractList<LineRange> implements Serializab
         return new Cursor().skip(index);
     }
 
+    /**
+     * Returns the encoded line ranges of this list. The bytes can be used to restore this list with {@link
+     * #fromByteArray(byte[])}.
+     *
+     * @return the encoded line ranges
+     */
+    byte[] toByteArray() {
+        byte[] copy = new byte[len];
+        System.arraycopy(data, 0, copy, 0, len);
+        return copy;
+    }
+
+    /**
+     * Creates a new list of line ranges from the specified encoded line ranges.
+     *
+     * @param encoded
+     *         the encoded line ranges, see {@link #toByteArray()}
+     *
+     * @return the list of line ranges
+     */
+    static LineRangeList fromByteArray(final byte[] encoded) {
+        LineRangeList list = new LineRangeList(0);
+        list.data = encoded;
+        list.len = encoded.length;
+        return list;
+    }
+
     /**
      * Minimizes the memory waste by throwing away excess capacity.
      */
@@ -0,0 +1,476 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Rejects lines that cannot be matched by a regular expression using a fast literal scan. The regular expression is
+ * analyzed once: every match of the expression must contain at least one of the extracted literals. So a line that
+ * contains none of these literals is rejected without running the regular expression {@link java.util.regex.Matcher}.
+ * If no required literals can be extracted (or the expression uses features that are not supported by the analysis,
+ * like case insensitive matching), then all lines are accepted.
+ *
+ * @author Ullrich Hafner
+ */
+final class LiteralPrefilter implements Serializable {
+    private static final long serialVersionUID = 2545287009416937347L;
+
+    private static final String UNSUPPORTED_FLAGS = "iux";
+
+    private final String[] literals;
+
+    /**
+     * Creates a new prefilter for the specified regular expression.
+     *
+     * @param regexp
+     *         the regular expression to analyze
+     */
+    LiteralPrefilter(final String regexp) {
+        literals = extractLiterals(regexp).toArray(new String[0]);
+    }
+
+    /**
+     * Returns the literals that are required by the regular expression: every match of the expression contains at
+     * least one of these literals.
+     *
+     * @return the required literals, or an empty set if no literals are required
+     */
+    Set<String> getLiterals() {
+        return new LinkedHashSet<>(Arrays.asList(literals));
+    }
+
+    /**
+     * Returns whether this prefilter rejects any lines at all.
+     *
+     * @return {@code true} if there are required literals, {@code false} if all lines will be accepted
+     */
+    boolean isActive() {
+        return literals.length > 0;
+    }
+
+    /**
+     * Returns whether the specified line might be matched by the regular expression.
+     *
+     * @param line
+     *         the line to inspect
+     *
+     * @return {@code true} if the line contains at least one of the required literals (or there are no required
+     *         literals), {@code false} if the regular expression will not match
+     */
+    boolean accepts(final CharSequence line) {
+        if (literals.length == 0) {
+            return true;
+        }
+        for (String literal : literals) {
+            if (contains(line, literal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the specified line contains the specified literal. Unlike {@link String#contains(CharSequence)}
+     * the line may be any kind of {@link CharSequence}, e.g. a view of the bytes of a memory mapped file.
+     *
+     * @param line
+     *         the line to inspect
+     * @param literal
+     *         the literal to search for
+     *
+     * @return {@code true} if the line contains the literal, {@code false} otherwise
+     */
+    static boolean contains(final CharSequence line, final String literal) {
+        if (line instanceof String) {
+            return ((String) line).contains(literal);
+        }
+        int length = literal.length();
+        if (length == 0) {
+            return true;
+        }
+        char first = literal.charAt(0);
+        int last = line.length() - length;
+        for (int start = 0; start <= last; start++) {
+            if (line.charAt(start) == first && regionMatches(line, start, literal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(final CharSequence line, final int start, final String literal) {
+        for (int i = 1; i < literal.length(); i++) {
+            if (line.charAt(start + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> extractLiterals(final String regexp) {
+        try {
+            Analyzer analyzer = new Analyzer(regexp);
+            Set<String> required = analyzer.parseAlternation();
+            if (required == null || analyzer.hasMoreCharacters() || required.contains("")) {
+                return Collections.emptySet();
+            }
+            return required;
+        }
+        catch (UnsupportedPatternException | IndexOutOfBoundsException exception) {
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * Thrown if a pattern contains constructs that are not supported by the analysis.
+     */
+    private static class UnsupportedPatternException extends RuntimeException {
+        private static final long serialVersionUID = -2146637932811294151L;
+    }
+
+    /**
+     * Recursive descent analysis of a regular expression. For each sub expression the analysis computes a set of
+     * literals so that each match of the sub expression contains at least one of these literals. A value of {@code
+     * null} indicates that nothing is known about the matches of the sub expression.
+     */
+    private static class Analyzer {
+        private final String regexp;
+        private int position;
+
+        Analyzer(final String regexp) {
+            this.regexp = regexp;
+        }
+
+        boolean hasMoreCharacters() {
+            return position < regexp.length();
+        }
+
+        private char peek() {
+            return regexp.charAt(position);
+        }
+
+        private boolean isAt(final char character) {
+            return hasMoreCharacters() && peek() == character;
+        }
+
+        private char next() {
+            if (!hasMoreCharacters()) {
+                throw new UnsupportedPatternException();
+            }
+            return regexp.charAt(position++);
+        }
+
+        @Nullable
+        Set<String> parseAlternation() {
+            Set<String> required = new LinkedHashSet<>();
+            boolean isKnown = true;
+            do {
+                Set<String> alternative = parseSequence();
+                if (alternative == null) {
+                    isKnown = false;
+                }
+                else {
+                    required.addAll(alternative);
+                }
+            }
+            while (isAt('|') && next() == '|');
+
+            return isKnown ? required : null;
+        }
+
+        @Nullable
+        private Set<String> parseSequence() {
+            List<Set<String>> candidates = new ArrayList<>();
+            StringBuilder run = new StringBuilder();
+            while (hasMoreCharacters() && peek() != '|' && peek() != ')') {
+                Item item = parseItem();
+                int minimum = parseQuantifier();
+                if (item.literal != null) {
+                    if (minimum == 0) {
+                        addRun(candidates, run);
+                    }
+                    else {
+                        run.append(item.literal);
+                        if (minimum != 1) {
+                            addRun(candidates, run);
+                        }
+                    }
+                }
+                else {
+                    addRun(candidates, run);
+                    if (minimum > 0 && item.required != null) {
+                        candidates.add(item.required);
+                    }
+                }
+            }
+            addRun(candidates, run);
+
+            return selectMostSelective(candidates);
+        }
+
+        private void addRun(final List<Set<String>> candidates, final StringBuilder run) {
+            if (run.length() > 0) {
+                candidates.add(Collections.singleton(run.toString()));
+                run.setLength(0);
+            }
+        }
+
+        @Nullable
+        private Set<String> selectMostSelective(final List<Set<String>> candidates) {
+            Set<String> best = null;
+            for (Set<String> candidate : candidates) {
+                if (best == null || isMoreSelective(candidate, best)) {
+                    best = candidate;
+                }
+            }
+            return best;
+        }
+
+        private boolean isMoreSelective(final Set<String> candidate, final Set<String> best) {
+            int candidateLength = getShortestLength(candidate);
+            int bestLength = getShortestLength(best);
+            if (candidateLength != bestLength) {
+                return candidateLength > bestLength;
+            }
+            return candidate.size() < best.size();
+        }
+
+        private int getShortestLength(final Set<String> literals) {
+            return literals.stream().mapToInt(String::length).min().orElse(0);
+        }
+
+        /**
+         * Parses a quantifier that follows an item.
+         *
+         * @return the minimum number of repetitions of the item: 1 if there is no quantifier, 2 if the quantifier
+         *         requires at least one repetition
+         */
+        private int parseQuantifier() {
+            if (!hasMoreCharacters()) {
+                return 1;
+            }
+            int minimum;
+            char quantifier = peek();
+            if (quantifier == '?' || quantifier == '*') {
+                next();
+                minimum = 0;
+            }
+            else if (quantifier == '+') {
+                next();
+                minimum = 2;
+            }
+            else if (quantifier == '{') {
+                next();
+                StringBuilder count = new StringBuilder();
+                while (Character.isDigit(peek())) {
+                    count.append(next());
+                }
+                while (next() != '}') {
+                    // skip maximum
+                }
+                if (count.length() == 0) {
+                    throw new UnsupportedPatternException();
+                }
+                minimum = Integer.parseInt(count.toString()) == 0 ? 0 : 2;
+            }
+            else {
+                return 1;
+            }
+            if (isAt('?') || isAt('+')) {
+                next();
+            }
+            return minimum;
+        }
+
+        private Item parseItem() {
+            char character = next();
+            switch (character) {
+                case '\\':
+                    return parseEscape();
+                case '[':
+                    skipCharacterClass();
+                    return Item.UNKNOWN;
+                case '(':
+                    return parseGroup();
+                case '.':
+                case '^':
+                case '$':
+                    return Item.UNKNOWN;
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw new UnsupportedPatternException();
+                default:
+                    return new Item(String.valueOf(character));
+            }
+        }
+
+        private Item parseEscape() {
+            char escaped = next();
+            switch (escaped) {
+                case 'Q':
+                    int end = regexp.indexOf("\\E", position);
+                    String quoted;
+                    if (end < 0) {
+                        quoted = regexp.substring(position);
+                        position = regexp.length();
+                    }
+                    else {
+                        quoted = regexp.substring(position, end);
+                        position = end + 2;
+                    }
+                    return quoted.isEmpty() ? Item.UNKNOWN : new Item(quoted);
+                case 'p':
+                case 'P':
+                case 'x':
+                    if (isAt('{')) {
+                        skipTo('}');
+                    }
+                    else if (escaped == 'x') {
+                        next();
+                        next();
+                    }
+                    else {
+                        next();
+                    }
+                    return Item.UNKNOWN;
+                case 'k':
+                    skipTo('>');
+                    return Item.UNKNOWN;
+                case 'u':
+                    for (int i = 0; i < 4; i++) {
+                        next();
+                    }
+                    return Item.UNKNOWN;
+                case 'c':
+                    next();
+                    return Item.UNKNOWN;
+                case '0':
+                    while (hasMoreCharacters() && peek() >= '0' && peek() <= '7') {
+                        next();
+                    }
+                    return Item.UNKNOWN;
+                default:
+                    if (Character.isLetterOrDigit(escaped)) {
+                        while (Character.isDigit(escaped) && hasMoreCharacters() && Character.isDigit(peek())) {
+                            next();
+                        }
+                        return Item.UNKNOWN;
+                    }
+                    return new Item(String.valueOf(escaped));
+            }
+        }
+
+        private void skipTo(final char end) {
+            while (next() != end) {
+                // skip
+            }
+        }
+
+        private void skipCharacterClass() {
+            if (isAt('^')) {
+                next();
+            }
+            if (isAt(']')) {
+                next();
+            }
+            while (true) {
+                char character = next();
+                if (character == '\\') {
+                    next();
+                }
+                else if (character == '[') {
+                    skipCharacterClass();
+                }
+                else if (character == ']') {
+                    return;
+                }
+            }
+        }
+
+        private Item parseGroup() {
+            boolean isLookaround = false;
+            if (isAt('?')) {
+                next();
+                char type = next();
+                if (type == '=' || type == '!' || type == '>') {
+                    isLookaround = type != '>';
+                }
+                else if (type == '<') {
+                    if (isAt('=') || isAt('!')) {
+                        next();
+                        isLookaround = true;
+                    }
+                    else {
+                        skipTo('>');
+                    }
+                }
+                else if (type != ':') {
+                    position--;
+                    if (parseFlags()) {
+                        return Item.UNKNOWN;
+                    }
+                }
+            }
+            Set<String> required = parseAlternation();
+            if (next() != ')') {
+                throw new UnsupportedPatternException();
+            }
+            return isLookaround ? Item.UNKNOWN : new Item(required);
+        }
+
+        /**
+         * Parses inline flags like {@code (?s)} or {@code (?s:X)}.
+         *
+         * @return {@code true} if the group consists of flags only, {@code false} if a sub expression follows
+         */
+        private boolean parseFlags() {
+            boolean isEnabled = true;
+            while (true) {
+                char flag = next();
+                if (flag == ')') {
+                    return true;
+                }
+                if (flag == ':') {
+                    return false;
+                }
+                if (flag == '-') {
+                    isEnabled = false;
+                }
+                else if (isEnabled && UNSUPPORTED_FLAGS.indexOf(flag) >= 0) {
+                    throw new UnsupportedPatternException();
+                }
+            }
+        }
+    }
+
+    /**
+     * An item of a regular expression: either a literal or a sub expression.
+     */
+    private static class Item {
+        static final Item UNKNOWN = new Item((Set<String>) null);
+
+        @Nullable
+        private final String literal;
+        @Nullable
+        private final Set<String> required;
+
+        Item(final String literal) {
+            this.literal = literal;
+            required = null;
+        }
+
+        Item(@Nullable final Set<String> required) {
+            literal = null;
+            this.required = required;
+        }
+    }
+}
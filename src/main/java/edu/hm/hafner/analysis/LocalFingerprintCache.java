@@ -0,0 +1,234 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import edu.hm.hafner.util.Ensure;
+import edu.hm.hafner.util.VisibleForTesting;
+
+/**
+ * A {@link FingerprintCache} that stores the fingerprints in a local file. The cached fingerprints of a source file are
+ * valid as long as the size and the modification time of the source file are unchanged (compared to the state of the
+ * file before the fingerprints have been computed).
+ * <p>
+ * The cache is read when created and written by {@link #flush()}. When written, entries that have not been used for
+ * the specified maximum age are evicted. If the cache still contains more than the specified maximum number of
+ * fingerprints, then the least recently used entries are evicted as well. If the cache file can't be read (e.g.,
+ * since it has been written by a different version) then the cache starts empty.
+ * </p>
+ * <p>
+ * Note that this cache is not thread-safe.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class LocalFingerprintCache implements FingerprintCache {
+    private static final int MAGIC_NUMBER = 0x46505243;
+    private static final int VERSION = 2;
+
+    private final Path cacheFile;
+    private final Duration maximumAge;
+    private final int maximumSize;
+    private final Clock clock;
+
+    private final Map<String, CacheEntry> entries = new HashMap<>();
+
+    /**
+     * Creates a new instance of {@link LocalFingerprintCache} and reads the entries of the specified cache file.
+     *
+     * @param cacheFile
+     *         the file that stores the cache
+     * @param maximumAge
+     *         the maximum time an entry will be kept in the cache without being used
+     * @param maximumSize
+     *         the maximum number of fingerprints (of all files) in the cache
+     */
+    public LocalFingerprintCache(final Path cacheFile, final Duration maximumAge, final int maximumSize) {
+        this(cacheFile, maximumAge, maximumSize, Clock.systemUTC());
+    }
+
+    @VisibleForTesting
+    LocalFingerprintCache(final Path cacheFile, final Duration maximumAge, final int maximumSize, final Clock clock) {
+        Ensure.that(maximumSize >= 0).isTrue("Maximum size must not be negative: %d", maximumSize);
+
+        this.cacheFile = cacheFile;
+        this.maximumAge = maximumAge;
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+
+        read();
+    }
+
+    /**
+     * Returns the number of files in this cache.
+     *
+     * @return the number of files
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public Map<Integer, String> get(final String fileName, final String variant) {
+        CacheEntry entry = entries.get(fileName);
+        if (entry == null) {
+            return Collections.emptyMap();
+        }
+        Optional<String> state = getState(fileName);
+        if (!state.isPresent() || !entry.matches(variant, state.get())) {
+            entries.remove(fileName);
+            return Collections.emptyMap();
+        }
+        entry.lastAccess = clock.millis();
+        return Collections.unmodifiableMap(entry.fingerprints);
+    }
+
+    @Override
+    public Optional<String> getState(final String fileName) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(Paths.get(fileName), BasicFileAttributes.class);
+            return Optional.of(attributes.size() + "/" + attributes.lastModifiedTime().toMillis());
+        }
+        catch (IOException | InvalidPathException exception) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(final String fileName, final String variant, final String state,
+            final Map<Integer, String> fingerprints) {
+        entries.put(fileName, new CacheEntry(variant, state, clock.millis(), new HashMap<>(fingerprints)));
+    }
+
+    /**
+     * Evicts the outdated entries and writes the remaining entries to the cache file.
+     *
+     * @throws IOException
+     *         if the cache file could not be written
+     */
+    @Override
+    public void flush() throws IOException {
+        evict();
+
+        Path directory = cacheFile.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temporary = Files.createTempFile(directory, "fingerprints", ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                write(output);
+            }
+            Files.move(temporary, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void evict() {
+        long oldest = clock.millis() - maximumAge.toMillis();
+        entries.values().removeIf(entry -> entry.lastAccess < oldest);
+
+        long size = entries.values().stream().mapToLong(entry -> entry.fingerprints.size()).sum();
+        if (size > maximumSize) {
+            List<Entry<String, CacheEntry>> byAccess = new ArrayList<>(entries.entrySet());
+            byAccess.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+            for (Entry<String, CacheEntry> entry : byAccess) {
+                if (size <= maximumSize) {
+                    break;
+                }
+                size -= entry.getValue().fingerprints.size();
+                entries.remove(entry.getKey());
+            }
+        }
+    }
+
+    private void write(final DataOutputStream output) throws IOException {
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(VERSION);
+        output.writeInt(entries.size());
+        for (Entry<String, CacheEntry> file : entries.entrySet()) {
+            CacheEntry entry = file.getValue();
+            output.writeUTF(file.getKey());
+            output.writeUTF(entry.variant);
+            output.writeUTF(entry.state);
+            output.writeLong(entry.lastAccess);
+            output.writeInt(entry.fingerprints.size());
+            for (Entry<Integer, String> fingerprint : entry.fingerprints.entrySet()) {
+                output.writeInt(fingerprint.getKey());
+                output.writeUTF(fingerprint.getValue());
+            }
+        }
+    }
+
+    private void read() {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (input.readInt() != MAGIC_NUMBER || input.readInt() != VERSION) {
+                return;
+            }
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                String fileName = input.readUTF();
+                String variant = input.readUTF();
+                String state = input.readUTF();
+                long lastAccess = input.readLong();
+                int lines = input.readInt();
+                Map<Integer, String> fingerprints = new HashMap<>();
+                for (int line = 0; line < lines; line++) {
+                    fingerprints.put(input.readInt(), input.readUTF());
+                }
+                entries.put(fileName, new CacheEntry(variant, state, lastAccess, fingerprints));
+            }
+        }
+        catch (NoSuchFileException exception) {
+            // start with an empty cache
+        }
+        catch (IOException exception) {
+            entries.clear(); // the cache is corrupt, start with an empty cache
+        }
+    }
+
+    /**
+     * The cached fingerprints of a file, together with the state of the file when the fingerprints have been computed.
+     */
+    private static class CacheEntry {
+        private final String variant;
+        private final String state;
+        private final Map<Integer, String> fingerprints;
+        private long lastAccess;
+
+        CacheEntry(final String variant, final String state, final long lastAccess,
+                final Map<Integer, String> fingerprints) {
+            this.variant = variant;
+            this.state = state;
+            this.lastAccess = lastAccess;
+            this.fingerprints = fingerprints;
+        }
+
+        boolean matches(final String otherVariant, final String otherState) {
+            return variant.equals(otherVariant) && state.equals(otherState);
+        }
+    }
+}
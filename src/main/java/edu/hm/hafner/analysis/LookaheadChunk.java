@@ -0,0 +1,181 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A chunk of consecutive lines of a report that is parsed by a {@link LookaheadParser} in parallel with the other
+ * chunks of the same report. Additionally, the lines of the chunks are shared by the parsers of a {@link
+ * CompositeLookaheadParser}. Chunks are read lazily from a shared source of lines: the successor of a chunk is read
+ * as soon as it is requested, either to start parsing it or because the lookahead of the parser needs to read beyond
+ * the end of the current chunk. Additionally, each chunk knows the {@code make} directory that is active at its
+ * first line.
+ *
+ * @author Ullrich Hafner
+ */
+final class LookaheadChunk {
+    private final Source source;
+    private final List<CharSequence> lines;
+    private final int firstLine;
+    @Nullable
+    private final String directory;
+    @Nullable
+    private final String lastDirectory;
+
+    private boolean isNextRead = false;
+    @Nullable
+    private LookaheadChunk next;
+
+    /**
+     * Reads the first chunk of the specified lines.
+     *
+     * @param lines
+     *         the lines of the report
+     * @param chunkSize
+     *         the maximum number of lines in a chunk
+     *
+     * @return the first chunk, or {@code null} if there are no lines at all
+     */
+    @Nullable
+    static LookaheadChunk readFirst(final Iterator<? extends CharSequence> lines, final int chunkSize) {
+        Source source = new Source(lines, chunkSize);
+        synchronized (source) {
+            return source.read(1, null);
+        }
+    }
+
+    private LookaheadChunk(final Source source, final List<CharSequence> lines, final int firstLine,
+            @Nullable final String directory, @Nullable final String lastDirectory) {
+        this.source = source;
+        this.lines = lines;
+        this.firstLine = firstLine;
+        this.directory = directory;
+        this.lastDirectory = lastDirectory;
+    }
+
+    /**
+     * Returns the line number of the first line in this chunk.
+     *
+     * @return the first line
+     */
+    int getFirstLine() {
+        return firstLine;
+    }
+
+    /**
+     * Returns the line number of the last line in this chunk.
+     *
+     * @return the last line
+     */
+    int getLastLine() {
+        return firstLine + lines.size() - 1;
+    }
+
+    /**
+     * Returns the {@code make} directory that is active at the first line of this chunk.
+     *
+     * @return the directory, or {@code null} if no directory has been entered yet
+     */
+    @Nullable
+    String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the successor of this chunk. If the successor has not been read yet, it will be read from the shared
+     * source of lines.
+     *
+     * @return the next chunk, or {@code null} if this is the last chunk
+     */
+    @Nullable
+    LookaheadChunk next() {
+        synchronized (source) {
+            if (!isNextRead) {
+                next = source.read(getLastLine() + 1, lastDirectory);
+                isNextRead = true;
+            }
+            return next;
+        }
+    }
+
+    /**
+     * Returns the lines of the report starting at the specified line of this chunk. The stream does not stop at the end
+     * of this chunk, it continues with the lines of the following chunks.
+     *
+     * @param startLine
+     *         the line number of the first line of the stream, must be a line of this chunk
+     *
+     * @return the lines
+     */
+    Stream<CharSequence> stream(final int startLine) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                new LineIterator(this, startLine - firstLine), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * The shared source of lines. All chunks of a report are read sequentially from this source.
+     */
+    private static final class Source {
+        private final Iterator<? extends CharSequence> lines;
+        private final int chunkSize;
+
+        Source(final Iterator<? extends CharSequence> lines, final int chunkSize) {
+            this.lines = lines;
+            this.chunkSize = chunkSize;
+        }
+
+        @Nullable
+        LookaheadChunk read(final int firstLine, @Nullable final String directory) {
+            List<CharSequence> chunk = new ArrayList<>(chunkSize);
+            String lastDirectory = directory;
+            while (chunk.size() < chunkSize && lines.hasNext()) {
+                CharSequence line = lines.next();
+                lastDirectory = LookaheadParser.findDirectory(line).orElse(lastDirectory);
+                chunk.add(line);
+            }
+            if (chunk.isEmpty()) {
+                return null;
+            }
+            return new LookaheadChunk(this, chunk, firstLine, directory, lastDirectory);
+        }
+    }
+
+    /**
+     * Iterates over the lines of a chunk and all of its successors.
+     */
+    private static final class LineIterator implements Iterator<CharSequence> {
+        @Nullable
+        private LookaheadChunk chunk;
+        private int index;
+
+        LineIterator(final LookaheadChunk chunk, final int index) {
+            this.chunk = chunk;
+            this.index = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (chunk != null && index >= chunk.lines.size()) {
+                chunk = chunk.next();
+                index = 0;
+            }
+            return chunk != null;
+        }
+
+        @Override
+        public CharSequence next() {
+            if (!hasNext() || chunk == null) {
+                throw new NoSuchElementException();
+            }
+            return chunk.lines.get(index++);
+        }
+    }
+}
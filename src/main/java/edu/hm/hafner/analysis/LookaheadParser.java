@@ -1,11 +1,28 @@
 package edu.hm.hafner.analysis;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import edu.hm.hafner.util.LookaheadStream;
+import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * Parses a report file line by line for issues using a pre-defined regular expression. If the regular expression
@@ -13,6 +30,29 @@ import edu.hm.hafner.util.LookaheadStream;
  * classes need to provide an implementation that transforms the {@link Matcher} instance into a new issue. If required,
  * sub classes may consume additional lines from the report file before control is handed back to the template method of
  * this parser.
+ * <p>
+ * The regular expression is analyzed once in order to extract the literals that are required by each match. Lines that
+ * do not contain any of these literals are rejected before the regular expression is evaluated. The ratio of rejected
+ * lines is available by {@link #getRejectRate()}.
+ * </p>
+ * <p>
+ * The lines are read by {@link ReaderFactory#readCharSequences()}, so a reader factory may provide lines that are not
+ * decoded into a {@link String} (see {@link MappedFileReaderFactory}). The make directory detection, the literal
+ * prefilter, and the regular expression work on these lines directly. A line is converted into a {@link String} only
+ * if a parser overrides {@link #isLineInteresting(String)} or reads it using the {@link LookaheadStream}.
+ * </p>
+ * <p>
+ * Parsers that do not keep any state between two issues may opt in to parallel parsing by overriding {@link
+ * #supportsParallelParsing()}. Then {@link #parseInParallel(ReaderFactory)} splits the report at line boundaries into
+ * chunks that are parsed concurrently. The result is identical to the result of the sequential {@link
+ * #parse(ReaderFactory)} method: the active {@code make} directory is tracked across chunks, lookahead lines may cross
+ * chunk boundaries, and the issues are added to the report in the same order.
+ * </p>
+ * <p>
+ * A growing report (e.g. the console log of a running build) can be parsed incrementally using {@link
+ * #parseIncrementally(FileReaderFactory, ParsingCheckpoint, Report)}: each invocation parses only the lines that have
+ * been appended since the previous invocation and returns a {@link ParsingCheckpoint} to resume parsing.
+ * </p>
  *
  * @author Ullrich Hafner
  */
@@ -26,7 +66,14 @@ public abstract class LookaheadParser extends IssueParser {
     private static final Pattern MAKE_PATH
             = Pattern.compile(".*make(?:\\[\\d+])?: " + ENTERING_DIRECTORY + " [`'](?<dir>.*)['`]");
 
+    /** Number of lines in a chunk that will be parsed in parallel. */
+    private static final int CHUNK_SIZE = 10_000;
+
     private final Pattern pattern;
+    private final LiteralPrefilter prefilter;
+    private final boolean hasLineFilter;
+    private final LongAdder inspectedLines = new LongAdder();
+    private final LongAdder rejectedLines = new LongAdder();
 
     /**
      * Creates a new instance of {@link LookaheadParser}.
@@ -38,37 +85,393 @@ public abstract class LookaheadParser extends IssueParser {
         super();
 
         this.pattern = Pattern.compile(pattern);
+        prefilter = new LiteralPrefilter(pattern);
+        hasLineFilter = overridesLineFilter(getClass());
+    }
+
+    /**
+     * Returns whether the specified parser class overrides {@link #isLineInteresting(String)}. If not, the lines do not
+     * need to be converted to a {@link String} before they are matched.
+     */
+    private static boolean overridesLineFilter(final Class<?> parser) {
+        for (Class<?> type = parser; type != null && type != LookaheadParser.class; type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod("isLineInteresting", String.class);
+                return true;
+            }
+            catch (NoSuchMethodException exception) {
+                // continue with super class
+            }
+        }
+        return false;
     }
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
         Report report = new Report();
-        try (Stream<String> lines = readerFactory.readStream()) {
-            LookaheadStream lookahead = new LookaheadStream(lines);
+        try (Stream<CharSequence> lines = readerFactory.readCharSequences()) {
             IssueBuilder builder = new IssueBuilder();
-            while (lookahead.hasNext()) {
-                String line = lookahead.next();
-                if (line.contains(ENTERING_DIRECTORY)) {
-                    Matcher makeLineMatcher = MAKE_PATH.matcher(line);
-                    if (makeLineMatcher.matches()) {
-                        builder.setDirectory(makeLineMatcher.group("dir"));
+            parseLines(new LookaheadStream(lines), builder, null, Integer.MAX_VALUE, report::add);
+            builder.dedup();
+        }
+
+        return postProcess(report);
+    }
+
+    /**
+     * Returns whether this parser supports parallel parsing. A parser may opt in if the created issues do not depend
+     * on previously parsed lines (except for the lines consumed by the lookahead and the active {@code make}
+     * directory). I.e., the parser must not store any state in fields and must not rely on properties of the {@link
+     * IssueBuilder} that have been set while creating a previous issue. This default implementation returns {@code
+     * false}.
+     *
+     * @return {@code true} if the report can be parsed in parallel, {@code false} otherwise
+     */
+    public boolean supportsParallelParsing() {
+        return false;
+    }
+
+    /**
+     * Parses the specified report in parallel using the {@link ForkJoinPool#commonPool() common pool}. If this parser
+     * does not {@link #supportsParallelParsing() support parallel parsing}, then the report will be parsed
+     * sequentially.
+     *
+     * @param readerFactory
+     *         provides a reader to the report
+     *
+     * @return the issues of the report, in the same order as returned by {@link #parse(ReaderFactory)}
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the user has aborted the parsing
+     */
+    public Report parseInParallel(final ReaderFactory readerFactory)
+            throws ParsingException, ParsingCanceledException {
+        return parseInParallel(readerFactory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses the specified report in parallel using the specified fork-join pool. If this parser does not {@link
+     * #supportsParallelParsing() support parallel parsing}, then the report will be parsed sequentially.
+     *
+     * @param readerFactory
+     *         provides a reader to the report
+     * @param pool
+     *         the pool that parses the chunks of the report
+     *
+     * @return the issues of the report, in the same order as returned by {@link #parse(ReaderFactory)}
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the user has aborted the parsing
+     */
+    public Report parseInParallel(final ReaderFactory readerFactory, final ForkJoinPool pool)
+            throws ParsingException, ParsingCanceledException {
+        return parseInParallel(readerFactory, pool, CHUNK_SIZE);
+    }
+
+    /**
+     * Parses the specified report in parallel using the specified fork-join pool. Each chunk is parsed speculatively,
+     * i.e. assuming that the previous chunk ends exactly at the chunk boundary and that the {@code make} directory
+     * found by a quick scan of the previous lines is active. If one of these assumptions does not hold (since the
+     * lookahead of the parser consumed lines of the next chunk), then the remaining lines of the chunk are parsed again
+     * with the correct state.
+     *
+     * @param readerFactory
+     *         provides a reader to the report
+     * @param pool
+     *         the pool that parses the chunks of the report
+     * @param chunkSize
+     *         the number of lines in a chunk
+     *
+     * @return the issues of the report, in the same order as returned by {@link #parse(ReaderFactory)}
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the user has aborted the parsing
+     */
+    @VisibleForTesting
+    Report parseInParallel(final ReaderFactory readerFactory, final ForkJoinPool pool, final int chunkSize)
+            throws ParsingException, ParsingCanceledException {
+        if (!supportsParallelParsing()) {
+            return parse(readerFactory);
+        }
+
+        Report report = new Report();
+        try (Stream<CharSequence> lines = readerFactory.readCharSequences()) {
+            int maximumPendingChunks = pool.getParallelism() * 2;
+            Deque<LookaheadChunk> chunks = new ArrayDeque<>();
+            Deque<CompletableFuture<ChunkResult>> results = new ArrayDeque<>();
+            List<CompletableFuture<ChunkResult>> discarded = new ArrayList<>();
+
+            LookaheadChunk next = LookaheadChunk.readFirst(lines.iterator(), chunkSize);
+            int line = 1;
+            String directory = null;
+            try {
+                while (next != null || !chunks.isEmpty()) {
+                    while (next != null && chunks.size() < maximumPendingChunks) {
+                        LookaheadChunk speculative = next;
+                        chunks.add(speculative);
+                        results.add(CompletableFuture.supplyAsync(() -> parseChunk(speculative,
+                                speculative.getFirstLine(), speculative.getDirectory()), pool));
+                        next = speculative.next();
                     }
-                }
-                else if (isLineInteresting(line)) {
-                    Matcher matcher = pattern.matcher(line);
-                    if (matcher.find()) {
-                        createIssue(matcher, lookahead, builder).ifPresent(report::add);
+
+                    LookaheadChunk chunk = chunks.remove();
+                    CompletableFuture<ChunkResult> speculativeResult = results.remove();
+                    if (line > chunk.getLastLine()) {
+                        discarded.add(speculativeResult);
+                    }
+                    else {
+                        ChunkResult result;
+                        if (line == chunk.getFirstLine() && Objects.equals(directory, chunk.getDirectory())) {
+                            result = speculativeResult.join();
+                        }
+                        else {
+                            discarded.add(speculativeResult);
+                            result = parseChunk(chunk, line, directory);
+                        }
+                        result.getIssues().forEach(report::add);
+                        line = result.getNextLine();
+                        directory = result.getDirectory();
+                    }
+                    if (Thread.interrupted()) {
+                        throw new ParsingCanceledException();
                     }
                 }
-                if (Thread.interrupted()) {
-                    throw new ParsingCanceledException();
+            }
+            catch (CompletionException exception) {
+                results.forEach(result -> result.cancel(false));
+                Throwable cause = exception.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
                 }
+                throw exception;
+            }
+            catch (ParsingCanceledException exception) {
+                results.forEach(result -> result.cancel(false));
+                throw exception;
             }
+            discarded.forEach(result -> result.handle((issues, exception) -> issues).join());
         }
 
         return postProcess(report);
     }
 
+    /**
+     * Parses the new lines of a growing report, e.g. the console log of a running build. Parsing starts at the
+     * specified checkpoint, the new issues are appended to the specified report. The returned checkpoint is the
+     * position where parsing should be resumed when additional lines have been appended to the report. Since the last
+     * line of the report might still be written, only lines that are terminated by a line feed are parsed. Issues that
+     * are created from the last lines of the report are pending if the lookahead of the parser reached the end of the
+     * report: these lines will be parsed again when parsing is resumed.
+     * <p>
+     * Parsing a report in several increments yields the same issues as parsing the complete report at once, if the
+     * parser does not depend on properties of the {@link IssueBuilder} that have been set while creating a previous
+     * issue (see {@link #supportsParallelParsing()}). Note that {@link #postProcess(Report)} is invoked for the issues
+     * of each increment.
+     * </p>
+     *
+     * @param readerFactory
+     *         provides the report, the charset must encode a line feed as a single byte (like all ASCII compatible
+     *         charsets do)
+     * @param checkpoint
+     *         the checkpoint returned by the previous invocation, or {@link ParsingCheckpoint#START} to start at the
+     *         beginning of the report
+     * @param report
+     *         the report to append the new issues to
+     *
+     * @return the checkpoint to resume parsing the report
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the user has aborted the parsing
+     */
+    public ParsingCheckpoint parseIncrementally(final FileReaderFactory readerFactory,
+            final ParsingCheckpoint checkpoint, final Report report)
+            throws ParsingException, ParsingCanceledException {
+        return parseIncrementally(readerFactory, checkpoint, report, false);
+    }
+
+    /**
+     * Parses the new lines of a growing report, starting at the specified checkpoint. If the report is complete, then
+     * all remaining lines will be parsed, including a last line that is not terminated by a line feed, and no issues
+     * will be pending. Otherwise, the report is parsed like in {@link #parseIncrementally(FileReaderFactory,
+     * ParsingCheckpoint, Report)}.
+     *
+     * @param readerFactory
+     *         provides the report, the charset must encode a line feed as a single byte (like all ASCII compatible
+     *         charsets do)
+     * @param checkpoint
+     *         the checkpoint returned by the previous invocation, or {@link ParsingCheckpoint#START} to start at the
+     *         beginning of the report
+     * @param report
+     *         the report to append the new issues to
+     * @param isComplete
+     *         determines whether the report is complete, or if additional lines might be appended
+     *
+     * @return the checkpoint to resume parsing the report
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the user has aborted the parsing
+     */
+    public ParsingCheckpoint parseIncrementally(final FileReaderFactory readerFactory,
+            final ParsingCheckpoint checkpoint, final Report report, final boolean isComplete)
+            throws ParsingException, ParsingCanceledException {
+        Report issues = new Report();
+        int line = checkpoint.getLine();
+        String directory = checkpoint.getDirectory();
+        long offset;
+        try (OffsetLineIterator lines = new OffsetLineIterator(readerFactory.createInputStream(checkpoint.getOffset()),
+                readerFactory.getCharset(), checkpoint.getOffset(), line, isComplete);
+                Stream<String> stream = readerFactory.mapLines(StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(lines, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false))) {
+            LookaheadStream lookahead = new LookaheadStream(stream, line);
+            IssueBuilder builder = new IssueBuilder().setDirectory(directory);
+            List<Issue> created = new ArrayList<>();
+            while (lookahead.hasNext()) {
+                created.clear();
+                String nextDirectory = parseLines(lookahead, builder, directory, line, created::add);
+                if (!isComplete && !lookahead.hasNext() && (!created.isEmpty() || lookahead.getLine() > line)) {
+                    break; // the lookahead might require lines that have not been written yet
+                }
+                created.forEach(issues::add);
+                line = lookahead.getLine() + 1;
+                directory = nextDirectory;
+                lines.release(line);
+            }
+            offset = lines.getOffset(line);
+            builder.dedup();
+        }
+        catch (IOException | UncheckedIOException exception) {
+            throw new ParsingException(exception);
+        }
+
+        report.addAll(postProcess(issues));
+        return new ParsingCheckpoint(offset, line, directory);
+    }
+
+    private ChunkResult parseChunk(final LookaheadChunk chunk, final int firstLine, @Nullable final String directory) {
+        List<Issue> issues = new ArrayList<>();
+        LookaheadStream lookahead = new LookaheadStream(chunk.stream(firstLine), firstLine);
+        IssueBuilder builder = new IssueBuilder().setDirectory(directory);
+        String lastDirectory = parseLines(lookahead, builder, directory, chunk.getLastLine(), issues::add);
+        builder.dedup(); // the issues are handed over to the calling thread
+
+        return new ChunkResult(issues, lookahead.getLine() + 1, lastDirectory);
+    }
+
+    /**
+     * Parses the lines of the specified stream until the specified line has been reached.
+     *
+     * @param lookahead
+     *         the lines to parse
+     * @param builder
+     *         the issue builder to use
+     * @param initialDirectory
+     *         the {@code make} directory that is active at the first line
+     * @param lastLine
+     *         the number of the last line to parse, the lookahead of the parser may consume additional lines
+     * @param issues
+     *         consumer of the created issues
+     *
+     * @return the {@code make} directory that is active after the last parsed line
+     */
+    @Nullable
+    String parseLines(final LookaheadStream lookahead, final IssueBuilder builder,
+            @Nullable final String initialDirectory, final int lastLine, final Consumer<Issue> issues) {
+        String directory = initialDirectory;
+        while (lookahead.hasNext() && lookahead.getLine() < lastLine) {
+            CharSequence line = lookahead.nextCharSequence();
+            if (LiteralPrefilter.contains(line, ENTERING_DIRECTORY)) {
+                Matcher makeLineMatcher = MAKE_PATH.matcher(line);
+                if (makeLineMatcher.matches()) {
+                    directory = makeLineMatcher.group("dir");
+                    builder.setDirectory(directory);
+                }
+            }
+            else if (isInteresting(line) && isAcceptedByPrefilter(line)) {
+                Matcher matcher = pattern.matcher(line);
+                if (matcher.find()) {
+                    createIssue(matcher, lookahead, builder).ifPresent(issues);
+                }
+            }
+            if (Thread.interrupted()) {
+                throw new ParsingCanceledException();
+            }
+        }
+        return directory;
+    }
+
+    private boolean isInteresting(final CharSequence line) {
+        return !hasLineFilter || isLineInteresting(line.toString());
+    }
+
+    private boolean isAcceptedByPrefilter(final CharSequence line) {
+        inspectedLines.increment();
+        if (prefilter.accepts(line)) {
+            return true;
+        }
+        rejectedLines.increment();
+        return false;
+    }
+
+    /**
+     * Returns the number of lines that have been inspected by the literal prefilter of this parser, i.e. the number
+     * of lines that have been marked as {@link #isLineInteresting(String) interesting}. The count accumulates over all
+     * reports parsed by this instance.
+     *
+     * @return the number of inspected lines
+     */
+    public long getInspectedLinesCount() {
+        return inspectedLines.sum();
+    }
+
+    /**
+     * Returns the number of lines that have been rejected by the literal prefilter of this parser without evaluating
+     * the regular expression. The count accumulates over all reports parsed by this instance.
+     *
+     * @return the number of rejected lines
+     */
+    public long getRejectedLinesCount() {
+        return rejectedLines.sum();
+    }
+
+    /**
+     * Returns the ratio of inspected lines that have been rejected by the literal prefilter of this parser without
+     * evaluating the regular expression.
+     *
+     * @return the reject rate in the interval [0, 1]
+     */
+    public double getRejectRate() {
+        long inspected = getInspectedLinesCount();
+        if (inspected == 0) {
+            return 0;
+        }
+        return (double) getRejectedLinesCount() / inspected;
+    }
+
+    /**
+     * Returns the {@code make} directory that will be entered in the specified line.
+     *
+     * @param line
+     *         the line to inspect
+     *
+     * @return the entered directory, or {@link Optional#empty()} if the line does not contain a {@code make} directory
+     *         change
+     */
+    static Optional<String> findDirectory(final CharSequence line) {
+        if (LiteralPrefilter.contains(line, ENTERING_DIRECTORY)) {
+            Matcher makeLineMatcher = MAKE_PATH.matcher(line);
+            if (makeLineMatcher.matches()) {
+                return Optional.of(makeLineMatcher.group("dir"));
+            }
+        }
+        return Optional.empty();
+    }
+
     /**
      * Creates a new issue for the specified pattern. This method is called for each matching line in the specified
      * file. If a match is a false positive, then return {@link Optional#empty()} to ignore this warning.
@@ -113,4 +516,33 @@ public abstract class LookaheadParser extends IssueParser {
     protected Report postProcess(final Report report) {
         return report;
     }
+
+    /**
+     * The issues of a parsed chunk and the parser state at the end of the chunk.
+     */
+    private static final class ChunkResult {
+        private final List<Issue> issues;
+        private final int nextLine;
+        @Nullable
+        private final String directory;
+
+        ChunkResult(final List<Issue> issues, final int nextLine, @Nullable final String directory) {
+            this.issues = issues;
+            this.nextLine = nextLine;
+            this.directory = directory;
+        }
+
+        List<Issue> getIssues() {
+            return issues;
+        }
+
+        int getNextLine() {
+            return nextLine;
+        }
+
+        @Nullable
+        String getDirectory() {
+            return directory;
+        }
+    }
 }
@@ -0,0 +1,320 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.errorprone.annotations.MustBeClosed;
+
+import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Provides a {@link ReaderFactory} that reads the lines of a given file using a memory mapped {@link FileChannel}.
+ * Large files are mapped in segments of one gigabyte. The lines are decoded directly from the mapped bytes, i.e. there
+ * is no need to copy the file content into the buffers of a {@link java.io.Reader}. Lines that contain ASCII
+ * characters only are provided by {@link #readCharSequences()} as views of the mapped bytes, so no {@link String} will
+ * be created for these lines unless a line mapper has been specified.
+ * <p>
+ * A UTF-8 byte order mark at the beginning of the file will be skipped. Line breaks are detected at the byte level,
+ * this works for all charsets that encode the line terminators like ASCII (e.g., UTF-8 or ISO-8859-1). For all other
+ * charsets (e.g., UTF-16) the lines will be read using the {@link java.io.Reader} of the parent class.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class MappedFileReaderFactory extends FileReaderFactory {
+    private static final int SEGMENT_SIZE = 1 << 30;
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final String LINE_TERMINATORS = "\n\r";
+
+    private final int segmentSize;
+
+    /**
+     * Creates a new factory to read the specified file with a given charset.
+     *
+     * @param file
+     *         the file to open
+     * @param charset
+     *         the charset to use when reading the file
+     */
+    public MappedFileReaderFactory(final Path file, final @Nullable Charset charset) {
+        super(file, charset);
+
+        segmentSize = SEGMENT_SIZE;
+    }
+
+    /**
+     * Creates a new factory to read the specified file with a given charset.
+     *
+     * @param file
+     *         the file to open
+     * @param charset
+     *         the charset to use when reading the file
+     * @param lineMapper
+     *         provides a mapper to transform each of the resource lines
+     */
+    public MappedFileReaderFactory(final Path file, final @Nullable Charset charset,
+            final Function<String, String> lineMapper) {
+        this(file, charset, lineMapper, SEGMENT_SIZE);
+    }
+
+    @VisibleForTesting
+    MappedFileReaderFactory(final Path file, final @Nullable Charset charset,
+            final Function<String, String> lineMapper, final int segmentSize) {
+        super(file, charset, lineMapper);
+
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    @MustBeClosed
+    @SuppressWarnings("MustBeClosedChecker")
+    public Stream<String> readStream() {
+        if (isAsciiCompatible()) {
+            return mapLines(readMappedLines().map(CharSequence::toString));
+        }
+        return super.readStream();
+    }
+
+    @Override
+    @MustBeClosed
+    @SuppressWarnings("MustBeClosedChecker")
+    public Stream<CharSequence> readCharSequences() {
+        if (isAsciiCompatible() && !hasLineMapper()) {
+            return readMappedLines();
+        }
+        return super.readCharSequences();
+    }
+
+    private boolean isAsciiCompatible() {
+        Charset charset = getCharset();
+        if (StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset)) {
+            return true;
+        }
+        return charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1
+                && LINE_TERMINATORS.equals(new String(LINE_TERMINATORS.getBytes(charset), StandardCharsets.US_ASCII));
+    }
+
+    @MustBeClosed
+    private Stream<CharSequence> readMappedLines() {
+        try {
+            FileChannel channel = FileChannel.open(getFile(), StandardOpenOption.READ);
+            LineIterator lines = new LineIterator(channel, getCharset(), segmentSize);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(lines,
+                    Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(() -> close(channel));
+        }
+        catch (NoSuchFileException | InvalidPathException exception) {
+            throw new ParsingException(exception, "Can't find file: " + getFileName());
+        }
+        catch (IOException | UncheckedIOException exception) {
+            throw new ParsingException(exception, "Can't scan file for issues: " + getFileName());
+        }
+    }
+
+    private void close(final FileChannel channel) {
+        try {
+            channel.close();
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Reads the lines of a file that is mapped into memory segment by segment. A line never spans two segments: if the
+     * end of a segment is reached then the next segment starts at the beginning of the current line.
+     */
+    private static final class LineIterator implements Iterator<CharSequence> {
+        private final FileChannel channel;
+        private final Charset charset;
+        private final int segmentSize;
+        private final long size;
+
+        private ByteBuffer segment;
+        private long segmentStart;
+        private int position;
+
+        LineIterator(final FileChannel channel, final Charset charset, final int segmentSize) throws IOException {
+            this.channel = channel;
+            this.charset = charset;
+            this.segmentSize = segmentSize;
+
+            size = channel.size();
+            segment = map(0);
+            if (startsWithByteOrderMark()) {
+                position = UTF8_BOM.length;
+            }
+        }
+
+        private boolean startsWithByteOrderMark() throws IOException {
+            if (size < UTF8_BOM.length) {
+                return false;
+            }
+            ByteBuffer start = segment.limit() < UTF8_BOM.length
+                    ? channel.map(MapMode.READ_ONLY, 0, UTF8_BOM.length) : segment;
+            for (int i = 0; i < UTF8_BOM.length; i++) {
+                if (start.get(i) != UTF8_BOM[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private ByteBuffer map(final long start) throws IOException {
+            segmentStart = start;
+            return channel.map(MapMode.READ_ONLY, start, Math.min(segmentSize, size - start));
+        }
+
+        private boolean isEndOfSegment() {
+            return position >= segment.limit();
+        }
+
+        private boolean isEndOfFile() {
+            return segmentStart + position >= size;
+        }
+
+        /**
+         * Maps the next segment so that it starts with the byte at the specified position of the current segment.
+         *
+         * @param start
+         *         the position in the current segment
+         */
+        private void remap(final int start) {
+            try {
+                segment = map(segmentStart + start);
+                position -= start;
+            }
+            catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !isEndOfFile();
+        }
+
+        @Override
+        public CharSequence next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int start = position;
+            boolean isAscii = true;
+            while (true) {
+                if (isEndOfSegment()) {
+                    if (isEndOfFile()) {
+                        break;
+                    }
+                    if (start == 0) {
+                        throw new ParsingException(String.format(
+                                "Line at byte offset %d is longer than %d bytes", segmentStart, segmentSize));
+                    }
+                    remap(start);
+                    start = 0;
+                }
+                byte current = segment.get(position);
+                if (current == '\n' || current == '\r') {
+                    break;
+                }
+                if (current < 0) {
+                    isAscii = false;
+                }
+                position++;
+            }
+
+            CharSequence line = createLine(start, position, isAscii);
+            skipLineTerminator();
+            return line;
+        }
+
+        private CharSequence createLine(final int start, final int end, final boolean isAscii) {
+            if (isAscii) {
+                return new AsciiCharSequence(segment, start, end - start);
+            }
+            ByteBuffer bytes = segment.duplicate();
+            ((Buffer) bytes).limit(end).position(start);
+            return charset.decode(bytes);
+        }
+
+        private void skipLineTerminator() {
+            if (isEndOfSegment()) {
+                return;
+            }
+            byte terminator = segment.get(position++);
+            if (terminator == '\r') {
+                if (isEndOfSegment() && !isEndOfFile()) {
+                    remap(position);
+                }
+                if (!isEndOfSegment() && segment.get(position) == '\n') {
+                    position++;
+                }
+            }
+        }
+    }
+
+    /**
+     * A read-only view of ASCII characters that are stored in a {@link ByteBuffer}.
+     */
+    private static final class AsciiCharSequence implements CharSequence {
+        private final ByteBuffer bytes;
+        private final int offset;
+        private final int length;
+
+        AsciiCharSequence(final ByteBuffer bytes, final int offset, final int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index " + index + " is not in range [0, " + length + ")");
+            }
+            return (char) bytes.get(offset + index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException(
+                        "Range [" + start + ", " + end + ") is not in range [0, " + length + ")");
+            }
+            return new AsciiCharSequence(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            byte[] characters = new byte[length];
+            for (int i = 0; i < length; i++) {
+                characters[i] = bytes.get(offset + i);
+            }
+            return new String(characters, StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,442 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A set of {@link Issue issues} that keeps the issues in a file rather than on the heap. The file is written by a
+ * {@link BinaryReportWriter} and mapped into memory by a {@link BinaryReportReader}. The {@link Issue} instances are
+ * read from the file on demand, e.g. while iterating over the issues or when accessing an issue by its position.
+ * <p>
+ * Only a small index is kept on the heap: the number of issues per severity (available without reading the issues)
+ * and the IDs and hash codes of the issues. The IDs and hash codes are required to find duplicates and issues by their
+ * ID, they are read from the footer of the file when required for the first time (without reading the issues).
+ * </p>
+ * <p>
+ * The file is never changed. Issues that are added to this set are kept on the heap, removed issues are marked as
+ * deleted. If one of the mutable properties of an issue that has been read from the file is changed, then the changed
+ * issue replaces the issue in the file. Since the issues are read on each access, issues must not be compared using
+ * the identity, use {@link Issue#equals(Object)} or the ID instead. When serialized, this set is replaced with a
+ * {@link LinkedHashSet} that contains all issues. Like the {@link LinkedHashSet} this set is not thread-safe.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+@SuppressWarnings("PMD.TooManyFields")
+final class MappedIssueSet extends AbstractSet<Issue> implements Serializable {
+    private static final long serialVersionUID = 2263290524939012658L;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_ROW = -1;
+
+    private final transient BinaryReportReader reader;
+    /** Number of rows that are stored in the file, the following rows are stored in {@link #appendedIssues}. */
+    private final transient int mappedRows;
+    private final transient List<Issue> appendedIssues = new ArrayList<>();
+    /** Issues of the file that have been changed after they have been read. */
+    private final transient Map<Integer, Issue> changedIssues = new HashMap<>();
+    private final transient Map<Severity, Integer> severityCounts = new HashMap<>();
+
+    private final transient BitSet removed = new BitSet();
+    private transient int size;
+    private transient int modificationCount;
+
+    /** Hash codes of the issues, {@code null} if the index has not been created yet. */
+    @Nullable
+    private transient int[] hashes;
+    private transient int[] buckets;
+    private transient int[] next;
+    private transient long[] mostSignificantBits;
+    private transient long[] leastSignificantBits;
+    private transient int[] idBuckets;
+    private transient int[] idNext;
+    /** The rows of the issues at each position, {@code null} if the positions need to be recomputed. */
+    @Nullable
+    private transient int[] positions;
+
+    /**
+     * Creates a new {@link MappedIssueSet} that contains the issues of the specified reader.
+     *
+     * @param reader
+     *         the reader of the file that contains the issues
+     */
+    MappedIssueSet(final BinaryReportReader reader) {
+        super();
+
+        this.reader = reader;
+        mappedRows = reader.size();
+        size = mappedRows;
+        for (Severity severity : reader.getSeverities()) {
+            severityCounts.put(severity, reader.getSizeOf(severity));
+        }
+    }
+
+    private int getRows() {
+        return mappedRows + appendedIssues.size();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of issues with the specified {@code severity}. The issues are not read.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues with the specified severity
+     */
+    int getSizeOf(final Severity severity) {
+        return severityCounts.getOrDefault(severity, 0);
+    }
+
+    /**
+     * Returns the issue at the specified position.
+     *
+     * @param index
+     *         the position of the issue, must be in the range of {@code 0} to {@code size() - 1}
+     *
+     * @return the issue
+     */
+    Issue get(final int index) {
+        if (removed.isEmpty()) {
+            return read(index);
+        }
+        if (positions == null) {
+            int[] rows = new int[Math.max(size, INITIAL_CAPACITY)];
+            int position = 0;
+            for (int row = removed.nextClearBit(0); row < getRows(); row = removed.nextClearBit(row + 1)) {
+                rows[position++] = row;
+            }
+            positions = rows;
+        }
+        return read(positions[index]);
+    }
+
+    /**
+     * Returns the issue with the specified ID. If there are several issues with the same ID, then the first one will
+     * be returned.
+     *
+     * @param id
+     *         the ID of the issue
+     *
+     * @return the issue, or {@code null} if there is no issue with the specified ID
+     */
+    @Nullable
+    Issue findById(final UUID id) {
+        createIndex();
+
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+        int found = NO_ROW;
+        for (int row = idBuckets[idBucketOf(most, least)]; row != NO_ROW; row = idNext[row]) {
+            if (mostSignificantBits[row] == most && leastSignificantBits[row] == least) {
+                found = row; // rows are linked in reverse order
+            }
+        }
+        return found == NO_ROW ? null : read(found);
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return o instanceof Issue && find((Issue) o) != NO_ROW;
+    }
+
+    @Override
+    public boolean add(final Issue issue) {
+        int hash = issue.hashCode();
+        if (find(issue, hash) != NO_ROW) {
+            return false;
+        }
+
+        int row = getRows();
+        ensureCapacity(row + 1);
+        appendedIssues.add(issue);
+        hashes[row] = hash;
+        mostSignificantBits[row] = issue.getId().getMostSignificantBits();
+        leastSignificantBits[row] = issue.getId().getLeastSignificantBits();
+        link(row);
+        linkId(row);
+
+        if (positions != null) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size] = row;
+        }
+        size++;
+        severityCounts.merge(issue.getSeverity(), 1, Integer::sum);
+        modificationCount++;
+
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        if (o instanceof Issue) {
+            int row = find((Issue) o);
+            if (row != NO_ROW) {
+                removeRow(row);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Issue> iterator() {
+        return new RowIterator();
+    }
+
+    /**
+     * Returns the issue that is stored in the specified row.
+     *
+     * @param row
+     *         the row of the issue
+     *
+     * @return the issue
+     */
+    private Issue read(final int row) {
+        if (row >= mappedRows) {
+            return appendedIssues.get(row - mappedRows);
+        }
+        Issue changed = changedIssues.get(row);
+        if (changed != null) {
+            return changed;
+        }
+        return reader.get(row, issue -> update(row, issue));
+    }
+
+    /**
+     * Replaces the issue in the specified row with the changed issue. Since the mutable properties are part of the
+     * hash code of an issue, the row will be moved to the new hash bucket.
+     *
+     * @param row
+     *         the row of the issue
+     * @param issue
+     *         the issue that has been changed
+     */
+    private void update(final int row, final Issue issue) {
+        if (removed.get(row)) {
+            return; // the issue has been removed from this set
+        }
+        changedIssues.put(row, issue);
+
+        if (hashes != null) {
+            int hash = issue.hashCode();
+            if (hash != hashes[row]) {
+                unlink(row);
+                hashes[row] = hash;
+                link(row);
+            }
+        }
+    }
+
+    private void removeRow(final int row) {
+        Issue issue = read(row);
+        unlink(row);
+        unlinkId(row);
+        removed.set(row);
+        changedIssues.remove(row);
+        if (row >= mappedRows) {
+            appendedIssues.set(row - mappedRows, null);
+        }
+        positions = null;
+        size--;
+        severityCounts.merge(issue.getSeverity(), -1, Integer::sum);
+        modificationCount++;
+    }
+
+    private int find(final Issue issue) {
+        return find(issue, issue.hashCode());
+    }
+
+    private int find(final Issue issue, final int hash) {
+        createIndex();
+
+        for (int row = buckets[bucketOf(hash)]; row != NO_ROW; row = next[row]) {
+            if (hashes[row] == hash && read(row).equals(issue)) {
+                return row;
+            }
+        }
+        return NO_ROW;
+    }
+
+    /**
+     * Creates the index of the hash codes and IDs of all issues. The hash codes and IDs of the unchanged issues of the
+     * file are taken from the footer of the file, so the issues are not read.
+     */
+    private void createIndex() {
+        if (hashes != null) {
+            return;
+        }
+
+        int capacity = Math.max(getRows(), INITIAL_CAPACITY);
+        int[] hashCodes = new int[capacity];
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        for (int row = removed.nextClearBit(0); row < getRows(); row = removed.nextClearBit(row + 1)) {
+            UUID id;
+            if (row < mappedRows && !changedIssues.containsKey(row)) {
+                hashCodes[row] = reader.getHashCode(row);
+                id = reader.getId(row);
+            }
+            else {
+                Issue issue = read(row);
+                hashCodes[row] = issue.hashCode();
+                id = issue.getId();
+            }
+            mostSignificantBits[row] = id.getMostSignificantBits();
+            leastSignificantBits[row] = id.getLeastSignificantBits();
+        }
+        hashes = hashCodes;
+        next = new int[capacity];
+        idNext = new int[capacity];
+        rebuildIndex();
+    }
+
+    private int bucketOf(final int hash) {
+        return (hash ^ hash >>> 16) & (buckets.length - 1);
+    }
+
+    private void link(final int row) {
+        int bucket = bucketOf(hashes[row]);
+        next[row] = buckets[bucket];
+        buckets[bucket] = row;
+    }
+
+    private void unlink(final int row) {
+        int bucket = bucketOf(hashes[row]);
+        if (buckets[bucket] == row) {
+            buckets[bucket] = next[row];
+        }
+        else {
+            int previous = buckets[bucket];
+            while (next[previous] != row) {
+                previous = next[previous];
+            }
+            next[previous] = next[row];
+        }
+    }
+
+    private int idBucketOf(final long most, final long least) {
+        long hash = most ^ least;
+        return ((int) (hash ^ hash >>> 32)) & (idBuckets.length - 1);
+    }
+
+    private void linkId(final int row) {
+        int bucket = idBucketOf(mostSignificantBits[row], leastSignificantBits[row]);
+        idNext[row] = idBuckets[bucket];
+        idBuckets[bucket] = row;
+    }
+
+    private void unlinkId(final int row) {
+        int bucket = idBucketOf(mostSignificantBits[row], leastSignificantBits[row]);
+        if (idBuckets[bucket] == row) {
+            idBuckets[bucket] = idNext[row];
+        }
+        else {
+            int previous = idBuckets[bucket];
+            while (idNext[previous] != row) {
+                previous = idNext[previous];
+            }
+            idNext[previous] = idNext[row];
+        }
+    }
+
+    private static int[] createBuckets(final int capacity) {
+        int[] buckets = new int[Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1)];
+        Arrays.fill(buckets, NO_ROW);
+        return buckets;
+    }
+
+    private void rebuildIndex() {
+        buckets = createBuckets(next.length);
+        idBuckets = createBuckets(next.length);
+        for (int row = removed.nextClearBit(0); row < getRows(); row = removed.nextClearBit(row + 1)) {
+            link(row);
+            linkId(row);
+        }
+    }
+
+    private void ensureCapacity(final int capacity) {
+        int length = next.length;
+        if (capacity <= length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, length + (length >> 1));
+        hashes = Arrays.copyOf(hashes, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+        idNext = Arrays.copyOf(idNext, newCapacity);
+        mostSignificantBits = Arrays.copyOf(mostSignificantBits, newCapacity);
+        leastSignificantBits = Arrays.copyOf(leastSignificantBits, newCapacity);
+        if (newCapacity > buckets.length) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Replaces this set with a {@link LinkedHashSet} that contains all issues when serialized.
+     *
+     * @return the replacement
+     */
+    private Object writeReplace() {
+        return new LinkedHashSet<>(this);
+    }
+
+    /**
+     * Iterates over the rows of this set that have not been removed, in insertion order.
+     */
+    private class RowIterator implements Iterator<Issue> {
+        private int position = removed.nextClearBit(0);
+        private int last = NO_ROW;
+        private int expectedModificationCount = modificationCount;
+
+        @Override
+        public boolean hasNext() {
+            return position < getRows();
+        }
+
+        @Override
+        public Issue next() {
+            if (modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more issues available");
+            }
+            last = position;
+            position = removed.nextClearBit(position + 1);
+            return read(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last == NO_ROW) {
+                throw new IllegalStateException("No issue to remove");
+            }
+            if (modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            createIndex();
+            removeRow(last);
+            last = NO_ROW;
+            expectedModificationCount = modificationCount;
+        }
+    }
+}
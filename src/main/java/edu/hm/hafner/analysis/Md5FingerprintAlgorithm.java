@@ -0,0 +1,35 @@
+package edu.hm.hafner.analysis;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Computes fingerprints using the MD5 message digest.
+ *
+ * @author Ullrich Hafner
+ */
+class Md5FingerprintAlgorithm implements FingerprintAlgorithm {
+    /** The digest of each thread: a {@link MessageDigest} is not thread-safe. */
+    private final ThreadLocal<MessageDigest> digest = ThreadLocal.withInitial(Md5FingerprintAlgorithm::createDigest);
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "MD5";
+    }
+
+    @Override
+    public byte[] hash(final byte[] content, final int offset, final int length) {
+        MessageDigest md5 = digest.get();
+        md5.update(content, offset, length);
+        return md5.digest();
+    }
+}
@@ -0,0 +1,121 @@
+package edu.hm.hafner.analysis;
+
+/**
+ * Computes fingerprints using the x64 128 bit variant of MurmurHash3 (seed 0). The hash value consists of the two 64
+ * bit halves in little endian byte order, i.e. the same bytes as other MurmurHash3 implementations produce.
+ *
+ * @author Ullrich Hafner
+ */
+class Murmur3FingerprintAlgorithm implements FingerprintAlgorithm {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private static final int BLOCK_SIZE = 16;
+
+    @Override
+    public String getName() {
+        return "MURMUR3-128";
+    }
+
+    @Override
+    @SuppressWarnings("fallthrough")
+    public byte[] hash(final byte[] content, final int offset, final int length) {
+        long h1 = 0;
+        long h2 = 0;
+
+        int end = offset + length / BLOCK_SIZE * BLOCK_SIZE;
+        for (int position = offset; position < end; position += BLOCK_SIZE) {
+            h1 ^= mixK1(getLong(content, position));
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(getLong(content, position + 8));
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        switch (length % BLOCK_SIZE) {
+            case 15:
+                k2 ^= (content[end + 14] & 0xFFL) << 48;
+            case 14:
+                k2 ^= (content[end + 13] & 0xFFL) << 40;
+            case 13:
+                k2 ^= (content[end + 12] & 0xFFL) << 32;
+            case 12:
+                k2 ^= (content[end + 11] & 0xFFL) << 24;
+            case 11:
+                k2 ^= (content[end + 10] & 0xFFL) << 16;
+            case 10:
+                k2 ^= (content[end + 9] & 0xFFL) << 8;
+            case 9:
+                k2 ^= content[end + 8] & 0xFFL;
+                h2 ^= mixK2(k2);
+            case 8:
+                k1 ^= (content[end + 7] & 0xFFL) << 56;
+            case 7:
+                k1 ^= (content[end + 6] & 0xFFL) << 48;
+            case 6:
+                k1 ^= (content[end + 5] & 0xFFL) << 40;
+            case 5:
+                k1 ^= (content[end + 4] & 0xFFL) << 32;
+            case 4:
+                k1 ^= (content[end + 3] & 0xFFL) << 24;
+            case 3:
+                k1 ^= (content[end + 2] & 0xFFL) << 16;
+            case 2:
+                k1 ^= (content[end + 1] & 0xFFL) << 8;
+            case 1:
+                k1 ^= content[end] & 0xFFL;
+                h1 ^= mixK1(k1);
+            default:
+                break;
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = finalMix(h1);
+        h2 = finalMix(h2);
+        h1 += h2;
+        h2 += h1;
+
+        byte[] hash = new byte[BLOCK_SIZE];
+        putLong(hash, 0, h1);
+        putLong(hash, 8, h2);
+        return hash;
+    }
+
+    private static long mixK1(final long k1) {
+        return Long.rotateLeft(k1 * C1, 31) * C2;
+    }
+
+    private static long mixK2(final long k2) {
+        return Long.rotateLeft(k2 * C2, 33) * C1;
+    }
+
+    private static long finalMix(final long value) {
+        long k = value;
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    private static long getLong(final byte[] bytes, final int position) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = value << 8 | bytes[position + i] & 0xFFL;
+        }
+        return value;
+    }
+
+    private static void putLong(final byte[] bytes, final int position, final long value) {
+        for (int i = 0; i < 8; i++) {
+            bytes[position + i] = (byte) (value >>> (8 * i));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.hm.hafner.util.Ensure;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Reads the lines of a file that starts at a given byte offset and keeps track of the byte offsets of the lines that
+ * have been handed out. Lines are terminated by a line feed (an optional preceding carriage return is removed), so the
+ * charset must encode a line feed as a single byte (like all ASCII compatible charsets do). The last line of the file
+ * will be handed out only if it is terminated or if the file is complete: otherwise it is still being written.
+ *
+ * @author Ullrich Hafner
+ */
+final class OffsetLineIterator implements Iterator<String>, AutoCloseable {
+    private static final int LINE_FEED = '\n';
+    private static final int CARRIAGE_RETURN = '\r';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final InputStream input;
+    private final Charset charset;
+    private final boolean isComplete;
+
+    private byte[] buffer = new byte[256];
+    @Nullable
+    private String nextLine;
+    private long nextLineLength;
+    private boolean isAtStart;
+
+    /** Start offsets of the lines that have been handed out but have not been released yet. */
+    private final Deque<Long> offsets = new ArrayDeque<>();
+    private int firstLine;
+    private long offset;
+
+    /**
+     * Creates a new {@link OffsetLineIterator}.
+     *
+     * @param input
+     *         the content of the file, starting at the specified offset
+     * @param charset
+     *         the charset of the file
+     * @param offset
+     *         the byte offset of the first line
+     * @param line
+     *         the line number of the first line
+     * @param isComplete
+     *         determines whether the file is complete, or if additional lines might be appended
+     */
+    OffsetLineIterator(final InputStream input, final Charset charset, final long offset, final int line,
+            final boolean isComplete) {
+        this.input = new BufferedInputStream(input);
+        this.charset = charset;
+        this.offset = offset;
+        this.isComplete = isComplete;
+
+        firstLine = line;
+        isAtStart = offset == 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine == null) {
+            nextLine = readLine();
+        }
+        return nextLine != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more lines available");
+        }
+        String line = nextLine;
+        offsets.add(offset);
+        offset += nextLineLength;
+        nextLine = null;
+        return line;
+    }
+
+    /**
+     * Returns the byte offset of the specified line. The line must not have been released yet and must not be behind
+     * the line that follows the last line handed out.
+     *
+     * @param line
+     *         the line number
+     *
+     * @return the byte offset of the start of the line
+     */
+    long getOffset(final int line) {
+        int index = line - firstLine;
+        Ensure.that(index >= 0 && index <= offsets.size()).isTrue("Offset of line %d is not available", line);
+
+        if (index == offsets.size()) {
+            return offset;
+        }
+        Iterator<Long> iterator = offsets.iterator();
+        for (int i = 0; i < index; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    /**
+     * Releases the offsets of the lines before the specified line. These offsets will not be requested anymore.
+     *
+     * @param line
+     *         the line number of the first line that might still be requested
+     */
+    void release(final int line) {
+        while (firstLine < line && !offsets.isEmpty()) {
+            offsets.removeFirst();
+            firstLine++;
+        }
+    }
+
+    @Nullable
+    private String readLine() {
+        try {
+            int length = 0;
+            int value = input.read();
+            while (value >= 0 && value != LINE_FEED) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, length * 2);
+                }
+                buffer[length++] = (byte) value;
+                value = input.read();
+            }
+            if (value < 0 && (length == 0 || !isComplete)) {
+                return null;
+            }
+
+            nextLineLength = value < 0 ? length : length + 1;
+            if (length > 0 && buffer[length - 1] == CARRIAGE_RETURN) {
+                length--;
+            }
+            String line = new String(buffer, 0, length, charset);
+            if (isAtStart) {
+                isAtStart = false;
+                if (!line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                    return line.substring(1);
+                }
+            }
+            return line;
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -0,0 +1,109 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * The state of a {@link LookaheadParser} after parsing a growing report up to a given position. A checkpoint is used
+ * to resume parsing of the report when new lines have been appended: only the new lines need to be parsed. The
+ * checkpoint consists of the byte offset and the line number of the first line that has not been parsed yet and the
+ * {@code make} directory that is active at this line.
+ * <p>
+ * Lines that have been read by the lookahead of a parser at the end of the available content are still pending: the
+ * lookahead might need additional lines that have not been written yet. So the checkpoint is positioned before the
+ * first pending line and these lines will be parsed again when parsing is resumed.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ * @see LookaheadParser#parseIncrementally(FileReaderFactory, ParsingCheckpoint, Report)
+ */
+public final class ParsingCheckpoint implements Serializable {
+    private static final long serialVersionUID = -2571396733416567286L;
+
+    /** The checkpoint at the start of a report. */
+    public static final ParsingCheckpoint START = new ParsingCheckpoint(0, 1, null);
+
+    private final long offset;
+    private final int line;
+    @Nullable
+    private final String directory;
+
+    /**
+     * Creates a new instance of {@link ParsingCheckpoint}.
+     *
+     * @param offset
+     *         the byte offset of the first line that has not been parsed yet
+     * @param line
+     *         the line number of the first line that has not been parsed yet
+     * @param directory
+     *         the {@code make} directory that is active at this line
+     */
+    ParsingCheckpoint(final long offset, final int line, @Nullable final String directory) {
+        this.offset = offset;
+        this.line = line;
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the byte offset of the first line that has not been parsed yet.
+     *
+     * @return the byte offset
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the line number of the first line that has not been parsed yet.
+     *
+     * @return the line number
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * Returns the {@code make} directory that is active at the first line that has not been parsed yet.
+     *
+     * @return the directory, or {@code null} if no directory has been entered yet
+     */
+    @Nullable
+    public String getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ParsingCheckpoint that = (ParsingCheckpoint) obj;
+
+        if (offset != that.offset) {
+            return false;
+        }
+        if (line != that.line) {
+            return false;
+        }
+        return Objects.equals(directory, that.directory);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(offset);
+        result = 31 * result + line;
+        result = 31 * result + Objects.hashCode(directory);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%d] @%d (%s)", line, offset, directory);
+    }
+}
@@ -87,19 +87,45 @@ public abstract class ReaderFactory {
     public Stream<String> readStream() {
         try {
             BufferedReader reader = new BufferedReader(create());
-            Stream<String> stringStream = reader.lines().onClose(closeReader(reader));
-            if (hasLineMapper()) {
-                return stringStream.map(lineMapper);
-            }
-            else {
-                return stringStream;
-            }
+            return mapLines(reader.lines().onClose(closeReader(reader)));
         }
         catch (UncheckedIOException e) {
             throw new ParsingException(e);
         }
     }
 
+    /**
+     * Provides the lines of the file as a {@link Stream} of character sequences. Sub classes may override this method
+     * to provide the lines without creating a {@link String} instance for each line. If a line mapper has been
+     * specified, then the mapped lines will be returned. This default implementation returns the lines of {@link
+     * #readStream()}.
+     *
+     * @return the file content as stream
+     * @throws ParsingException
+     *         if the file could not be read
+     */
+    @MustBeClosed
+    public Stream<CharSequence> readCharSequences() {
+        return readStream().map(CharSequence.class::cast);
+    }
+
+    /**
+     * Transforms each of the specified lines with the line mapper of this factory.
+     *
+     * @param lines
+     *         the lines of the file
+     *
+     * @return the mapped lines, or the specified lines if no line mapper has been specified
+     */
+    protected final Stream<String> mapLines(final Stream<String> lines) {
+        if (hasLineMapper()) {
+            return lines.map(lineMapper);
+        }
+        else {
+            return lines;
+        }
+    }
+
     @SuppressWarnings({"illegalcatch", "PMD.DoNotUseThreads", "PMD.AvoidThrowingRawExceptionTypes"})
     private Runnable closeReader(final AutoCloseable closeable) {
         return () -> {
@@ -112,9 +138,14 @@ public abstract class ReaderFactory {
         };
     }
 
+    /**
+     * Returns whether a line mapper has been specified for this factory.
+     *
+     * @return {@code true} if the lines will be transformed by a line mapper, {@code false} otherwise
+     */
     @SuppressWarnings("PMD.CompareObjectsWithEquals")
     @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE", justification = "test stub")
-    private boolean hasLineMapper() {
+    protected final boolean hasLineMapper() {
         return lineMapper != null && lineMapper != IDENTITY;
     }
 
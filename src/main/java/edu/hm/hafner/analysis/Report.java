@@ -1,10 +1,17 @@
 package edu.hm.hafner.analysis;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -14,9 +21,10 @@ import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -26,10 +34,13 @@ import org.eclipse.collections.impl.factory.Lists;
 
 import com.google.errorprone.annotations.FormatMethod;
 
+import edu.hm.hafner.analysis.IssueProperty.PropertyPredicate;
+import edu.hm.hafner.analysis.ReportSummary.Aggregator;
 import edu.hm.hafner.util.Ensure;
 import edu.hm.hafner.util.NoSuchElementException;
 import edu.hm.hafner.util.VisibleForTesting;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import static java.util.stream.Collectors.*;
 
 /**
@@ -51,18 +62,119 @@ public class Report implements Iterable<Issue>, Serializable {
 
     @VisibleForTesting
     static final String DEFAULT_ID = "-";
+    /** Minimum number of issues in the reports to merge that enables merging in parallel. */
+    private static final int PARALLEL_MERGE_THRESHOLD = 100_000;
+    /** Minimum number of issues in a report that enables summarizing in parallel. */
+    private static final int PARALLEL_SUMMARY_THRESHOLD = 100_000;
 
-    private final Set<Issue> elements = new LinkedHashSet<>();
+    private Set<Issue> elements;
     private final List<String> infoMessages = new ArrayList<>();
     private final List<String> errorMessages = new ArrayList<>();
 
     private int duplicatesSize = 0;
 
+    @Nullable
+    private transient volatile ReportIndex index;
+    @Nullable
+    private transient volatile Map<UUID, Issue> issuesById;
+    @Nullable
+    private transient volatile List<Issue> issuesByPosition;
+
     /**
      * Creates an empty {@link Report}.
      */
     public Report() {
-        // no elements to add
+        this(new LinkedHashSet<Issue>());
+    }
+
+    private Report(final Set<Issue> elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Creates an empty {@link Report} that uses a compact storage for its issues. Rather than keeping an {@link Issue}
+     * instance for each issue, the properties of the issues are stored in columns of primitive arrays: properties with
+     * a small number of different values (e.g., file names, modules, categories or types) are stored only once in a
+     * dictionary. The {@link Issue} instances that are returned by the methods of this report are created on demand.
+     * So this storage reduces the memory footprint of reports that contain a large number of issues, at the cost of
+     * slower access to the individual issues.
+     * <p>
+     * Note that the issues of a compact report are views: since a new view is created on each access, two views of the
+     * same issue are equal but not identical. Changes of the mutable properties of a view (e.g., the fingerprint or the
+     * module name) are written back to the report.
+     * </p>
+     * <p>
+     * All derived reports (copies, filtered reports, etc.) will use the compact storage as well.
+     * </p>
+     *
+     * @return an empty report that uses a compact storage
+     */
+    public static Report createCompactReport() {
+        return new Report(new ColumnarIssueSet());
+    }
+
+    /**
+     * Writes the specified report to the specified file and opens the file as a memory mapped report. The issues of a
+     * memory mapped report are not kept on the heap, they are read from the file on demand. Only a small index (the
+     * number of issues per severity and the IDs and hash codes of the issues) is kept on the heap. The file can be
+     * opened again later using {@link #openMappedReport(Path)}.
+     *
+     * @param report
+     *         the report to write
+     * @param file
+     *         the file to write the report to, an existing file will be overwritten
+     *
+     * @return the memory mapped report
+     * @throws IOException
+     *         if the report could not be written
+     * @see #openMappedReport(Path)
+     */
+    public static Report createMappedReport(final Report report, final Path file) throws IOException {
+        try (OutputStream output = Files.newOutputStream(file)) {
+            BinaryReportWriter.write(report, output);
+        }
+        return openMappedReport(file);
+    }
+
+    /**
+     * Opens the specified file as a memory mapped report. The file must have been written by a {@link
+     * BinaryReportWriter}, e.g. using {@link #createMappedReport(Report, Path)}. The issues of a memory mapped report
+     * are not kept on the heap, they are read from the file on demand. So it is possible to work with a large number
+     * of reports (e.g., the reports of all previous builds) at the same time.
+     * <p>
+     * Note that the issues of a memory mapped report are read on each access: two instances of the same issue are
+     * equal but not identical. The file will not be changed: issues that are added to a memory mapped report are kept
+     * on the heap. All derived reports (copies, filtered reports, etc.) keep their issues on the heap as well.
+     * </p>
+     * <p>
+     * The file remains mapped until the report has been garbage collected, since a mapping can't be released
+     * explicitly. On some operating systems (e.g., Windows) the file can't be deleted or overwritten in the meantime.
+     * </p>
+     *
+     * @param file
+     *         the file to open
+     *
+     * @return the memory mapped report
+     * @throws IOException
+     *         if the file could not be opened
+     * @throws ParsingException
+     *         if the file does not contain a valid report
+     */
+    public static Report openMappedReport(final Path file) throws IOException {
+        BinaryReportReader reader = BinaryReportReader.open(file);
+
+        Report report = new Report(new MappedIssueSet(reader));
+        report.duplicatesSize = reader.getDuplicatesSize();
+        report.infoMessages.addAll(reader.getInfoMessages());
+        report.errorMessages.addAll(reader.getErrorMessages());
+        return report;
+    }
+
+    private Report createEmptyReport() {
+        if (elements instanceof ColumnarIssueSet) {
+            return createCompactReport();
+        }
+        return new Report();
     }
 
     /**
@@ -76,11 +188,11 @@ public class Report implements Iterable<Issue>, Serializable {
      * @see #copyIssuesAndProperties(Report, Report)
      */
     public Report(final Report... reports) {
+        this();
+
         Ensure.that(reports).isNotEmpty("No reports given.");
 
-        for (Report other : reports) {
-            copyIssuesAndProperties(other, this);
-        }
+        merge(Arrays.asList(reports));
     }
 
     /**
@@ -94,11 +206,11 @@ public class Report implements Iterable<Issue>, Serializable {
      * @see #copyIssuesAndProperties(Report, Report)
      */
     public Report(final Collection<Report> reports) {
+        this();
+
         Ensure.that(reports).isNotEmpty("No reports given.");
 
-        for (Report other : reports) {
-            copyIssuesAndProperties(other, this);
-        }
+        merge(reports);
     }
 
     /**
@@ -111,11 +223,19 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return this
      */
     public Report add(final Issue issue) {
-        if (elements.contains(issue)) {
-            duplicatesSize++; // elements are marked as duplicate if the fingerprint is different
+        if (elements.add(issue)) {
+            if (index != null) {
+                index.add(issue);
+            }
+            if (issuesById != null) {
+                issuesById.putIfAbsent(issue.getId(), issue);
+            }
+            if (issuesByPosition != null) {
+                issuesByPosition.add(issue);
+            }
         }
         else {
-            elements.add(issue);
+            duplicatesSize++; // elements are marked as duplicate if the fingerprint is different
         }
         return this;
     }
@@ -172,9 +292,7 @@ public class Report implements Iterable<Issue>, Serializable {
     public Report addAll(final Report... reports) {
         Ensure.that(reports).isNotEmpty("No reports given.");
 
-        for (Report other : reports) {
-            copyIssuesAndProperties(other, this);
-        }
+        merge(Arrays.asList(reports));
         return this;
     }
 
@@ -190,13 +308,25 @@ public class Report implements Iterable<Issue>, Serializable {
      *         if there is no such issue found
      */
     public Issue remove(final UUID issueId) {
-        for (Issue element : elements) {
-            if (element.getId().equals(issueId)) {
-                elements.remove(element);
-                return element;
+        Issue issue = findById(issueId);
+
+        elements.remove(issue);
+        if (index != null) {
+            if (index.isOutdated()) {
+                index = null;
+            }
+            else {
+                index.remove(issue);
             }
         }
-        throw new NoSuchElementException("No issue found with id %s.", issueId);
+        if (issuesById != null) {
+            issuesById.remove(issueId);
+            if (issuesById.size() != elements.size()) {
+                issuesById = null; // another issue with the same ID might be part of this report
+            }
+        }
+        issuesByPosition = null;
+        return issue;
     }
 
     /**
@@ -210,12 +340,30 @@ public class Report implements Iterable<Issue>, Serializable {
      *         if there is no such issue found
      */
     public Issue findById(final UUID issueId) {
-        for (Issue issue : elements) {
-            if (issue.getId().equals(issueId)) {
-                return issue;
+        Issue issue = lookup(issueId);
+        if (issue == null) {
+            throw new NoSuchElementException("No issue found with id %s.", issueId);
+        }
+        return issue;
+    }
+
+    @Nullable
+    private Issue lookup(final UUID issueId) {
+        if (elements instanceof ColumnarIssueSet) {
+            return ((ColumnarIssueSet) elements).findById(issueId);
+        }
+        if (elements instanceof MappedIssueSet) {
+            return ((MappedIssueSet) elements).findById(issueId);
+        }
+        Map<UUID, Issue> byId = issuesById;
+        if (byId == null) {
+            byId = new HashMap<>();
+            for (Issue issue : elements) {
+                byId.putIfAbsent(issue.getId(), issue);
             }
+            issuesById = byId; // publish only the completely filled map
         }
-        throw new NoSuchElementException("No issue found with id %s.", issueId);
+        return byId.get(issueId);
     }
 
     /**
@@ -227,6 +375,9 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the found issues
      */
     public Set<Issue> findByProperty(final Predicate<? super Issue> criterion) {
+        if (criterion instanceof PropertyPredicate && isIndexed()) {
+            return new HashSet<>(findIndexed((PropertyPredicate) criterion));
+        }
         return filterElements(criterion).collect(toSet());
     }
 
@@ -240,10 +391,42 @@ public class Report implements Iterable<Issue>, Serializable {
      */
     public Report filter(final Predicate<? super Issue> criterion) {
         Report filtered = copyEmptyInstance();
-        filtered.addAll(filterElements(criterion).collect(toList()));
+        if (criterion instanceof PropertyPredicate && isIndexed()) {
+            filtered.addAll(findIndexed((PropertyPredicate) criterion));
+        }
+        else {
+            filtered.addAll(filterElements(criterion).collect(toList()));
+        }
         return filtered;
     }
 
+    private List<Issue> findIndexed(final PropertyPredicate criterion) {
+        return getIndex().find(criterion.getProperty(), criterion.getValue());
+    }
+
+    /**
+     * Returns whether the queries of this report are answered using an index. Compact and memory mapped reports are not
+     * indexed since the index would keep references to all issues.
+     *
+     * @return {@code true} if this report is indexed, {@code false} otherwise
+     */
+    private boolean isIndexed() {
+        return !(elements instanceof ColumnarIssueSet || elements instanceof MappedIssueSet);
+    }
+
+    /**
+     * Returns the index of this report. The index is created on demand and then published safely, so concurrent
+     * queries of a report that is not modified anymore see a completely initialized index.
+     */
+    private ReportIndex getIndex() {
+        ReportIndex current = index;
+        if (current == null || current.isOutdated()) {
+            current = new ReportIndex(elements);
+            index = current;
+        }
+        return current;
+    }
+
     private Stream<Issue> filterElements(final Predicate<? super Issue> criterion) {
         return elements.stream().filter(criterion);
     }
@@ -251,6 +434,9 @@ public class Report implements Iterable<Issue>, Serializable {
     @NonNull
     @Override
     public Iterator<Issue> iterator() {
+        if (elements instanceof MappedIssueSet) {
+            return Collections.unmodifiableSet(elements).iterator(); // read the issues on demand
+        }
         return Lists.immutable.withAll(elements).iterator();
     }
 
@@ -311,6 +497,16 @@ public class Report implements Iterable<Issue>, Serializable {
         return duplicatesSize;
     }
 
+    /**
+     * Sets the number of duplicates. Used to restore a report that has been written by a {@link BinaryReportWriter}.
+     *
+     * @param duplicatesSize
+     *         total number of duplicates
+     */
+    void setDuplicatesSize(final int duplicatesSize) {
+        this.duplicatesSize = duplicatesSize;
+    }
+
     /**
      * Returns the number of issues with the specified {@code severity}.
      *
@@ -332,6 +528,12 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return total number of issues
      */
     public int getSizeOf(final Severity severity) {
+        if (isIndexed()) {
+            return getIndex().getSizeOf(severity);
+        }
+        if (elements instanceof MappedIssueSet) {
+            return ((MappedIssueSet) elements).getSizeOf(severity);
+        }
         return elements.stream().filter(issue -> issue.getSeverity().equals(severity)).mapToInt(e -> 1).sum();
     }
 
@@ -349,11 +551,44 @@ public class Report implements Iterable<Issue>, Serializable {
         if (index < 0 || index >= size()) {
             throw new IndexOutOfBoundsException("No such index " + index + " in " + toString());
         }
-        Iterator<Issue> all = elements.iterator();
-        for (int i = 0; i < index; i++) {
-            all.next(); // skip this element
+        if (elements instanceof ColumnarIssueSet) {
+            return ((ColumnarIssueSet) elements).get(index);
+        }
+        if (elements instanceof MappedIssueSet) {
+            return ((MappedIssueSet) elements).get(index);
         }
-        return all.next();
+        List<Issue> byPosition = issuesByPosition;
+        if (byPosition == null) {
+            byPosition = new ArrayList<>(elements);
+            issuesByPosition = byPosition; // publish only the completely filled list
+        }
+        return byPosition.get(index);
+    }
+
+    /**
+     * Returns the issues between the specified {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Use this
+     * method to show the issues of a large report page by page: the issues are accessed by their position, so the time
+     * to get a page does not depend on the position of the page.
+     *
+     * @param fromIndex
+     *         the index of the first issue (inclusive)
+     * @param toIndex
+     *         the index of the last issue (exclusive)
+     *
+     * @return the issues in the specified range
+     * @throws IndexOutOfBoundsException
+     *         if the range is not within the issues of this report
+     */
+    public List<Issue> subList(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "No such range " + fromIndex + " - " + toIndex + " in " + toString());
+        }
+        List<Issue> issues = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            issues.add(get(i));
+        }
+        return Collections.unmodifiableList(issues);
     }
 
     @Override
@@ -367,7 +602,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected modules
      */
     public Set<String> getModules() {
-        return getProperties(Issue::getModuleName);
+        return getProperties(IssueProperty.MODULE_NAME);
     }
 
     /**
@@ -393,7 +628,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected packages
      */
     public Set<String> getPackages() {
-        return getProperties(Issue::getPackageName);
+        return getProperties(IssueProperty.PACKAGE_NAME);
     }
 
     /**
@@ -411,7 +646,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected files
      */
     public Set<String> getFiles() {
-        return getProperties(Issue::getFileName);
+        return getProperties(IssueProperty.FILE_NAME);
     }
 
     /**
@@ -429,7 +664,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the used categories
      */
     public Set<String> getCategories() {
-        return getProperties(Issue::getCategory);
+        return getProperties(IssueProperty.CATEGORY);
     }
 
     /**
@@ -447,7 +682,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the used types
      */
     public Set<String> getTypes() {
-        return getProperties(Issue::getType);
+        return getProperties(IssueProperty.TYPE);
     }
 
     /**
@@ -483,6 +718,9 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the severities
      */
     public Set<Severity> getSeverities() {
+        if (isIndexed()) {
+            return new HashSet<>(getIndex().getSeverities());
+        }
         return getProperties(Issue::getSeverity);
     }
 
@@ -506,7 +744,11 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the set of different values
      * @see #getFiles()
      */
+    @SuppressWarnings("unchecked")
     public <T> Set<T> getProperties(final Function<? super Issue, T> propertiesMapper) {
+        if (propertiesMapper instanceof IssueProperty && isIndexed()) {
+            return (Set<T>) new HashSet<>(getIndex().getValues((IssueProperty) propertiesMapper));
+        }
         return elements.stream().map(propertiesMapper).collect(toSet());
     }
 
@@ -521,10 +763,55 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return a mapping of: property value to the number of issues for that value
      * @see #getProperties(Function)
      */
+    @SuppressWarnings("unchecked")
     public <T> Map<T, Integer> getPropertyCount(final Function<? super Issue, T> propertiesMapper) {
+        if (propertiesMapper instanceof IssueProperty && isIndexed()) {
+            return (Map<T, Integer>) getIndex().getCounts((IssueProperty) propertiesMapper);
+        }
         return elements.stream().collect(groupingBy(propertiesMapper, reducing(0, issue -> 1, Integer::sum)));
     }
 
+    /**
+     * Returns a summary of the issues of this report: the number of issues per severity and the number of occurrences
+     * for every existing value of the specified properties. All values are computed in a single pass over the issues.
+     * Large reports are summarized in parallel.
+     *
+     * @param propertyNames
+     *         the names of the properties to count the values of, e.g. {@code "moduleName"} or {@code "category"}
+     *
+     * @return the summary
+     * @see Issue#getPropertyValueGetter(String)
+     */
+    public ReportSummary summarize(final String... propertyNames) {
+        if (size() >= PARALLEL_SUMMARY_THRESHOLD && !(elements instanceof MappedIssueSet)
+                && Runtime.getRuntime().availableProcessors() > 1) {
+            return summarizeInParallel(propertyNames);
+        }
+        Aggregator aggregator = new Aggregator(Arrays.asList(propertyNames));
+        for (Issue issue : elements) {
+            aggregator.add(issue);
+        }
+        return aggregator.toSummary();
+    }
+
+    /**
+     * Returns a summary of the issues of this report. The issues are counted in parallel by several aggregators whose
+     * results are combined afterwards.
+     *
+     * @param propertyNames
+     *         the names of the properties to count the values of
+     *
+     * @return the summary
+     */
+    @VisibleForTesting
+    ReportSummary summarizeInParallel(final String... propertyNames) {
+        List<String> names = Arrays.asList(propertyNames);
+        return Arrays.stream(elements.toArray(new Issue[0]))
+                .parallel()
+                .collect(() -> new Aggregator(names), Aggregator::add, Aggregator::merge)
+                .toSummary();
+    }
+
     /**
      * Groups issues by a specified property. Returns the results as a mapping of property values to a new set of {@link
      * Report} for this value.
@@ -543,7 +830,7 @@ public class Report implements Iterable<Issue>, Serializable {
                 .collect(toMap(
                         Entry::getKey,
                         e -> {
-                            Report report = new Report();
+                            Report report = createEmptyReport();
                             report.addAll(e.getValue());
                             return report;
                         }));
@@ -555,11 +842,133 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return a new issue container that contains the same elements in the same order
      */
     public Report copy() {
-        Report copied = new Report();
+        Report copied = createEmptyReport();
         copyIssuesAndProperties(this, copied);
         return copied;
     }
 
+    /**
+     * Appends the issues and properties of the specified reports to this report. Large reports are merged in parallel
+     * if several processors are available, see {@link #mergeInParallel(Collection)}.
+     *
+     * @param reports
+     *         the reports to append
+     */
+    private void merge(final Collection<Report> reports) {
+        long size = reports.stream().mapToLong(Report::size).sum();
+        if (size >= PARALLEL_MERGE_THRESHOLD && Runtime.getRuntime().availableProcessors() > 1) {
+            mergeInParallel(reports);
+        }
+        else {
+            for (Report other : reports) {
+                copyIssuesAndProperties(other, this);
+            }
+        }
+    }
+
+    /**
+     * Appends the issues and properties of the specified reports to this report using all available processors. The
+     * result is the same as appending the reports one after another: the issues are distributed to shards by their
+     * hash codes so that equal issues end up in the same shard. Each shard is processed by a single thread that
+     * visits its issues in the original order, so the first occurrence of an issue is kept and all subsequent
+     * occurrences are detected as duplicates. Afterwards, the remaining issues are appended in the original order.
+     *
+     * @param reports
+     *         the reports to append
+     */
+    @VisibleForTesting
+    void mergeInParallel(final Collection<Report> reports) {
+        List<Issue> issues = new ArrayList<>();
+        for (Report other : reports) {
+            issues.addAll(other.elements);
+        }
+        List<Issue> existing = new ArrayList<>(elements);
+
+        boolean[] isDuplicate = findDuplicates(existing, issues);
+        List<Issue> unique = new ArrayList<>(issues.size());
+        for (int i = 0; i < issues.size(); i++) {
+            if (isDuplicate[i]) {
+                duplicatesSize++;
+            }
+            else {
+                unique.add(issues.get(i));
+            }
+        }
+        appendUnique(existing, unique);
+        for (Report other : reports) {
+            copyProperties(other, this);
+        }
+    }
+
+    /**
+     * Appends the specified issues that are known to be not part of this report yet. If the issues are stored in a
+     * {@link LinkedHashSet}, then the set is recreated with the required capacity, so the issues are appended without
+     * rehashing the set several times while it grows. The derived lookup structures are recreated on demand.
+     */
+    private void appendUnique(final List<Issue> existing, final List<Issue> unique) {
+        if (elements instanceof LinkedHashSet) {
+            Set<Issue> appended = new LinkedHashSet<>((existing.size() + unique.size()) * 4 / 3 + 1);
+            appended.addAll(existing);
+            appended.addAll(unique);
+            elements = appended;
+            index = null;
+            issuesById = null;
+            issuesByPosition = null;
+        }
+        else {
+            for (Issue issue : unique) {
+                add(issue);
+            }
+        }
+    }
+
+    private static boolean[] findDuplicates(final List<Issue> existing, final List<Issue> issues) {
+        int shards = Integer.highestOneBit(ForkJoinPool.getCommonPoolParallelism() * 8);
+        int[][] existingByShard = distribute(existing, shards);
+        int[][] issuesByShard = distribute(issues, shards);
+
+        boolean[] isDuplicate = new boolean[issues.size()];
+        IntStream.range(0, shards).parallel().forEach(shard -> {
+            Set<Issue> unique = new HashSet<>();
+            for (int position : existingByShard[shard]) {
+                unique.add(existing.get(position));
+            }
+            for (int position : issuesByShard[shard]) {
+                isDuplicate[position] = !unique.add(issues.get(position));
+            }
+        });
+        return isDuplicate;
+    }
+
+    /**
+     * Distributes the positions of the specified issues to the given number of shards. The hash codes of the issues are
+     * computed in parallel. The positions in each shard are in ascending order.
+     */
+    private static int[][] distribute(final List<Issue> issues, final int shards) {
+        int[] shardOfPosition = IntStream.range(0, issues.size()).parallel()
+                .map(position -> shardOf(issues.get(position).hashCode(), shards))
+                .toArray();
+
+        int[] sizes = new int[shards];
+        for (int shard : shardOfPosition) {
+            sizes[shard]++;
+        }
+        int[][] positions = new int[shards][];
+        for (int shard = 0; shard < shards; shard++) {
+            positions[shard] = new int[sizes[shard]];
+        }
+        int[] filled = new int[shards];
+        for (int position = 0; position < shardOfPosition.length; position++) {
+            int shard = shardOfPosition[position];
+            positions[shard][filled[shard]++] = position;
+        }
+        return positions;
+    }
+
+    private static int shardOf(final int hashCode, final int shards) {
+        return (hashCode ^ hashCode >>> 16) & (shards - 1);
+    }
+
     private void copyIssuesAndProperties(final Report source, final Report destination) {
         destination.addAll(source.elements);
         copyProperties(source, destination);
@@ -578,7 +987,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return a new issue container that contains the same properties but no issues
      */
     public Report copyEmptyInstance() {
-        Report empty = new Report();
+        Report empty = createEmptyReport();
         copyProperties(this, empty);
         return empty;
     }
@@ -704,8 +1113,8 @@ public class Report implements Iterable<Issue>, Serializable {
      * @author Raphael Furch
      */
     public static class IssueFilterBuilder {
-        private final Collection<Predicate<Issue>> includeFilters = new ArrayList<>();
-        private final Collection<Predicate<Issue>> excludeFilters = new ArrayList<>();
+        private final Map<IssueProperty, List<String>> includePatterns = new EnumMap<>(IssueProperty.class);
+        private final Map<IssueProperty, List<String>> excludePatterns = new EnumMap<>(IssueProperty.class);
 
         /** Type of the filter: include or exclude elements. */
         enum FilterType {
@@ -714,38 +1123,53 @@ public class Report implements Iterable<Issue>, Serializable {
         }
 
         /**
-         * Adds a new filter for each patterns string. Adds the filter either to the include or exclude list.
+         * Adds the patterns to the include or exclude patterns of the specified property.
          *
          * @param patterns
          *         filter patterns.
          * @param propertyToFilter
-         *         Function to get a string from Issue for patterns
+         *         the property of the issues to match the patterns against
          */
-        private void addNewFilter(final Collection<String> patterns, final Function<Issue, String> propertyToFilter,
+        private void addNewFilter(final Collection<String> patterns, final IssueProperty propertyToFilter,
                 final FilterType type) {
-
-            Collection<Predicate<Issue>> filters = new ArrayList<>();
-            for (String pattern : patterns) {
-                filters.add(issueToFilter -> Pattern.compile(pattern)
-                        .matcher(propertyToFilter.apply(issueToFilter)).matches() == (type == FilterType.INCLUDE));
+            if (patterns.isEmpty()) {
+                return;
             }
 
-            if (type == FilterType.INCLUDE) {
-                includeFilters.addAll(filters);
-            }
-            else {
-                excludeFilters.addAll(filters);
-            }
+            Map<IssueProperty, List<String>> filters = type == FilterType.INCLUDE ? includePatterns : excludePatterns;
+            filters.computeIfAbsent(propertyToFilter, property -> new ArrayList<>()).addAll(patterns);
         }
 
         /**
-         * Create a IssueFilter. Combine by default all includes with or and all excludes with and.
+         * Create a IssueFilter. Combine by default all includes with or and all excludes with and. The patterns are
+         * compiled when the filter is created, and the result for each distinct value of a property is cached.
          *
          * @return a IssueFilter which has all added filter as filter criteria.
+         * @throws java.util.regex.PatternSyntaxException
+         *         if one of the patterns is invalid
          */
         public Predicate<Issue> build() {
-            return includeFilters.stream().reduce(Predicate::or).orElse(issue -> true)
-                    .and(excludeFilters.stream().reduce(Predicate::and).orElse(issue -> true));
+            List<IssuePropertyMatcher> includes = createMatchers(includePatterns);
+            List<IssuePropertyMatcher> excludes = createMatchers(excludePatterns);
+
+            Predicate<Issue> include = includes.isEmpty() ? issue -> true : issue -> matchesAny(includes, issue);
+            return include.and(issue -> !matchesAny(excludes, issue));
+        }
+
+        private List<IssuePropertyMatcher> createMatchers(final Map<IssueProperty, List<String>> patterns) {
+            List<IssuePropertyMatcher> matchers = new ArrayList<>();
+            patterns.forEach((property, regularExpressions)
+                    -> matchers.add(new IssuePropertyMatcher(property, new ArrayList<>(regularExpressions))));
+            return matchers;
+        }
+
+        private static boolean matchesAny(final List<IssuePropertyMatcher> matchers, final Issue issue) {
+            for (IssuePropertyMatcher matcher : matchers) {
+                if (matcher.test(issue)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         //<editor-fold desc="File name">
@@ -759,7 +1183,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeFileNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getFileName, FilterType.INCLUDE);
+            addNewFilter(pattern, IssueProperty.FILE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -784,7 +1208,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeFileNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getFileName, FilterType.EXCLUDE);
+            addNewFilter(pattern, IssueProperty.FILE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -812,7 +1236,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludePackageNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getPackageName, FilterType.INCLUDE);
+            addNewFilter(pattern, IssueProperty.PACKAGE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -837,7 +1261,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludePackageNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getPackageName, FilterType.EXCLUDE);
+            addNewFilter(pattern, IssueProperty.PACKAGE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -865,7 +1289,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeModuleNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getModuleName, FilterType.INCLUDE);
+            addNewFilter(pattern, IssueProperty.MODULE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -890,7 +1314,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeModuleNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getModuleName, FilterType.EXCLUDE);
+            addNewFilter(pattern, IssueProperty.MODULE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -918,7 +1342,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeCategoryFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getCategory, FilterType.INCLUDE);
+            addNewFilter(pattern, IssueProperty.CATEGORY, FilterType.INCLUDE);
             return this;
         }
 
@@ -943,7 +1367,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeCategoryFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getCategory, FilterType.EXCLUDE);
+            addNewFilter(pattern, IssueProperty.CATEGORY, FilterType.EXCLUDE);
             return this;
         }
 
@@ -971,7 +1395,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeTypeFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getType, FilterType.INCLUDE);
+            addNewFilter(pattern, IssueProperty.TYPE, FilterType.INCLUDE);
             return this;
         }
 
@@ -996,7 +1420,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeTypeFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getType, FilterType.EXCLUDE);
+            addNewFilter(pattern, IssueProperty.TYPE, FilterType.EXCLUDE);
             return this;
         }
 
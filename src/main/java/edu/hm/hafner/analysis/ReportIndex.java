@@ -0,0 +1,215 @@
+package edu.hm.hafner.analysis;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Indexes the issues of a {@link Report}: counts the issues of each severity and provides posting lists of the issues
+ * for each value of the {@link IssueProperty indexed properties}. The posting lists contain the issues in the order
+ * of the report. The index is updated incrementally when issues are added to or removed from the report.
+ * <p>
+ * Removed issues are not deleted from the posting lists immediately, they are marked as removed and skipped by the
+ * queries. The posting lists are compacted once the number of removed issues exceeds the number of indexed issues.
+ * </p>
+ * <p>
+ * Since some of the indexed properties of an issue are mutable, the index registers itself at each of its issues. As
+ * soon as one of these properties of an indexed issue has been changed, the index is invalidated (see {@link
+ * Issue#addIndex(Reference)}). An outdated index must be recreated.
+ * </p>
+ * <p>
+ * An index is not changed anymore after it has been created by a query of the report, so it can be safely used by
+ * several threads once it has been published. Adding and removing issues is not thread-safe, like modifying the
+ * report itself.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class ReportIndex {
+    private final Reference<ReportIndex> reference = new WeakReference<>(this);
+    private final Map<Severity, Integer> severityCounts = new HashMap<>();
+    private final Map<IssueProperty, Map<String, Posting>> postings = new EnumMap<>(IssueProperty.class);
+    private final Set<Issue> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int size;
+    private volatile boolean isOutdated;
+
+    /**
+     * Creates a new index for the specified issues.
+     *
+     * @param issues
+     *         the issues to index
+     */
+    ReportIndex(final Iterable<Issue> issues) {
+        for (IssueProperty property : IssueProperty.values()) {
+            postings.put(property, new HashMap<>());
+        }
+        for (Issue issue : issues) {
+            add(issue);
+        }
+    }
+
+    /**
+     * Returns whether one of the indexed properties of an issue has been changed after this index has been created.
+     *
+     * @return {@code true} if this index is outdated and needs to be recreated, {@code false} otherwise
+     */
+    boolean isOutdated() {
+        return isOutdated;
+    }
+
+    /**
+     * Marks this index as outdated. Called by the indexed issues if one of their indexed properties has been changed.
+     */
+    void invalidate() {
+        isOutdated = true;
+        reference.clear(); // releases the registrations at all issues
+    }
+
+    /**
+     * Adds the specified issue to the index.
+     *
+     * @param issue
+     *         the issue to add
+     */
+    void add(final Issue issue) {
+        if (removed.contains(issue)) {
+            compact(); // the issue is appended again, so the old postings must not be visible anymore
+        }
+        issue.addIndex(reference); // register before reading the properties, see Issue#addIndex
+        severityCounts.merge(issue.getSeverity(), 1, Integer::sum);
+        for (Map.Entry<IssueProperty, Map<String, Posting>> entry : postings.entrySet()) {
+            entry.getValue().computeIfAbsent(entry.getKey().apply(issue), key -> new Posting()).add(issue);
+        }
+        size++;
+    }
+
+    /**
+     * Removes the specified issue from the index. The issue is not removed from the posting lists, it is marked as
+     * removed instead.
+     *
+     * @param issue
+     *         the issue to remove
+     */
+    void remove(final Issue issue) {
+        severityCounts.computeIfPresent(issue.getSeverity(), (severity, count) -> count == 1 ? null : count - 1);
+        for (Map.Entry<IssueProperty, Map<String, Posting>> entry : postings.entrySet()) {
+            entry.getValue().computeIfPresent(entry.getKey().apply(issue),
+                    (value, posting) -> posting.remove() ? posting : null);
+        }
+        size--;
+        issue.removeIndex(reference);
+
+        removed.add(issue);
+        if (removed.size() > size) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        for (Map<String, Posting> postingsOfProperty : postings.values()) {
+            postingsOfProperty.values().forEach(posting -> posting.issues.removeIf(removed::contains));
+        }
+        removed.clear();
+    }
+
+    /**
+     * Returns the number of issues with the specified severity.
+     *
+     * @param severity
+     *         the severity
+     *
+     * @return the number of issues
+     */
+    int getSizeOf(final Severity severity) {
+        return severityCounts.getOrDefault(severity, 0);
+    }
+
+    /**
+     * Returns the severities of all issues.
+     *
+     * @return the severities
+     */
+    Set<Severity> getSeverities() {
+        return severityCounts.keySet();
+    }
+
+    /**
+     * Returns the different values of the specified property.
+     *
+     * @param property
+     *         the property
+     *
+     * @return the values
+     */
+    Set<String> getValues(final IssueProperty property) {
+        return postings.get(property).keySet();
+    }
+
+    /**
+     * Returns the number of issues for each of the different values of the specified property.
+     *
+     * @param property
+     *         the property
+     *
+     * @return a mapping of: property value to the number of issues for that value
+     */
+    Map<String, Integer> getCounts(final IssueProperty property) {
+        Map<String, Posting> postingsOfProperty = postings.get(property);
+        Map<String, Integer> counts = new HashMap<>(postingsOfProperty.size() * 4 / 3 + 1);
+        postingsOfProperty.forEach((value, posting) -> counts.put(value, posting.size));
+        return counts;
+    }
+
+    /**
+     * Returns the issues with the specified value of a property, in the order of the report.
+     *
+     * @param property
+     *         the property
+     * @param value
+     *         the value
+     *
+     * @return the issues
+     */
+    List<Issue> find(final IssueProperty property, final String value) {
+        Posting posting = postings.get(property).get(value);
+        if (posting == null) {
+            return Collections.emptyList();
+        }
+        if (removed.isEmpty()) {
+            return Collections.unmodifiableList(posting.issues);
+        }
+        return posting.issues.stream().filter(issue -> !removed.contains(issue)).collect(Collectors.toList());
+    }
+
+    /**
+     * The issues with the same value of a property. The list of issues may contain removed issues, the size counts
+     * only the issues that have not been removed.
+     */
+    private static final class Posting {
+        private final List<Issue> issues = new ArrayList<>();
+        private int size;
+
+        void add(final Issue issue) {
+            issues.add(issue);
+            size++;
+        }
+
+        /**
+         * Decrements the number of issues with this value.
+         *
+         * @return {@code true} if there are remaining issues, {@code false} if the posting is empty
+         */
+        boolean remove() {
+            size--;
+            return size > 0;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.collections.api.map.primitive.ImmutableObjectIntMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMap;
+
+import edu.hm.hafner.util.NoSuchElementException;
+
+/**
+ * An immutable summary of the issues of a {@link Report}: contains the number of issues per severity and the number of
+ * issues for every value of a selected set of properties. All values of a summary are computed in a single pass over
+ * the issues of a report, see {@link Report#summarize(String...)}.
+ *
+ * @author Ullrich Hafner
+ */
+public final class ReportSummary {
+    private final int size;
+    private final ImmutableObjectIntMap<Severity> severityCounts;
+    private final Map<String, ImmutableObjectIntMap<String>> propertyCounts;
+
+    private ReportSummary(final int size, final ImmutableObjectIntMap<Severity> severityCounts,
+            final Map<String, ImmutableObjectIntMap<String>> propertyCounts) {
+        this.size = size;
+        this.severityCounts = severityCounts;
+        this.propertyCounts = Collections.unmodifiableMap(propertyCounts);
+    }
+
+    /**
+     * Returns the total number of issues.
+     *
+     * @return total number of issues
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of issues with the specified {@link Severity}.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues with the specified severity
+     */
+    public int getSizeOf(final Severity severity) {
+        return severityCounts.get(severity);
+    }
+
+    /**
+     * Returns the severities of all issues.
+     *
+     * @return the severities
+     */
+    public Set<Severity> getSeverities() {
+        return severityCounts.keySet();
+    }
+
+    /**
+     * Returns the names of the properties that have been summarized.
+     *
+     * @return the names of the properties
+     */
+    public Set<String> getPropertyNames() {
+        return propertyCounts.keySet();
+    }
+
+    /**
+     * Returns the number of occurrences for every existing value of the specified property.
+     *
+     * @param propertyName
+     *         the name of the property, must be one of the summarized properties
+     *
+     * @return a mapping of: property value to the number of issues for that value
+     * @throws NoSuchElementException
+     *         if the property has not been summarized
+     */
+    public ImmutableObjectIntMap<String> getPropertyCount(final String propertyName) {
+        ImmutableObjectIntMap<String> counts = propertyCounts.get(propertyName);
+        if (counts == null) {
+            throw new NoSuchElementException("Property '%s' has not been summarized, available properties: %s",
+                    propertyName, propertyCounts.keySet());
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the different values of the specified property.
+     *
+     * @param propertyName
+     *         the name of the property, must be one of the summarized properties
+     *
+     * @return the set of different values
+     * @throws NoSuchElementException
+     *         if the property has not been summarized
+     */
+    public Set<String> getProperties(final String propertyName) {
+        return getPropertyCount(propertyName).keySet();
+    }
+
+    /**
+     * Counts the issues per severity and per value of the selected properties. Uses primitive counters for all values.
+     * Several instances can be used to count disjoint subsets of the issues in parallel, the results are combined
+     * using {@link #merge(Aggregator)} afterwards.
+     */
+    static final class Aggregator {
+        private final List<String> propertyNames;
+        private final List<Function<Issue, String>> getters = new ArrayList<>();
+        private final ObjectIntHashMap<Severity> severityCounts = new ObjectIntHashMap<>();
+        private final List<ObjectIntHashMap<String>> propertyCounts = new ArrayList<>();
+        private int size;
+
+        /**
+         * Creates a new instance of {@link Aggregator}.
+         *
+         * @param propertyNames
+         *         the names of the properties to count the values of
+         *
+         * @see Issue#getPropertyValueGetter(String)
+         */
+        Aggregator(final List<String> propertyNames) {
+            this.propertyNames = propertyNames;
+            for (String propertyName : propertyNames) {
+                getters.add(Issue.getPropertyValueGetter(propertyName));
+                propertyCounts.add(new ObjectIntHashMap<>());
+            }
+        }
+
+        /**
+         * Counts the specified issue.
+         *
+         * @param issue
+         *         the issue to count
+         */
+        void add(final Issue issue) {
+            size++;
+            severityCounts.addToValue(issue.getSeverity(), 1);
+            for (int i = 0; i < getters.size(); i++) {
+                propertyCounts.get(i).addToValue(getters.get(i).apply(issue), 1);
+            }
+        }
+
+        /**
+         * Adds the counters of the specified aggregator to the counters of this aggregator.
+         *
+         * @param other
+         *         the aggregator of the same properties
+         */
+        void merge(final Aggregator other) {
+            size += other.size;
+            other.severityCounts.forEachKeyValue(severityCounts::addToValue);
+            for (int i = 0; i < propertyCounts.size(); i++) {
+                other.propertyCounts.get(i).forEachKeyValue(propertyCounts.get(i)::addToValue);
+            }
+        }
+
+        /**
+         * Creates an immutable summary of the counted issues.
+         *
+         * @return the summary
+         */
+        ReportSummary toSummary() {
+            Map<String, ImmutableObjectIntMap<String>> counts = new LinkedHashMap<>();
+            for (int i = 0; i < propertyNames.size(); i++) {
+                counts.put(propertyNames.get(i), propertyCounts.get(i).toImmutable());
+            }
+            return new ReportSummary(size, severityCounts.toImmutable(), counts);
+        }
+    }
+}
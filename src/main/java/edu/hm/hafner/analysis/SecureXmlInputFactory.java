@@ -0,0 +1,47 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Reader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Creates secure StAX {@link XMLStreamReader} instances that neither support DTDs nor resolve external entities. These
+ * readers can be used to parse large XML reports in a streaming fashion, i.e. without building a document or bean graph
+ * of the whole report.
+ *
+ * @author Ullrich Hafner
+ */
+public final class SecureXmlInputFactory {
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setXMLResolver((publicId, systemId, baseUri, namespace) -> {
+            throw new XMLStreamException("External entities are not supported: " + systemId);
+        });
+        return factory;
+    }
+
+    /**
+     * Creates a new {@link XMLStreamReader} for the specified reader.
+     *
+     * @param reader
+     *         the reader to read the XML content from
+     *
+     * @return the XML stream reader
+     * @throws XMLStreamException
+     *         if the reader could not be created
+     */
+    public static XMLStreamReader createXmlStreamReader(final Reader reader) throws XMLStreamException {
+        return FACTORY.createXMLStreamReader(reader);
+    }
+
+    private SecureXmlInputFactory() {
+        // prevents instantiation
+    }
+}
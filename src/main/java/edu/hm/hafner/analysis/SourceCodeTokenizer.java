@@ -0,0 +1,109 @@
+package edu.hm.hafner.analysis;
+
+/**
+ * A lightweight and language agnostic tokenizer that normalizes the lines of a source code file. Whitespace and
+ * comments are removed, the remaining tokens are separated by a single blank. So the normalized lines do not change
+ * if a file is reformatted or if comments are changed.
+ * <p>
+ * The tokenizer recognizes the following elements:
+ * </p>
+ * <ul>
+ *     <li>line comments that start with {@code //}, or with {@code #} followed by whitespace</li>
+ *     <li>block comments that start with {@code /*} and end with <code>*&#47;</code> (even in a subsequent line)</li>
+ *     <li>string and character literals in double or single quotes, these are copied verbatim</li>
+ *     <li>words that consist of letters, digits, {@code _} or {@code $}</li>
+ *     <li>all other characters are tokens of a single character</li>
+ * </ul>
+ * <p>
+ * A tokenizer is stateful since block comments may span several lines: the lines of a file need to be normalized in
+ * the order of the file using the same instance. This class is not thread-safe.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+class SourceCodeTokenizer {
+    private final StringBuilder normalized = new StringBuilder();
+    private boolean isInBlockComment;
+
+    /**
+     * Normalizes the specified line.
+     *
+     * @param line
+     *         the next line of the file
+     *
+     * @return the tokens of the line separated by a single blank, an empty string if the line contains only whitespace
+     *         and comments
+     */
+    String normalize(final String line) {
+        normalized.setLength(0);
+
+        int length = line.length();
+        int position = 0;
+        while (position < length) {
+            if (isInBlockComment) {
+                int end = line.indexOf("*/", position);
+                if (end < 0) {
+                    break;
+                }
+                isInBlockComment = false;
+                position = end + 2;
+                continue;
+            }
+
+            char c = line.charAt(position);
+            if (Character.isWhitespace(c)) {
+                position++;
+            }
+            else if (c == '/' && position + 1 < length && line.charAt(position + 1) == '/') {
+                break;
+            }
+            else if (c == '#' && (position + 1 == length || Character.isWhitespace(line.charAt(position + 1)))) {
+                break;
+            }
+            else if (c == '/' && position + 1 < length && line.charAt(position + 1) == '*') {
+                isInBlockComment = true;
+                position += 2;
+            }
+            else if (c == '"' || c == '\'') {
+                position = appendToken(line, position, skipLiteral(line, position, c));
+            }
+            else if (isWordCharacter(c)) {
+                int end = position + 1;
+                while (end < length && isWordCharacter(line.charAt(end))) {
+                    end++;
+                }
+                position = appendToken(line, position, end);
+            }
+            else {
+                position = appendToken(line, position, position + 1);
+            }
+        }
+        return normalized.toString();
+    }
+
+    private int skipLiteral(final String line, final int start, final char quote) {
+        int position = start + 1;
+        while (position < line.length()) {
+            char c = line.charAt(position++);
+            if (c == '\\') {
+                position++;
+            }
+            else if (c == quote) {
+                return position;
+            }
+        }
+        return line.length(); // unterminated literals end with the line
+    }
+
+    private int appendToken(final String line, final int start, final int end) {
+        if (normalized.length() > 0) {
+            normalized.append(' ');
+        }
+        normalized.append(line, start, Math.min(end, line.length()));
+        return end;
+    }
+
+    private boolean isWordCharacter(final char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+}
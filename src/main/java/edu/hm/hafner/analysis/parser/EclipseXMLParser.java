@@ -1,10 +1,15 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.io.IOException;
+import java.io.Reader;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
+import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
@@ -14,8 +19,11 @@ import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlInputFactory;
 import edu.hm.hafner.util.XmlElementUtil;
 
+import static edu.hm.hafner.util.XmlStreamUtil.*;
+
 /**
  * Parser for Eclipse Compiler output in XML format.
  * 
@@ -31,6 +39,120 @@ public class EclipseXMLParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
+        try (Reader reader = readerFactory.create()) {
+            return parseStream(SecureXmlInputFactory.createXmlStreamReader(reader));
+        }
+        catch (XMLStreamException exception) {
+            return parseDocument(readerFactory);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Parses the report using a StAX stream. Each element of the report is visited only once, so the parsing time
+     * grows linearly with the size of the report.
+     *
+     * @param reader
+     *         the report to parse
+     *
+     * @return the issues
+     * @throws XMLStreamException
+     *         if the report could not be parsed with StAX
+     */
+    private Report parseStream(final XMLStreamReader reader) throws XMLStreamException {
+        try {
+            IssueBuilder issueBuilder = new IssueBuilder();
+            Report report = new Report();
+
+            if (nextChildElement(reader) && "compiler".equals(reader.getLocalName())) {
+                while (nextChildElement(reader)) {
+                    if ("sources".equals(reader.getLocalName())) {
+                        parseSources(reader, issueBuilder, report);
+                    }
+                    else {
+                        skipElement(reader);
+                    }
+                }
+            }
+
+            return report;
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    private void parseSources(final XMLStreamReader reader, final IssueBuilder issueBuilder, final Report report)
+            throws XMLStreamException {
+        while (nextChildElement(reader)) {
+            if ("source".equals(reader.getLocalName())) {
+                issueBuilder.setFileName(getAttribute(reader, "path"));
+                while (nextChildElement(reader)) {
+                    if ("problems".equals(reader.getLocalName())) {
+                        parseProblems(reader, issueBuilder, report);
+                    }
+                    else {
+                        skipElement(reader);
+                    }
+                }
+            }
+            else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    private void parseProblems(final XMLStreamReader reader, final IssueBuilder issueBuilder, final Report report)
+            throws XMLStreamException {
+        while (nextChildElement(reader)) {
+            if ("problem".equals(reader.getLocalName())) {
+                issueBuilder.guessSeverity(getAttribute(reader, "severity"))
+                        .setLineStart(getAttribute(reader, "line"));
+
+                String message = null;
+                String colStart = null;
+                String colEnd = null;
+                while (nextChildElement(reader)) {
+                    String element = reader.getLocalName();
+                    if ("message".equals(element) && message == null) {
+                        message = getOptionalAttribute(reader, "value");
+                    }
+                    else if ("source_context".equals(element)) {
+                        if (colStart == null) {
+                            colStart = getOptionalAttribute(reader, "sourceStart");
+                        }
+                        if (colEnd == null) {
+                            colEnd = getOptionalAttribute(reader, "sourceEnd");
+                        }
+                    }
+                    skipElement(reader);
+                }
+                issueBuilder.setMessage(StringUtils.defaultString(message));
+
+                // Use columns to make issue 'unique', range isn't useful for counting in the physical source.
+                issueBuilder.setAdditionalProperties(
+                        StringUtils.defaultString(colStart) + '-' + StringUtils.defaultString(colEnd));
+
+                report.add(issueBuilder.build());
+            }
+            else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    /**
+     * Parses the report using a DOM and XPath expressions. This fallback is used if the report could not be parsed
+     * with StAX.
+     *
+     * @param readerFactory
+     *         provides the report to parse
+     *
+     * @return the issues
+     */
+    private Report parseDocument(final ReaderFactory readerFactory) {
         try {
             Document doc = readerFactory.readDocument();
 
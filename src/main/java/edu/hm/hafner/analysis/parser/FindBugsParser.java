@@ -14,6 +14,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.commons.digester3.Digester;
 import org.apache.commons.lang3.StringUtils;
@@ -28,6 +31,7 @@ import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.SecureDigester;
+import edu.hm.hafner.analysis.SecureXmlInputFactory;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.util.VisibleForTesting;
 import edu.umd.cs.findbugs.BugAnnotation;
@@ -106,13 +110,23 @@ public class FindBugsParser extends IssueParser {
         Map<String, String> categories = new HashMap<>();
 
         try (Reader input = readerFactory.create()) {
-            List<XmlBugInstance> bugs = preParse(input);
-            for (XmlBugInstance bug : bugs) {
-                hashToMessageMapping.put(bug.getInstanceHash(), bug.getMessage());
-                categories.put(bug.getType(), bug.getCategory());
+            preParse(input, hashToMessageMapping, categories);
+        }
+        catch (XMLStreamException exception) {
+            hashToMessageMapping.clear();
+            categories.clear();
+            try (Reader input = readerFactory.create()) {
+                List<XmlBugInstance> bugs = preParse(input);
+                for (XmlBugInstance bug : bugs) {
+                    hashToMessageMapping.put(bug.getInstanceHash(), bug.getMessage());
+                    categories.put(bug.getType(), bug.getCategory());
+                }
+            }
+            catch (SAXException | IOException fallbackException) {
+                throw new ParsingException(fallbackException);
             }
         }
-        catch (SAXException | IOException exception) {
+        catch (IOException exception) {
             throw new ParsingException(exception);
         }
 
@@ -187,7 +201,63 @@ public class FindBugsParser extends IssueParser {
     /**
      * Pre-parses a file for some information not available from the FindBugs parser. Creates a mapping of FindBugs
      * warnings to messages. A bug is represented by its unique hash code. Also obtains original categories for bug
-     * types.
+     * types. The file is read using a StAX stream, so no intermediate beans are created for the bug instances.
+     *
+     * @param file
+     *         the FindBugs XML file
+     * @param hashToMessageMapping
+     *         the mapping of hash codes to messages that will be filled
+     * @param categories
+     *         the mapping from bug types to their categories that will be filled
+     *
+     * @throws XMLStreamException
+     *         if the file could not be parsed with StAX
+     */
+    private void preParse(final Reader file, final Map<String, String> hashToMessageMapping,
+            final Map<String, String> categories) throws XMLStreamException {
+        XMLStreamReader reader = SecureXmlInputFactory.createXmlStreamReader(file);
+        try {
+            int depth = 0;
+            boolean isBugCollection = false;
+            XmlBugInstance bug = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    String element = reader.getLocalName();
+                    if (depth == 1) {
+                        isBugCollection = "BugCollection".equals(element);
+                    }
+                    else if (depth == 2 && isBugCollection && "BugInstance".equals(element)) {
+                        bug = new XmlBugInstance();
+                        bug.setInstanceHash(reader.getAttributeValue(null, "instanceHash"));
+                        bug.setType(reader.getAttributeValue(null, "type"));
+                        bug.setCategory(reader.getAttributeValue(null, "category"));
+                    }
+                    else if (depth == 3 && bug != null && "LongMessage".equals(element)) {
+                        bug.setMessage(reader.getElementText().trim());
+                        depth--; // the element text has been read including the end element
+                    }
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == 2 && bug != null) {
+                        hashToMessageMapping.put(bug.getInstanceHash(), bug.getMessage());
+                        categories.put(bug.getType(), bug.getCategory());
+                        bug = null;
+                    }
+                    depth--;
+                }
+            }
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Pre-parses a file for some information not available from the FindBugs parser. Creates a mapping of FindBugs
+     * warnings to messages. A bug is represented by its unique hash code. Also obtains original categories for bug
+     * types. This {@link Digester} based variant is used if the file could not be parsed with StAX.
      *
      * @param file
      *         the FindBugs XML file
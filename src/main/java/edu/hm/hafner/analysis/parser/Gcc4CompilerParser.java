@@ -33,6 +33,11 @@ public class Gcc4CompilerParser extends RegexpLineParser {
         return line.contains("warning") || line.contains("error");
     }
 
+    @Override
+    public boolean supportsParallelParsing() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String message = matcher.group(5);
@@ -32,6 +32,11 @@ public class GccParser extends RegexpLineParser {
         super(GCC_WARNING_PATTERN);
     }
 
+    @Override
+    public boolean supportsParallelParsing() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         if (StringUtils.isNotBlank(matcher.group(7))) {
@@ -1,21 +1,31 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
 import java.util.Optional;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlInputFactory;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.util.XmlElementUtil;
 
+import static edu.hm.hafner.util.XmlStreamUtil.*;
+
 /**
  * A parser for IntelliJ IDEA inspections.
  *
@@ -24,8 +34,112 @@ import edu.hm.hafner.util.XmlElementUtil;
 public class IdeaInspectionParser extends IssueParser {
     private static final long serialVersionUID = 3307389086106375473L;
 
+    private static final String NO_VALUE = "-";
+
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
+        try (Reader reader = readerFactory.create()) {
+            return parseStream(SecureXmlInputFactory.createXmlStreamReader(reader));
+        }
+        catch (XMLStreamException exception) {
+            return parseDocument(readerFactory);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Parses the report using a StAX stream. Each element of the report is visited only once, so the parsing time
+     * grows linearly with the size of the report.
+     *
+     * @param reader
+     *         the report to parse
+     *
+     * @return the issues
+     * @throws XMLStreamException
+     *         if the report could not be parsed with StAX
+     */
+    private Report parseStream(final XMLStreamReader reader) throws XMLStreamException {
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && "problems".equals(reader.getLocalName())) {
+                    return parseProblems(reader);
+                }
+            }
+            return new Report();
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    private Report parseProblems(final XMLStreamReader reader) throws XMLStreamException {
+        Report problems = new Report();
+        while (nextChildElement(reader)) {
+            if ("problem".equals(reader.getLocalName())) {
+                parseProblem(reader).ifPresent(problems::add);
+            }
+            else {
+                skipElement(reader);
+            }
+        }
+        return problems;
+    }
+
+    private Optional<Issue> parseProblem(final XMLStreamReader reader) throws XMLStreamException {
+        String file = null;
+        String line = null;
+        String description = null;
+        String category = null;
+        String severity = null;
+        while (nextChildElement(reader)) {
+            String element = reader.getLocalName();
+            if ("file".equals(element) && file == null) {
+                file = readChildValue(reader);
+            }
+            else if ("line".equals(element) && line == null) {
+                line = readChildValue(reader);
+            }
+            else if ("description".equals(element) && description == null) {
+                description = readChildValue(reader);
+            }
+            else if ("problem_class".equals(element) && severity == null) {
+                severity = getAttribute(reader, "severity");
+                category = readTextContent(reader);
+            }
+            else {
+                skipElement(reader);
+            }
+        }
+        if (severity == null) {
+            return Optional.empty();
+        }
+        IssueBuilder builder = new IssueBuilder().setFileName(StringUtils.defaultString(file, NO_VALUE))
+                .setLineStart(Integer.parseInt(StringUtils.defaultString(line, NO_VALUE)))
+                .setCategory(StringEscapeUtils.unescapeXml(category))
+                .setMessage(StringEscapeUtils.unescapeXml(StringUtils.defaultString(description, NO_VALUE)))
+                .setSeverity(getPriority(severity));
+        return Optional.of(builder.build());
+    }
+
+    private String readChildValue(final XMLStreamReader reader) throws XMLStreamException {
+        String value = readTextContent(reader);
+        if (value.isEmpty()) {
+            return NO_VALUE;
+        }
+        return value;
+    }
+
+    /**
+     * Parses the report using a DOM. This fallback is used if the report could not be parsed with StAX.
+     *
+     * @param readerFactory
+     *         provides the report to parse
+     *
+     * @return the issues
+     */
+    private Report parseDocument(final ReaderFactory readerFactory) {
         Document document = readerFactory.readDocument();
 
         Element rootElement = (Element) document.getElementsByTagName("problems").item(0);
@@ -73,7 +187,7 @@ public class IdeaInspectionParser extends IssueParser {
                 return child.getNodeValue();
             }
         }
-        return "-";
+        return NO_VALUE;
     }
 }
 
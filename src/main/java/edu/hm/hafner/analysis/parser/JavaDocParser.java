@@ -39,6 +39,11 @@ public class JavaDocParser extends RegexpLineParser {
         return line.contains("error") && line.contains("ERROR");
     }
 
+    @Override
+    public boolean supportsParallelParsing() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String type = matcher.group(3);
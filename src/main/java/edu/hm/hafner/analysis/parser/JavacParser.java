@@ -42,6 +42,11 @@ public class JavacParser extends RegexpLineParser {
         return line.contains("[") || line.contains("w:");
     }
 
+    @Override
+    public boolean supportsParallelParsing() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String type = matcher.group(1);
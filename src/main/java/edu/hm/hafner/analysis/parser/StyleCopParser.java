@@ -1,6 +1,11 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.Document;
@@ -12,8 +17,12 @@ import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlInputFactory;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.util.XmlElementUtil;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import static edu.hm.hafner.util.XmlStreamUtil.*;
 import static java.lang.Integer.*;
 
 /**
@@ -24,15 +33,90 @@ import static java.lang.Integer.*;
 public class StyleCopParser extends IssueParser {
     private static final long serialVersionUID = 7846052338159003458L;
 
+    private static final String LEGACY_ROOT = "SourceAnalysisViolations";
+    private static final String ROOT = "StyleCopViolations";
+
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
+        try (Reader reader = readerFactory.create()) {
+            return parseStream(SecureXmlInputFactory.createXmlStreamReader(reader));
+        }
+        catch (XMLStreamException exception) {
+            return parseDocument(readerFactory);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Parses the report using a StAX stream. Each element of the report is visited only once, so the parsing time
+     * grows linearly with the size of the report.
+     *
+     * @param reader
+     *         the report to parse
+     *
+     * @return the issues
+     * @throws XMLStreamException
+     *         if the report could not be parsed with StAX
+     */
+    private Report parseStream(final XMLStreamReader reader) throws XMLStreamException {
+        try {
+            Report report = null;
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    String element = reader.getLocalName();
+                    if (LEGACY_ROOT.equals(element)) {
+                        return parseViolations(reader);
+                    }
+                    if (ROOT.equals(element) && report == null) {
+                        report = parseViolations(reader); // continue: the legacy parent node has precedence
+                    }
+                }
+            }
+            return report == null ? new Report() : report;
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    private Report parseViolations(final XMLStreamReader reader) throws XMLStreamException {
+        Report report = new Report();
+        while (nextChildElement(reader)) {
+            if ("Violation".equals(reader.getLocalName())) {
+                IssueBuilder builder = new IssueBuilder().setFileName(getAttribute(reader, "Source"))
+                        .setLineStart(getLineNumber(getOptionalAttribute(reader, "LineNumber")))
+                        .setCategory(getCategory(getAttribute(reader, "RuleNamespace"), getAttribute(reader, "RuleId")))
+                        .setType(getAttribute(reader, "Rule"))
+                        .setMessage(readTextContent(reader))
+                        .setSeverity(Severity.WARNING_NORMAL);
+
+                report.add(builder.build());
+            }
+            else {
+                skipElement(reader);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Parses the report using a DOM. This fallback is used if the report could not be parsed with StAX.
+     *
+     * @param readerFactory
+     *         provides the report to parse
+     *
+     * @return the issues
+     */
+    private Report parseDocument(final ReaderFactory readerFactory) {
         Document document = readerFactory.readDocument();
 
         // Pre v4.3 uses SourceAnalysisViolations as the parent node name
-        NodeList mainNode = document.getElementsByTagName("SourceAnalysisViolations");
+        NodeList mainNode = document.getElementsByTagName(LEGACY_ROOT);
         if (mainNode.getLength() == 0) {
             // v4.3 uses StyleCopViolations as the parent node name
-            mainNode = document.getElementsByTagName("StyleCopViolations");
+            mainNode = document.getElementsByTagName(ROOT);
         }
 
         Element rootElement = (Element) mainNode.item(0);
@@ -63,11 +147,13 @@ public class StyleCopParser extends IssueParser {
      * @return Category of violation
      */
     private String getCategory(final Element element) {
-        String ruleNameSpace = getString(element, "RuleNamespace");
+        return getCategory(getString(element, "RuleNamespace"), getString(element, "RuleId"));
+    }
 
+    private String getCategory(final String ruleNameSpace, final String ruleId) {
         int i = ruleNameSpace.lastIndexOf('.');
         if (i == -1) {
-            return getString(element, "RuleId");
+            return ruleId;
         }
         else {
             return ruleNameSpace.substring(i + 1);
@@ -108,4 +194,11 @@ public class StyleCopParser extends IssueParser {
             return 0;
         }
     }
+
+    private int getLineNumber(@Nullable final String lineNumber) {
+        if (lineNumber == null) {
+            return 0;
+        }
+        return parseInt(lineNumber);
+    }
 }
@@ -1,10 +1,15 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.io.IOException;
+import java.io.Reader;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
+import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
@@ -14,8 +19,11 @@ import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlInputFactory;
 import edu.hm.hafner.util.XmlElementUtil;
 
+import static edu.hm.hafner.util.XmlStreamUtil.*;
+
 /**
  * Parser for Taglist Maven Plugin output.
  * 
@@ -28,6 +36,130 @@ public class TaglistParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
+        try (Reader reader = readerFactory.create()) {
+            return parseStream(SecureXmlInputFactory.createXmlStreamReader(reader));
+        }
+        catch (XMLStreamException exception) {
+            return parseDocument(readerFactory);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Parses the report using a StAX stream. Each element of the report is visited only once, so the parsing time
+     * grows linearly with the size of the report.
+     *
+     * @param reader
+     *         the report to parse
+     *
+     * @return the issues
+     * @throws XMLStreamException
+     *         if the report could not be parsed with StAX
+     */
+    private Report parseStream(final XMLStreamReader reader) throws XMLStreamException {
+        try {
+            IssueBuilder issueBuilder = new IssueBuilder();
+            Report report = new Report();
+
+            if (nextChildElement(reader) && "report".equals(reader.getLocalName())) {
+                while (nextChildElement(reader)) {
+                    if ("tags".equals(reader.getLocalName())) {
+                        parseTags(reader, issueBuilder, report);
+                    }
+                    else {
+                        skipElement(reader);
+                    }
+                }
+            }
+
+            return report;
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    private void parseTags(final XMLStreamReader reader, final IssueBuilder issueBuilder, final Report report)
+            throws XMLStreamException {
+        while (nextChildElement(reader)) {
+            if ("tag".equals(reader.getLocalName())) {
+                issueBuilder.setCategory(getAttribute(reader, "name"));
+                while (nextChildElement(reader)) {
+                    if ("files".equals(reader.getLocalName())) {
+                        parseFiles(reader, issueBuilder, report);
+                    }
+                    else {
+                        skipElement(reader);
+                    }
+                }
+            }
+            else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    private void parseFiles(final XMLStreamReader reader, final IssueBuilder issueBuilder, final Report report)
+            throws XMLStreamException {
+        while (nextChildElement(reader)) {
+            if ("file".equals(reader.getLocalName())) {
+                issueBuilder.setFileName(getAttribute(reader, "name"));
+                while (nextChildElement(reader)) {
+                    if ("comments".equals(reader.getLocalName())) {
+                        parseComments(reader, issueBuilder, report);
+                    }
+                    else {
+                        skipElement(reader);
+                    }
+                }
+            }
+            else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    private void parseComments(final XMLStreamReader reader, final IssueBuilder issueBuilder, final Report report)
+            throws XMLStreamException {
+        while (nextChildElement(reader)) {
+            if ("comment".equals(reader.getLocalName())) {
+                String lineNumber = null;
+                String message = null;
+                while (nextChildElement(reader)) {
+                    String element = reader.getLocalName();
+                    if ("lineNumber".equals(element) && lineNumber == null) {
+                        lineNumber = readTextContent(reader);
+                    }
+                    else if ("comment".equals(element) && message == null) {
+                        message = readTextContent(reader);
+                    }
+                    else {
+                        skipElement(reader);
+                    }
+                }
+                issueBuilder.setLineStart(StringUtils.defaultString(lineNumber));
+                issueBuilder.setMessage(StringUtils.defaultString(message));
+
+                report.add(issueBuilder.build());
+            }
+            else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    /**
+     * Parses the report using a DOM and XPath expressions. This fallback is used if the report could not be parsed
+     * with StAX.
+     *
+     * @param readerFactory
+     *         provides the report to parse
+     *
+     * @return the issues
+     */
+    private Report parseDocument(final ReaderFactory readerFactory) {
         try {
             XPathFactory xPathFactory = XPathFactory.newInstance();
             XPath xPath = xPathFactory.newXPath();
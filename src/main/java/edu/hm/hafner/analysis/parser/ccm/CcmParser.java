@@ -25,17 +25,23 @@ package edu.hm.hafner.analysis.parser.ccm;
 
 import java.io.IOException;
 import java.io.Reader;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.commons.lang3.StringUtils;
 import org.xml.sax.SAXException;
 
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.SecureDigester;
+import edu.hm.hafner.analysis.SecureXmlInputFactory;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.IntegerParser;
 
 /**
  * A parser for CCM XML files.
@@ -47,9 +53,95 @@ public class CcmParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
-        Ccm report = parseCCMXmlFile(readerFactory);
+        try (Reader reader = readerFactory.create()) {
+            return parseStream(reader);
+        }
+        catch (XMLStreamException exception) {
+            return convert(parseCCMXmlFile(readerFactory));
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Parses the report using a StAX stream: each issue is added to the report as soon as the corresponding metric
+     * element has been read, so the memory consumption does not depend on the size of the report.
+     *
+     * @param input
+     *         the report to parse
+     *
+     * @return the issues
+     * @throws XMLStreamException
+     *         if the report could not be parsed with StAX
+     */
+    private Report parseStream(final Reader input) throws XMLStreamException {
+        XMLStreamReader reader = SecureXmlInputFactory.createXmlStreamReader(input);
+        try {
+            Report report = new Report();
+            IssueBuilder builder = new IssueBuilder();
+            int depth = 0;
+            Metric metric = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    String element = reader.getLocalName();
+                    if (depth == 1 && !"ccm".equals(element)) {
+                        throw new ParsingException("Input stream is not a CCM file.");
+                    }
+                    else if (depth == 2 && "metric".equals(element)) {
+                        metric = new Metric();
+                    }
+                    else if (depth == 3 && metric != null && setProperty(metric, element, reader)) {
+                        depth--; // the element text has been read including the end element
+                    }
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == 2 && metric != null) {
+                        report.add(convert(builder, metric));
+                        metric = null;
+                    }
+                    depth--;
+                }
+            }
+            builder.dedup();
+            return report;
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    private boolean setProperty(final Metric metric, final String element, final XMLStreamReader reader)
+            throws XMLStreamException {
+        switch (element) {
+            case "complexity":
+                metric.setComplexity(IntegerParser.parseInt(readText(reader)));
+                break;
+            case "unit":
+                metric.setUnit(readText(reader));
+                break;
+            case "classification":
+                metric.setClassification(readText(reader));
+                break;
+            case "file":
+                metric.setFile(readText(reader));
+                break;
+            case "startLineNumber":
+                metric.setStartLineNumber(IntegerParser.parseInt(readText(reader)));
+                break;
+            case "endLineNumber":
+                metric.setEndLineNumber(IntegerParser.parseInt(readText(reader)));
+                break;
+            default:
+                return false;
+        }
+        return true;
+    }
 
-        return convert(report);
+    private String readText(final XMLStreamReader reader) throws XMLStreamException {
+        return reader.getElementText().trim();
     }
 
     private Ccm parseCCMXmlFile(final ReaderFactory ccmXmlFile) {
@@ -86,24 +178,29 @@ public class CcmParser extends IssueParser {
     private Report convert(final Ccm collection) {
         Report report = new Report();
 
+        IssueBuilder builder = new IssueBuilder();
         for (Metric metric : collection.getMetrics()) {
-            Severity priority = calculateMetricPriority(metric);
-
-            String complexity = String.format("%s has a complexity of %d", metric.getUnit(), metric.getComplexity());
-
-            IssueBuilder builder = new IssueBuilder();
-            builder.setSeverity(priority)
-                    .setMessage(complexity)
-                    .setCategory(metric.getClassification())
-                    .setLineStart(metric.getStartLineNumber())
-                    .setLineEnd(metric.getEndLineNumber())
-                    .setFileName(metric.getFile());
-            report.add(builder.build());
+            report.add(convert(builder, metric));
         }
+        builder.dedup();
 
         return report;
     }
 
+    private Issue convert(final IssueBuilder builder, final Metric metric) {
+        Severity priority = calculateMetricPriority(metric);
+
+        String complexity = String.format("%s has a complexity of %d", metric.getUnit(), metric.getComplexity());
+
+        builder.setSeverity(priority)
+                .setMessage(complexity)
+                .setCategory(metric.getClassification())
+                .setLineStart(metric.getStartLineNumber())
+                .setLineEnd(metric.getEndLineNumber())
+                .setFileName(metric.getFile());
+        return builder.build();
+    }
+
     private Severity calculateMetricPriority(final Metric metric) {
         if (isMetricHighPriority(metric)) {
             return Severity.WARNING_HIGH;
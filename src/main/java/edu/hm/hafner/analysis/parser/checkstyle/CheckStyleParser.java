@@ -3,18 +3,24 @@ package edu.hm.hafner.analysis.parser.checkstyle;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.Optional;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.commons.digester3.Digester;
 import org.apache.commons.lang3.StringUtils;
 import org.xml.sax.SAXException;
 
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.SecureDigester;
+import edu.hm.hafner.analysis.SecureXmlInputFactory;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.IntegerParser;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
@@ -27,6 +33,82 @@ public class CheckStyleParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
+        try (Reader reader = readerFactory.create()) {
+            return parseStream(reader);
+        }
+        catch (XMLStreamException exception) {
+            return parseDocument(readerFactory);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Parses the report using a StAX stream: each issue is added to the report as soon as the corresponding XML element
+     * has been read, so the memory consumption does not depend on the size of the report.
+     *
+     * @param input
+     *         the report to parse
+     *
+     * @return the issues
+     * @throws XMLStreamException
+     *         if the report could not be parsed with StAX
+     */
+    private Report parseStream(final Reader input) throws XMLStreamException {
+        XMLStreamReader reader = SecureXmlInputFactory.createXmlStreamReader(input);
+        try {
+            Report report = new Report();
+            IssueBuilder builder = new IssueBuilder();
+            int depth = 0;
+            File file = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    String element = reader.getLocalName();
+                    if (depth == 1 && !"checkstyle".equals(element)) {
+                        throw new ParsingException("Input stream is not a Checkstyle file.");
+                    }
+                    else if (depth == 2 && "file".equals(element)) {
+                        file = new File();
+                        file.setName(reader.getAttributeValue(null, "name"));
+                    }
+                    else if (depth == 3 && file != null && "error".equals(element) && isValidWarning(file)) {
+                        Error error = new Error();
+                        error.setSource(reader.getAttributeValue(null, "source"));
+                        error.setSeverity(reader.getAttributeValue(null, "severity"));
+                        error.setMessage(reader.getAttributeValue(null, "message"));
+                        error.setLine(IntegerParser.parseInt(reader.getAttributeValue(null, "line")));
+                        error.setColumn(IntegerParser.parseInt(reader.getAttributeValue(null, "column")));
+                        report.add(convert(builder, file, error));
+                    }
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == 2) {
+                        file = null;
+                    }
+                    depth--;
+                }
+            }
+            builder.dedup();
+            return report;
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Parses the report using a {@link Digester} that creates the bean graph of the whole report. This fallback is used
+     * if the report could not be parsed with StAX.
+     *
+     * @param readerFactory
+     *         provides the report to parse
+     *
+     * @return the issues
+     */
+    private Report parseDocument(final ReaderFactory readerFactory) {
         Digester digester = new SecureDigester(CheckStyleParser.class);
 
         String rootXPath = "checkstyle";
@@ -67,26 +149,31 @@ public class CheckStyleParser extends IssueParser {
     private Report convert(final CheckStyle collection) {
         Report report = new Report();
 
+        IssueBuilder builder = new IssueBuilder();
         for (File file : collection.getFiles()) {
             if (isValidWarning(file)) {
                 for (Error error : file.getErrors()) {
-                    IssueBuilder builder = new IssueBuilder();
-                    mapPriority(error).ifPresent(builder::setSeverity);
-
-                    String source = error.getSource();
-                    builder.setType(getType(source));
-                    builder.setCategory(getCategory(source));
-                    builder.setMessage(error.getMessage());
-                    builder.setLineStart(error.getLine());
-                    builder.setFileName(file.getName());
-                    builder.setColumnStart(error.getColumn());
-                    report.add(builder.build());
+                    report.add(convert(builder, file, error));
                 }
             }
         }
+        builder.dedup();
         return report;
     }
 
+    private Issue convert(final IssueBuilder builder, final File file, final Error error) {
+        builder.setSeverity(mapPriority(error).orElse(null));
+
+        String source = error.getSource();
+        builder.setType(getType(source));
+        builder.setCategory(getCategory(source));
+        builder.setMessage(error.getMessage());
+        builder.setLineStart(error.getLine());
+        builder.setFileName(file.getName());
+        builder.setColumnStart(error.getColumn());
+        return builder.build();
+    }
+
     private String getCategory(@Nullable final String source) {
         return StringUtils.capitalize(getType(StringUtils.substringBeforeLast(source, ".")));
     }
@@ -2,17 +2,23 @@ package edu.hm.hafner.analysis.parser.pmd;
 
 import java.io.IOException;
 import java.io.Reader;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.commons.lang3.StringUtils;
 import org.xml.sax.SAXException;
 
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.SecureDigester;
+import edu.hm.hafner.analysis.SecureXmlInputFactory;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.IntegerParser;
 
 /**
  * A parser for PMD XML files.
@@ -29,6 +35,93 @@ public class PmdParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
+        try (Reader reader = readerFactory.create()) {
+            return parseStream(reader);
+        }
+        catch (XMLStreamException exception) {
+            return parseDocument(readerFactory);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Parses the report using a StAX stream: each issue is added to the report as soon as the corresponding XML element
+     * has been read, so the memory consumption does not depend on the size of the report.
+     *
+     * @param input
+     *         the report to parse
+     *
+     * @return the issues
+     * @throws XMLStreamException
+     *         if the report could not be parsed with StAX
+     */
+    private Report parseStream(final Reader input) throws XMLStreamException {
+        XMLStreamReader reader = SecureXmlInputFactory.createXmlStreamReader(input);
+        try {
+            Report report = new Report();
+            IssueBuilder builder = new IssueBuilder();
+            int depth = 0;
+            File file = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    String element = reader.getLocalName();
+                    if (depth == 1 && !"pmd".equals(element)) {
+                        throw new ParsingException("Input stream is not a PMD file.");
+                    }
+                    else if (depth == 2 && "file".equals(element)) {
+                        file = new File();
+                        file.setName(reader.getAttributeValue(null, "name"));
+                    }
+                    else if (depth == 3 && file != null && "violation".equals(element)) {
+                        Violation violation = new Violation();
+                        violation.setRule(reader.getAttributeValue(null, "rule"));
+                        violation.setRuleset(reader.getAttributeValue(null, "ruleset"));
+                        violation.setExternalInfoUrl(reader.getAttributeValue(null, "externalInfoUrl"));
+                        violation.setPackage(reader.getAttributeValue(null, "package"));
+                        violation.setPriority(parseInt(reader, "priority"));
+                        violation.setBeginline(parseInt(reader, "beginline"));
+                        violation.setEndline(parseInt(reader, "endline"));
+                        violation.setBegincolumn(parseInt(reader, "begincolumn"));
+                        violation.setEndcolumn(parseInt(reader, "endcolumn"));
+                        violation.setMessage(reader.getElementText().trim());
+                        depth--; // the element text has been read including the end element
+
+                        report.add(convert(builder, file, violation));
+                    }
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == 2) {
+                        file = null;
+                    }
+                    depth--;
+                }
+            }
+            builder.dedup();
+            return report;
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    private int parseInt(final XMLStreamReader reader, final String attribute) {
+        return IntegerParser.parseInt(reader.getAttributeValue(null, attribute));
+    }
+
+    /**
+     * Parses the report using a {@link org.apache.commons.digester3.Digester} that creates the bean graph of the whole
+     * report. This fallback is used if the report could not be parsed with StAX.
+     *
+     * @param readerFactory
+     *         provides the report to parse
+     *
+     * @return the issues
+     */
+    private Report parseDocument(final ReaderFactory readerFactory) {
         SecureDigester digester = new SecureDigester(PmdParser.class);
 
         String rootXPath = "pmd";
@@ -61,24 +154,30 @@ public class PmdParser extends IssueParser {
 
     private Report convert(final Pmd pmdIssues) {
         Report report = new Report();
+        IssueBuilder builder = new IssueBuilder();
         for (File file : pmdIssues.getFiles()) {
             for (Violation warning : file.getViolations()) {
-                IssueBuilder builder = new IssueBuilder().setSeverity(mapPriority(warning))
-                        .setMessage(createMessage(warning))
-                        .setCategory(warning.getRuleset())
-                        .setType(warning.getRule())
-                        .setLineStart(warning.getBeginline())
-                        .setLineEnd(warning.getEndline())
-                        .setPackageName(warning.getPackage())
-                        .setFileName(file.getName())
-                        .setColumnStart(warning.getBegincolumn())
-                        .setColumnEnd(warning.getEndcolumn());
-                report.add(builder.build());
+                report.add(convert(builder, file, warning));
             }
         }
+        builder.dedup();
         return report;
     }
 
+    private Issue convert(final IssueBuilder builder, final File file, final Violation warning) {
+        builder.setSeverity(mapPriority(warning))
+                .setMessage(createMessage(warning))
+                .setCategory(warning.getRuleset())
+                .setType(warning.getRule())
+                .setLineStart(warning.getBeginline())
+                .setLineEnd(warning.getEndline())
+                .setPackageName(warning.getPackage())
+                .setFileName(file.getName())
+                .setColumnStart(warning.getBegincolumn())
+                .setColumnEnd(warning.getEndcolumn());
+        return builder.build();
+    }
+
     private Severity mapPriority(final Violation warning) {
         if (warning.getPriority() < PMD_PRIORITY_MAPPED_TO_HIGH_PRIORITY) {
             return Severity.WARNING_HIGH;
@@ -1,6 +1,9 @@
 package edu.hm.hafner.analysis.parser.violations;
 
-import java.util.List;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
@@ -10,6 +13,7 @@ import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.VisibleForTesting;
 import se.bjurr.violations.lib.model.SEVERITY;
 import se.bjurr.violations.lib.model.Violation;
 import se.bjurr.violations.lib.parsers.ViolationsParser;
@@ -23,14 +27,21 @@ import se.bjurr.violations.lib.parsers.ViolationsParser;
 public abstract class AbstractViolationAdapter extends IssueParser {
     private static final long serialVersionUID = 7203311857999721045L;
 
+    /** Minimum number of characters that will be passed to a {@link ViolationsParser} in a single chunk. */
+    private static final int CHUNK_SIZE = 1 << 20;
+
     @SuppressWarnings({"illegalcatch", "OverlyBroadCatchBlock"})
     @Override
     public Report parse(final ReaderFactory readerFactory)
             throws ParsingCanceledException, ParsingException {
         try {
-            ViolationsParser parser = createParser();
-            List<Violation> violations = parser.parseReportOutput(readerFactory.readString());
-            return convertToReport(violations);
+            Report report = new Report();
+            parseViolations(readerFactory, violation -> {
+                if (isValid(violation)) {
+                    report.add(convertToIssue(violation));
+                }
+            });
+            return report;
         }
         catch (Exception exception) {
             throw new ParsingException(exception);
@@ -44,14 +55,79 @@ public abstract class AbstractViolationAdapter extends IssueParser {
      */
     protected abstract ViolationsParser createParser();
 
-    private Report convertToReport(final List<Violation> violations) {
-        Report report = new Report();
-        for (Violation violation : violations) {
-            if (isValid(violation)) {
-                report.add(convertToIssue(violation));
+    /**
+     * Parses the violations of the specified report and passes each violation to the specified consumer. If the
+     * {@link ViolationsParser} does not define a {@link #getRecordTerminator() record terminator}, then the whole
+     * report is read into a {@link String} that is passed to the parser. Otherwise, the report is split into chunks of
+     * complete records so that only a small part of the report needs to be held in memory. Sub-classes may override
+     * to stream the report with a native parser.
+     *
+     * @param readerFactory
+     *         the reader factory to get the report from
+     * @param consumer
+     *         the consumer of the parsed violations
+     *
+     * @throws Exception
+     *         if the report could not be parsed
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    protected void parseViolations(final ReaderFactory readerFactory, final Consumer<Violation> consumer)
+            throws Exception {
+        Optional<String> terminator = getRecordTerminator();
+        if (terminator.isPresent()) {
+            parseInChunks(readerFactory, terminator.get(), CHUNK_SIZE, consumer);
+        }
+        else {
+            createParser().parseReportOutput(readerFactory.readString()).forEach(consumer);
+        }
+    }
+
+    /**
+     * Returns the text that terminates a record in the report, e.g. the closing tag of an XML element or a newline.
+     * Sub-classes should return a terminator only if the {@link ViolationsParser} creates the same violations for any
+     * sequence of complete records as for the whole report. Then the report will be passed in chunks to the parser.
+     * This default implementation returns an empty terminator, i.e. the whole report will be passed to the parser.
+     *
+     * @return the terminator of a record
+     */
+    protected Optional<String> getRecordTerminator() {
+        return Optional.empty();
+    }
+
+    @VisibleForTesting
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    void parseInChunks(final ReaderFactory readerFactory, final String terminator, final int chunkSize,
+            final Consumer<Violation> consumer) throws Exception {
+        ViolationsParser parser = createParser();
+        StringBuilder chunk = new StringBuilder();
+        boolean isParsed = false;
+        try (Stream<String> lines = readerFactory.readStream()) {
+            int recordsEnd = 0;
+            boolean isFirstLine = true;
+            Iterator<String> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                int start = Math.max(recordsEnd, chunk.length() - terminator.length() + 1);
+                if (!isFirstLine) {
+                    chunk.append('\n');
+                }
+                chunk.append(iterator.next());
+                isFirstLine = false;
+
+                for (int end = chunk.indexOf(terminator, start); end >= 0;
+                        end = chunk.indexOf(terminator, recordsEnd)) {
+                    recordsEnd = end + terminator.length();
+                }
+                if (recordsEnd > 0 && chunk.length() >= chunkSize) {
+                    parser.parseReportOutput(chunk.substring(0, recordsEnd)).forEach(consumer);
+                    chunk.delete(0, recordsEnd);
+                    recordsEnd = 0;
+                    isParsed = true;
+                }
             }
         }
-        return report;
+        if (chunk.length() > 0 || !isParsed) {
+            parser.parseReportOutput(chunk.toString()).forEach(consumer);
+        }
     }
 
     /**
@@ -1,5 +1,7 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.Optional;
+
 import se.bjurr.violations.lib.parsers.AndroidLintParser;
 
 /**
@@ -14,4 +16,9 @@ public class AndroidLintParserAdapter extends AbstractViolationAdapter {
     protected AndroidLintParser createParser() {
         return new AndroidLintParser();
     }
+
+    @Override
+    protected Optional<String> getRecordTerminator() {
+        return Optional.of("</issue>");
+    }
 }
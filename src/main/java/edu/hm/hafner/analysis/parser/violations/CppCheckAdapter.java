@@ -1,5 +1,7 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.Optional;
+
 import se.bjurr.violations.lib.parsers.CPPCheckParser;
 
 /**
@@ -14,4 +16,9 @@ public class CppCheckAdapter extends AbstractViolationAdapter {
     protected CPPCheckParser createParser() {
         return new CPPCheckParser();
     }
+
+    @Override
+    protected Optional<String> getRecordTerminator() {
+        return Optional.of("</error>");
+    }
 }
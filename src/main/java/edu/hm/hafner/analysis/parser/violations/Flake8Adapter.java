@@ -1,5 +1,7 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.Optional;
+
 import se.bjurr.violations.lib.parsers.Flake8Parser;
 
 /**
@@ -14,4 +16,9 @@ public class Flake8Adapter extends AbstractViolationAdapter {
     protected Flake8Parser createParser() {
         return new Flake8Parser();
     }
+
+    @Override
+    protected Optional<String> getRecordTerminator() {
+        return Optional.of("\n");
+    }
 }
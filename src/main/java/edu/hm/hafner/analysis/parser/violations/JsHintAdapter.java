@@ -1,5 +1,7 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.Optional;
+
 import se.bjurr.violations.lib.parsers.JSHintParser;
 
 /**
@@ -14,4 +16,9 @@ public class JsHintAdapter extends AbstractViolationAdapter {
     protected JSHintParser createParser() {
         return new JSHintParser();
     }
+
+    @Override
+    protected Optional<String> getRecordTerminator() {
+        return Optional.of("</file>");
+    }
 }
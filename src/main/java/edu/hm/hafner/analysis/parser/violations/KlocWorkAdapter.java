@@ -1,17 +1,106 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.SecureXmlInputFactory;
+import se.bjurr.violations.lib.model.SEVERITY;
+import se.bjurr.violations.lib.model.Violation;
 import se.bjurr.violations.lib.parsers.KlocworkParser;
+import se.bjurr.violations.lib.reports.Parser;
 
 /**
- * Parses Klocwork files.
+ * Parses Klocwork files. The report is streamed with StAX directly from the reader factory, the violations are the
+ * same as the ones of the {@link KlocworkParser}.
  *
  * @author Ullrich Hafner
  */
 public class KlocWorkAdapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = 5676554459268768313L;
 
+    private static final String PROBLEM = "problem";
+
     @Override
     protected KlocworkParser createParser() {
         return new KlocworkParser();
     }
+
+    @Override
+    protected void parseViolations(final ReaderFactory readerFactory, final Consumer<Violation> consumer)
+            throws IOException, XMLStreamException {
+        try (Reader reader = readerFactory.create()) {
+            XMLStreamReader stream = SecureXmlInputFactory.createXmlStreamReader(reader);
+            try {
+                while (stream.hasNext()) {
+                    if (stream.next() == XMLStreamConstants.START_ELEMENT
+                            && PROBLEM.equalsIgnoreCase(stream.getLocalName())) {
+                        consumer.accept(parseProblem(stream));
+                    }
+                }
+            }
+            finally {
+                stream.close();
+            }
+        }
+    }
+
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private Violation parseProblem(final XMLStreamReader stream) throws XMLStreamException {
+        String file = null;
+        String message = null;
+        String code = null;
+        int severityLevel = 0;
+        String method = null;
+        String url = null;
+        while (stream.hasNext()) {
+            int event = stream.next();
+            if (event == XMLStreamConstants.END_ELEMENT && PROBLEM.equalsIgnoreCase(stream.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = stream.getLocalName();
+                if ("file".equalsIgnoreCase(name)) {
+                    file = stream.getElementText();
+                }
+                else if ("message".equalsIgnoreCase(name)) {
+                    message = stream.getElementText();
+                }
+                else if ("code".equalsIgnoreCase(name)) {
+                    code = stream.getElementText();
+                }
+                else if ("severitylevel".equalsIgnoreCase(name)) {
+                    severityLevel = Integer.parseInt(stream.getElementText());
+                }
+                else if ("method".equalsIgnoreCase(name)) {
+                    method = stream.getElementText();
+                }
+                else if ("url".equalsIgnoreCase(name)) {
+                    url = stream.getElementText();
+                }
+            }
+        }
+        return Violation.violationBuilder()
+                .setParser(Parser.KLOCWORK)
+                .setFile(file)
+                .setMessage("In method " + method + ". " + message + " " + url)
+                .setRule(code)
+                .setSeverity(toSeverity(severityLevel))
+                .setStartLine(1)
+                .build();
+    }
+
+    private SEVERITY toSeverity(final int severityLevel) {
+        if (severityLevel <= 2) {
+            return SEVERITY.ERROR;
+        }
+        if (severityLevel <= 3) {
+            return SEVERITY.WARN;
+        }
+        return SEVERITY.INFO;
+    }
 }
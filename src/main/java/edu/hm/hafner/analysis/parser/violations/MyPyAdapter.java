@@ -1,5 +1,7 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.Optional;
+
 import se.bjurr.violations.lib.parsers.MyPyParser;
 
 /**
@@ -14,4 +16,9 @@ public class MyPyAdapter extends AbstractViolationAdapter {
     protected MyPyParser createParser() {
         return new MyPyParser();
     }
+
+    @Override
+    protected Optional<String> getRecordTerminator() {
+        return Optional.of("\n");
+    }
 }
@@ -1,5 +1,7 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.Optional;
+
 import se.bjurr.violations.lib.parsers.YAMLlintParser;
 
 /**
@@ -14,4 +16,9 @@ public class YamlLintAdapter extends AbstractViolationAdapter {
     protected YAMLlintParser createParser() {
         return new YAMLlintParser();
     }
+
+    @Override
+    protected Optional<String> getRecordTerminator() {
+        return Optional.of("\n");
+    }
 }
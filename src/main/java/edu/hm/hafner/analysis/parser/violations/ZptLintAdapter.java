@@ -1,5 +1,7 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.Optional;
+
 import se.bjurr.violations.lib.parsers.ZPTLintParser;
 
 /**
@@ -14,4 +16,9 @@ public class ZptLintAdapter extends AbstractViolationAdapter {
     protected ZPTLintParser createParser() {
         return new ZPTLintParser();
     }
+
+    @Override
+    protected Optional<String> getRecordTerminator() {
+        return Optional.of("\n");
+    }
 }
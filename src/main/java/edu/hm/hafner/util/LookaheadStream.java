@@ -9,17 +9,18 @@ import org.apache.commons.lang3.StringUtils;
 
 /**
  * A stream of lines with a lookahead of one line. Useful to parse a stream of lines when it is required to check if the
- * next line matches a given regular expression.
+ * next line matches a given regular expression. The lines may be provided as any kind of {@link CharSequence}: a line
+ * is converted to a {@link String} only if it is requested by {@link #next()}.
  *
  * @author Ullrich Hafner
  */
 public class LookaheadStream implements AutoCloseable {
-    private final Stream<String> stream;
-    private final Iterator<String> lineIterator;
+    private final Stream<? extends CharSequence> stream;
+    private final Iterator<? extends CharSequence> lineIterator;
 
     private boolean isLookaheadFilled = false;
-    private String lookaheadLine = StringUtils.EMPTY;
-    private int line = 0;
+    private CharSequence lookaheadLine = StringUtils.EMPTY;
+    private int line;
 
     /**
      * Wraps the specified stream of lines into a {@link LookaheadStream}.
@@ -27,9 +28,23 @@ public class LookaheadStream implements AutoCloseable {
      * @param stream
      *         the lines to wrap
      */
-    public LookaheadStream(final Stream<String> stream) {
+    public LookaheadStream(final Stream<? extends CharSequence> stream) {
+        this(stream, 1);
+    }
+
+    /**
+     * Wraps the specified stream of lines into a {@link LookaheadStream}. The stream does not start at the beginning of
+     * the underlying resource: the first line of the stream has the specified line number.
+     *
+     * @param stream
+     *         the lines to wrap
+     * @param firstLine
+     *         the line number of the first line in the stream
+     */
+    public LookaheadStream(final Stream<? extends CharSequence> stream, final int firstLine) {
         this.stream = stream;
         lineIterator = stream.iterator();
+        line = firstLine - 1;
     }
 
     @Override
@@ -75,6 +90,18 @@ public class LookaheadStream implements AutoCloseable {
      *         if the stream has no more elements
      */
     public String next() {
+        return nextCharSequence().toString();
+    }
+
+    /**
+     * Returns the next element in the stream. In contrast to {@link #next()} the element is not converted to a {@link
+     * String}.
+     *
+     * @return the next element in the stream
+     * @throws NoSuchElementException
+     *         if the stream has no more elements
+     */
+    public CharSequence nextCharSequence() {
         line++;
 
         if (isLookaheadFilled) {
@@ -87,7 +114,7 @@ public class LookaheadStream implements AutoCloseable {
     /**
      * Returns the line number of the line that has been handed out using the {@link #next()} method.
      *
-     * @return the current line, or 0 if no line has been handed out yet
+     * @return the current line, or the line before the first line if no line has been handed out yet
      */
     public int getLine() {
         return line;
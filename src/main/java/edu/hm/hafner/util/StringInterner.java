@@ -0,0 +1,135 @@
+package edu.hm.hafner.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Interns the strings of a group of objects that are created together, e.g. the properties of the issues of a report.
+ * Long strings that share common prefixes (like file names or messages) are interned as {@link TreeString} instances
+ * of a shared {@link TreeStringBuilder}. Short strings with a small number of different values (like categories or
+ * types) are interned in a string pool that is local to this interner, so the global pool of {@link String#intern()}
+ * is not filled with values that are not required anymore when the group of objects is gone.
+ * <p>
+ * The size of the interner is bounded: if the maximum number of strings has been interned into the current {@link
+ * TreeStringBuilder}, then a new builder will be started (the tree strings of the previous builder are still valid).
+ * If the local string pool is full, then the strings are interned using {@link String#intern()}. The builder and the
+ * pool are created on first use, so an interner that is used for a single object is cheap.
+ * </p>
+ * <p>
+ * Like the {@link TreeStringBuilder}, this interner is not thread-safe. The {@link TreeString}s returned from {@link
+ * #intern(String)} must not be shared with other threads until this interner is disposed or {@link #dedup()} has been
+ * called.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class StringInterner {
+    /** Default maximum number of strings that will be interned in a single {@link TreeStringBuilder}. */
+    static final int DEFAULT_MAXIMUM_SIZE = 100_000;
+
+    private final int maximumSize;
+    private final int maximumPoolSize;
+
+    @Nullable
+    private TreeStringBuilder builder;
+    private int size;
+    @Nullable
+    private Map<String, String> pool;
+
+    /**
+     * Creates a new {@link StringInterner} with the default maximum size.
+     */
+    public StringInterner() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new {@link StringInterner}.
+     *
+     * @param maximumSize
+     *         the maximum number of strings that will be interned in a single {@link TreeStringBuilder}, the local
+     *         string pool has the same maximum size
+     */
+    public StringInterner(final int maximumSize) {
+        this(maximumSize, maximumSize);
+    }
+
+    /**
+     * Creates a new {@link StringInterner}.
+     *
+     * @param maximumSize
+     *         the maximum number of strings that will be interned in a single {@link TreeStringBuilder}
+     * @param maximumPoolSize
+     *         the maximum number of strings in the local string pool, use 0 to intern all strings using {@link
+     *         String#intern()}
+     */
+    public StringInterner(final int maximumSize, final int maximumPoolSize) {
+        Ensure.that(maximumSize > 0).isTrue("Maximum size must be positive: %d", maximumSize);
+        Ensure.that(maximumPoolSize >= 0).isTrue("Maximum pool size must not be negative: %d", maximumPoolSize);
+
+        this.maximumSize = maximumSize;
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    /**
+     * Interns the specified string as {@link TreeString}. The returned tree string shares common prefixes with the
+     * other tree strings that have been interned so far.
+     *
+     * @param string
+     *         the string to intern
+     *
+     * @return the interned string
+     */
+    public TreeString intern(final String string) {
+        if (builder == null || size >= maximumSize) {
+            builder = new TreeStringBuilder();
+            size = 0;
+        }
+        size++;
+        return builder.intern(string);
+    }
+
+    /**
+     * Interns the specified string in the local string pool.
+     *
+     * @param string
+     *         the string to intern
+     *
+     * @return a string that has the same contents as the specified string, but is guaranteed to be from the pool of
+     *         unique strings
+     */
+    public String internString(final String string) {
+        if (maximumPoolSize == 0) {
+            return string.intern();
+        }
+        if (pool == null) {
+            pool = new HashMap<>();
+        }
+        String interned = pool.get(string);
+        if (interned != null) {
+            return interned;
+        }
+        if (pool.size() >= maximumPoolSize) {
+            return string.intern();
+        }
+        pool.put(string, string);
+        return string;
+    }
+
+    /**
+     * Further reduces the memory footprint of the interned {@link TreeString}s by finding the same labels across
+     * multiple {@link TreeString}s. Afterwards, all lookup structures are released: the tree strings that have been
+     * returned so far will not be changed anymore. If additional strings are interned, then a new {@link
+     * TreeStringBuilder} and a new string pool will be started.
+     */
+    public void dedup() {
+        if (builder != null) {
+            builder.dedup();
+        }
+        builder = null;
+        size = 0;
+        pool = null;
+    }
+}
@@ -81,13 +81,61 @@ public final class TreeString implements Serializable {
         return i;
     }
 
+    /**
+     * Returns the number of characters of the full string representation.
+     */
+    private int length() {
+        int length = 0;
+        for (TreeString p = this; p != null; p = p.parent) {
+            length += p.label.length;
+        }
+        return length;
+    }
+
     @Override
     public boolean equals(final Object rhs) {
-        if (rhs == null) {
+        if (this == rhs) {
+            return true;
+        }
+        if (rhs == null || rhs.getClass() != TreeString.class) {
             return false;
         }
-        return rhs.getClass() == TreeString.class
-                && ((TreeString) rhs).getLabel().equals(getLabel());
+        TreeString other = (TreeString) rhs;
+        return length() == other.length() && hasSameCharacters(other);
+    }
+
+    /**
+     * Compares the characters of this and the other tree string (that has the same length) from the end to the
+     * start. The comparison stops as soon as both tree strings reach the same position of a shared prefix node, so no
+     * strings are created.
+     */
+    private boolean hasSameCharacters(final TreeString other) {
+        TreeString left = this;
+        TreeString right = other;
+        int leftIndex = left.label.length;
+        int rightIndex = right.label.length;
+        while (true) {
+            while (leftIndex == 0) {
+                left = left.parent;
+                if (left == null) {
+                    return true; // both strings have the same length, so the other string is consumed as well
+                }
+                leftIndex = left.label.length;
+            }
+            while (rightIndex == 0) {
+                right = right.parent;
+                if (right == null) {
+                    return false;
+                }
+                rightIndex = right.label.length;
+            }
+            if (left == right && leftIndex == rightIndex) {
+                return true;
+            }
+            if (left.label[--leftIndex] != right.label[--rightIndex]) {
+                return false;
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,129 @@
+package edu.hm.hafner.util;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Provides some useful methods to process a StAX {@link XMLStreamReader}. These methods navigate through the children
+ * of an element, similar to the methods of {@link XmlElementUtil} for the DOM. The navigation requires a single pass
+ * over the XML stream only.
+ *
+ * @author Ullrich Hafner
+ */
+public final class XmlStreamUtil {
+    /**
+     * Moves the reader to the next child element of the current element. If the reader is positioned at the start of
+     * the document, then the reader is moved to the root element.
+     *
+     * @param reader
+     *         the reader positioned at the start of the parent element or at the end of a previous child element
+     *
+     * @return {@code true} if the reader has been moved to the start of the next child element, {@code false} if the
+     *         reader has been moved to the end of the parent element (or the end of the document)
+     * @throws XMLStreamException
+     *         if the XML stream is not valid
+     */
+    public static boolean nextChildElement(final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves the reader to the end of the current element, i.e. all children of the element will be skipped.
+     *
+     * @param reader
+     *         the reader positioned at the start of the element
+     *
+     * @throws XMLStreamException
+     *         if the XML stream is not valid
+     */
+    public static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            }
+            else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Returns the text content of the current element, i.e. the concatenated text of all descendants (like {@link
+     * org.w3c.dom.Node#getTextContent()}). Afterwards, the reader is positioned at the end of the element.
+     *
+     * @param reader
+     *         the reader positioned at the start of the element
+     *
+     * @return the text content of the element
+     * @throws XMLStreamException
+     *         if the XML stream is not valid
+     */
+    public static String readTextContent(final XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            }
+            else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+            else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE) {
+                text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Returns the value of the specified attribute of the current element.
+     *
+     * @param reader
+     *         the reader positioned at the start of the element
+     * @param name
+     *         the local name of the attribute
+     *
+     * @return the value of the attribute; "" if there is no such attribute (like {@link
+     *         org.w3c.dom.Element#getAttribute(String)})
+     */
+    public static String getAttribute(final XMLStreamReader reader, final String name) {
+        return StringUtils.defaultString(getOptionalAttribute(reader, name));
+    }
+
+    /**
+     * Returns the value of the specified attribute of the current element.
+     *
+     * @param reader
+     *         the reader positioned at the start of the element
+     * @param name
+     *         the local name of the attribute
+     *
+     * @return the value of the attribute; {@code null} if there is no such attribute
+     */
+    @Nullable
+    public static String getOptionalAttribute(final XMLStreamReader reader, final String name) {
+        return reader.getAttributeValue(null, name);
+    }
+
+    private XmlStreamUtil() {
+        // prevents instantiation
+    }
+}
@@ -1,6 +1,7 @@
 package edu.hm.hafner;
 
 import javax.xml.parsers.SAXParser;
+import javax.xml.stream.XMLInputFactory;
 
 import org.apache.commons.digester3.Digester;
 import org.apache.commons.digester3.binder.DigesterLoader;
@@ -33,11 +34,19 @@ class ArchitectureTest {
                     .orShould().callConstructor(Digester.class, XMLReader.class)
                     .orShould().callMethod(DigesterLoader.class, "newDigester");
 
-    /** Test classes should not be public (Junit 5). */
+    /** XMLInputFactory must not be used directly, rather use the SecureXmlInputFactory. */
+    @ArchTest
+    static final ArchRule NO_XML_INPUT_FACTORY_CREATED =
+            noClasses().that().dontHaveSimpleName("SecureXmlInputFactory")
+                    .should().callMethod(XMLInputFactory.class, "newFactory")
+                    .orShould().callMethod(XMLInputFactory.class, "newInstance");
+
+    /** Test classes should not be public (Junit 5). The test classes generated by JMH are public by design. */
     @ArchTest
     static final ArchRule NO_PUBLIC_TEST_CLASSES =
             noClasses().that().haveSimpleNameEndingWith("Test")
                     .and().dontHaveModifier(JavaModifier.ABSTRACT)
+                    .and().resideOutsideOfPackage("..benchmark.generated..")
                     .should().bePublic();
 
     /**
@@ -155,6 +155,7 @@ public abstract class AbstractParserTest extends ResourceTest {
         when(readerFactory.readDocument()).thenCallRealMethod();
         when(readerFactory.readString()).thenCallRealMethod();
         when(readerFactory.readStream()).thenCallRealMethod();
+        when(readerFactory.readCharSequences()).thenCallRealMethod();
         when(readerFactory.getCharset()).thenReturn(StandardCharsets.UTF_8);
         return readerFactory;
     }
@@ -168,6 +169,11 @@ public abstract class AbstractParserTest extends ResourceTest {
      * @return default file with issues
      */
     protected ReaderFactory createReaderFactory(final String fileName) {
-        return createReaderFactory(fileName, asInputStream(fileName));
+        ReaderFactory readerFactory = createReaderFactory();
+        when(readerFactory.getFileName()).thenReturn(fileName);
+        when(readerFactory.create()).thenAnswer(
+                invocation -> new InputStreamReader(asInputStream(fileName), StandardCharsets.UTF_8));
+
+        return readerFactory;
     }
 }
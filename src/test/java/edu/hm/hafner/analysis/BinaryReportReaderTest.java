@@ -0,0 +1,151 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the classes {@link BinaryReportReader} and {@link BinaryReportWriter}.
+ *
+ * @author Ullrich Hafner
+ */
+class BinaryReportReaderTest {
+    @Test
+    void shouldWriteAndReadReport() throws IOException {
+        Report report = createReport();
+
+        BinaryReportReader reader = new BinaryReportReader(write(report));
+
+        assertThat(reader.size()).isEqualTo(3);
+        assertThat(reader.getDuplicatesSize()).isEqualTo(1);
+        assertThat(reader.getInfoMessages()).containsExactly("Info 1", "Info 2");
+        assertThat(reader.getErrorMessages()).containsExactly("Error");
+
+        Report copy = reader.readReport();
+        assertThat(copy).isEqualTo(report);
+        assertThat(copy.getDuplicatesSize()).isEqualTo(1);
+        for (int i = 0; i < report.size(); i++) {
+            Issue expected = report.get(i);
+            Issue actual = copy.get(i);
+            assertThat(actual).isEqualTo(expected);
+            assertThat(actual.getId()).isEqualTo(expected.getId());
+            assertThat(actual.getLineRanges()).isEqualTo(expected.getLineRanges());
+            assertThat(actual.getAdditionalProperties()).isEqualTo(expected.getAdditionalProperties());
+        }
+    }
+
+    @Test
+    void shouldProvideCountsWithoutReadingIssues() throws IOException {
+        BinaryReportReader reader = new BinaryReportReader(write(createReport()));
+
+        assertThat(reader.getSeverities()).containsExactly(Severity.ERROR, Severity.WARNING_LOW);
+        assertThat(reader.getSizeOf(Severity.ERROR)).isEqualTo(2);
+        assertThat(reader.getSizeOf(Severity.WARNING_LOW)).isEqualTo(1);
+        assertThat(reader.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(0);
+        assertThat(reader.getFiles()).containsExactly("src/File.java", "src/Other.java");
+        assertThat(reader.getFileCounts()).containsEntry("src/File.java", 2).containsEntry("src/Other.java", 1);
+    }
+
+    @Test
+    void shouldReadIssuesIndividually() throws IOException {
+        Report report = createReport();
+        BinaryReportReader reader = new BinaryReportReader(write(report));
+
+        assertThat(reader.get(2)).isEqualTo(report.get(2));
+        assertThat(reader.get(0)).isEqualTo(report.get(0));
+        assertThat(reader.get(0).getModuleName()).isSameAs(reader.get(1).getModuleName());
+        assertThat(reader.get(0).getFileName()).isEqualTo(reader.get(1).getFileName())
+                .isNotSameAs(reader.get(1).getFileName());
+        assertThatThrownBy(() -> reader.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> reader.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldProvideHashCodesAndIdsWithoutReadingIssues() throws IOException {
+        Report report = createReport();
+        BinaryReportReader reader = new BinaryReportReader(write(report));
+
+        for (int i = 0; i < report.size(); i++) {
+            assertThat(reader.getHashCode(i)).isEqualTo(report.get(i).hashCode());
+            assertThat(reader.getId(i)).isEqualTo(report.get(i).getId());
+        }
+        assertThatThrownBy(() -> reader.getId(3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> reader.getHashCode(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldStreamIssuesToFile() throws IOException {
+        Path file = Files.createTempFile("report", ".bin");
+        try {
+            IssueBuilder builder = new IssueBuilder();
+            try (OutputStream output = Files.newOutputStream(file);
+                    BinaryReportWriter writer = new BinaryReportWriter(output)) {
+                for (int i = 0; i < 1000; i++) {
+                    writer.add(builder.setFileName("file-" + i % 10).setLineStart(i).setMessage("message").build());
+                }
+            }
+
+            BinaryReportReader reader = BinaryReportReader.open(file);
+            assertThat(reader.size()).isEqualTo(1000);
+            assertThat(reader.getFileCounts()).hasSize(10).containsEntry("file-3", 100);
+            assertThat(reader.get(999).getLineStart()).isEqualTo(999);
+            assertThat(reader.readReport()).hasSize(1000);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidContent() throws IOException {
+        assertThatThrownBy(() -> new BinaryReportReader(new byte[0])).isInstanceOf(ParsingException.class);
+        assertThatThrownBy(() -> new BinaryReportReader("Hello World, no report".getBytes()))
+                .isInstanceOf(ParsingException.class);
+
+        byte[] content = write(createReport());
+        byte[] truncated = Arrays.copyOf(content, content.length - 1);
+        assertThatThrownBy(() -> new BinaryReportReader(truncated)).isInstanceOf(ParsingException.class);
+    }
+
+    private byte[] write(final Report report) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BinaryReportWriter.write(report, output);
+        return output.toByteArray();
+    }
+
+    private Report createReport() {
+        LineRangeList lineRanges = new LineRangeList();
+        lineRanges.add(new LineRange(5, 10));
+        lineRanges.add(new LineRange(100, 100));
+
+        IssueBuilder builder = new IssueBuilder().setFileName("src/File.java")
+                .setPackageName("edu.hm.hafner")
+                .setModuleName("module")
+                .setCategory("Category")
+                .setType("Type")
+                .setSeverity(Severity.ERROR)
+                .setOrigin("origin")
+                .setReference("reference")
+                .setDescription("Description");
+
+        Report report = new Report();
+        report.add(builder.setLineStart(10).setLineEnd(5).setColumnStart(3).setColumnEnd(20)
+                .setMessage("Message ü").setLineRanges(lineRanges).setAdditionalProperties("additional").build());
+        report.add(builder.setLineStart(12).setLineEnd(12).setColumnStart(0).setColumnEnd(0)
+                .setMessage("Other message").setLineRanges(new LineRangeList()).setAdditionalProperties(null)
+                .setFingerprint("fingerprint").build());
+        report.add(builder.setFileName("src/Other.java").setSeverity(Severity.WARNING_LOW).build());
+        report.add(builder.build());
+        report.logInfo("Info 1");
+        report.logInfo("Info 2");
+        report.logError("Error");
+        return report;
+    }
+}
@@ -0,0 +1,193 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.util.SerializableTest;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link ColumnarIssueSet}.
+ *
+ * @author Ullrich Hafner
+ */
+class ColumnarIssueSetTest extends SerializableTest<ColumnarIssueSet> {
+    private static final String MODULE = "module";
+    private static final String FINGERPRINT = "fingerprint";
+
+    @Test
+    void shouldBehaveLikeLinkedHashSet() {
+        List<Issue> issues = createIssues(100);
+
+        ColumnarIssueSet columns = new ColumnarIssueSet();
+        Set<Issue> expected = new LinkedHashSet<>();
+        for (Issue issue : issues) {
+            assertThat(columns.add(issue)).isEqualTo(expected.add(issue));
+        }
+        assertThat(columns.add(issues.get(10))).isFalse();
+
+        assertThat(columns).hasSize(100).containsExactlyElementsOf(expected).isEqualTo(expected);
+        assertThat(columns.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(columns).allSatisfy(issue -> assertThat(columns.contains(issue)).isTrue());
+
+        assertThat(columns.remove(issues.get(0))).isTrue();
+        assertThat(columns.remove(issues.get(0))).isFalse();
+        assertThat(columns.remove(issues.get(99))).isTrue();
+        assertThat(columns.remove(issues.get(50))).isTrue();
+        assertThat(columns.remove("issue")).isFalse();
+        expected.remove(issues.get(0));
+        expected.remove(issues.get(99));
+        expected.remove(issues.get(50));
+
+        assertThat(columns).hasSize(97).containsExactlyElementsOf(expected).doesNotContain(issues.get(50));
+
+        assertThat(columns.add(issues.get(50))).isTrue();
+        assertThat(columns).hasSize(98).endsWith(issues.get(50));
+    }
+
+    @Test
+    void shouldFindIssuesById() {
+        List<Issue> issues = createIssues(50);
+        ColumnarIssueSet columns = new ColumnarIssueSet();
+        columns.addAll(issues);
+
+        assertThat(issues).allSatisfy(issue -> assertThat(columns.findById(issue.getId())).isEqualTo(issue));
+
+        columns.remove(issues.get(7));
+        assertThat(columns.findById(issues.get(7).getId())).isNull();
+        assertThat(columns.findById(issues.get(8).getId())).isEqualTo(issues.get(8));
+    }
+
+    @Test
+    void shouldProvideIssuesByPosition() {
+        List<Issue> issues = createIssues(20);
+        ColumnarIssueSet columns = new ColumnarIssueSet();
+        columns.addAll(issues);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(columns.get(i)).isEqualTo(issues.get(i));
+        }
+
+        columns.remove(issues.get(3));
+        assertThat(columns.get(2)).isEqualTo(issues.get(2));
+        assertThat(columns.get(3)).isEqualTo(issues.get(4));
+        columns.add(issues.get(3));
+        assertThat(columns.get(18)).isEqualTo(issues.get(19));
+        assertThat(columns.get(19)).isEqualTo(issues.get(3));
+    }
+
+    @Test
+    void shouldMaterializeAllProperties() {
+        IssueBuilder builder = new IssueBuilder();
+        Issue issue = builder.setFileName("path/to/file.txt")
+                .setLineStart(1).setLineEnd(2).setColumnStart(3).setColumnEnd(4)
+                .setCategory("category").setType("type")
+                .setPackageName("package").setModuleName(MODULE)
+                .setSeverity(Severity.ERROR)
+                .setMessage("message").setDescription("description")
+                .setOrigin("origin").setReference("reference")
+                .setFingerprint(FINGERPRINT)
+                .setAdditionalProperties("additional")
+                .setLineRanges(new LineRangeList(singletonList(new LineRange(5, 6))))
+                .build();
+
+        ColumnarIssueSet columns = new ColumnarIssueSet();
+        columns.add(issue);
+
+        Issue view = columns.iterator().next();
+        assertThat(view).isNotSameAs(issue).isEqualTo(issue);
+        assertThat(view.getId()).isEqualTo(issue.getId());
+        assertThat(view.getReference()).isEqualTo(issue.getReference());
+        assertThat(view.getFingerprint()).isEqualTo(issue.getFingerprint());
+        assertThat(view.toString()).isEqualTo(issue.toString());
+    }
+
+    @Test
+    void shouldWriteChangesOfViewsBack() {
+        List<Issue> issues = createIssues(3);
+        ColumnarIssueSet columns = new ColumnarIssueSet();
+        columns.addAll(issues);
+
+        for (Issue view : columns) {
+            view.setModuleName(MODULE);
+            view.setFingerprint(FINGERPRINT);
+        }
+
+        assertThat(columns).hasSize(3).allSatisfy(issue -> {
+            assertThat(issue.getModuleName()).isEqualTo(MODULE);
+            assertThat(issue.getFingerprint()).isEqualTo(FINGERPRINT);
+            assertThat(columns.contains(issue)).isTrue();
+        });
+        assertThat(columns).doesNotContainAnyElementsOf(issues);
+    }
+
+    @Test
+    void shouldIgnoreChangesOfRemovedViews() {
+        List<Issue> issues = createIssues(2);
+        ColumnarIssueSet columns = new ColumnarIssueSet();
+        columns.addAll(issues);
+
+        Iterator<Issue> iterator = columns.iterator();
+        Issue removed = iterator.next();
+        iterator.remove();
+        assertThatIllegalStateException().isThrownBy(iterator::remove);
+
+        removed.setModuleName(MODULE);
+
+        assertThat(columns).containsExactly(issues.get(1));
+        assertThat(iterator.next()).isEqualTo(issues.get(1));
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldRestoreIndexAfterDeserialization() throws IOException, ClassNotFoundException {
+        List<Issue> issues = createIssues(20);
+        ColumnarIssueSet columns = new ColumnarIssueSet();
+        columns.addAll(issues);
+        columns.remove(issues.get(3));
+
+        ColumnarIssueSet restored = restore(toByteArray(columns));
+
+        assertThat(restored).isEqualTo(columns).hasSize(19);
+        assertThat(restored.add(issues.get(4))).isFalse();
+        assertThat(restored.add(issues.get(3))).isTrue();
+        assertThat(restored.remove(issues.get(5))).isTrue();
+        assertThat(restored).hasSize(19).endsWith(issues.get(3)).doesNotContain(issues.get(5));
+    }
+
+    private ColumnarIssueSet restore(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (ColumnarIssueSet) stream.readObject();
+        }
+    }
+
+    private List<Issue> createIssues(final int size) {
+        IssueBuilder builder = new IssueBuilder();
+        List<Issue> issues = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            issues.add(builder.setFileName("file-" + i % 7)
+                    .setLineStart(i)
+                    .setCategory("category-" + i % 3)
+                    .setMessage("message-" + i)
+                    .build());
+        }
+        return issues;
+    }
+
+    @Override
+    protected ColumnarIssueSet createSerializable() {
+        ColumnarIssueSet columns = new ColumnarIssueSet();
+        columns.addAll(createIssues(5));
+        return columns;
+    }
+}
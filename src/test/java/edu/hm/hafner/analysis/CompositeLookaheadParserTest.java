@@ -0,0 +1,92 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.parser.ClangParser;
+import edu.hm.hafner.analysis.parser.ErrorProneParser;
+import edu.hm.hafner.analysis.parser.Gcc4CompilerParser;
+import edu.hm.hafner.analysis.parser.GccParser;
+import edu.hm.hafner.analysis.parser.JavacParser;
+import edu.hm.hafner.analysis.parser.MavenConsoleParser;
+import edu.hm.hafner.analysis.parser.MsBuildParser;
+import edu.hm.hafner.util.ResourceTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link CompositeLookaheadParser}.
+ *
+ * @author Ullrich Hafner
+ */
+class CompositeLookaheadParserTest extends ResourceTest {
+    private static final List<Supplier<LookaheadParser>> PARSERS = Arrays.asList(JavacParser::new,
+            Gcc4CompilerParser::new, GccParser::new, MsBuildParser::new, MavenConsoleParser::new, ClangParser::new,
+            ErrorProneParser::new);
+
+    @Test
+    void shouldCreateSameReportsAsIndividualParsers() {
+        String log = readLogs("gcc4.txt", "gnuMakeGcc.txt", "javac.txt", "msbuild.txt", "maven-console.txt",
+                "errorprone-maven.log", "apple-llvm-clang.txt");
+
+        List<Report> reports = createComposite().parse(new StringReaderFactory(log));
+
+        assertThat(reports).hasSize(PARSERS.size());
+        for (int i = 0; i < PARSERS.size(); i++) {
+            Report expected = PARSERS.get(i).get().parse(new StringReaderFactory(log));
+
+            assertThat(expected).isNotEmpty();
+            assertThat(reports.get(i)).containsExactlyElementsOf(expected);
+            assertThat(reports.get(i).getDuplicatesSize()).isEqualTo(expected.getDuplicatesSize());
+        }
+    }
+
+    @Test
+    void shouldProcessLogsThatAreLargerThanOneStep() {
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < 2500; i++) {
+            log.append(String.format("[WARNING] /build/src/Class%d.java:[%d,%d] deprecated%n", i, i + 1, i % 80));
+            log.append(String.format("src/file%d.c:%d:%d: warning: unused variable [-Wunused-variable]%n",
+                    i, i + 1, i % 80));
+        }
+
+        List<Report> reports = createComposite().parse(new StringReaderFactory(log.toString()));
+
+        assertThat(reports.get(0)).hasSize(2500);
+        assertThat(reports.get(1)).hasSize(2500);
+        for (int i = 0; i < PARSERS.size(); i++) {
+            Report expected = PARSERS.get(i).get().parse(new StringReaderFactory(log.toString()));
+
+            assertThat(reports.get(i)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void shouldReturnEmptyReportsForEmptyLog() {
+        List<Report> reports = createComposite().parse(new StringReaderFactory(""));
+
+        assertThat(reports).hasSize(PARSERS.size());
+        assertThat(reports).allSatisfy(report -> assertThat(report).isEmpty());
+    }
+
+    @Test
+    void shouldRejectEmptyListOfParsers() {
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(
+                () -> new CompositeLookaheadParser(Collections.emptyList()));
+    }
+
+    private CompositeLookaheadParser createComposite() {
+        return new CompositeLookaheadParser(PARSERS.stream().map(Supplier::get).collect(Collectors.toList()));
+    }
+
+    private String readLogs(final String... fileNames) {
+        return Arrays.stream(fileNames)
+                .map(fileName -> toString("parser/" + fileName))
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -5,6 +5,14 @@ import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -22,7 +30,9 @@ import static org.mockito.Mockito.*;
  */
 class FingerprintGeneratorTest extends ResourceTest {
     private static final String AFFECTED_FILE_NAME = "file.txt";
+    private static final String OTHER_FILE_NAME = "other.txt";
     private static final Charset CHARSET_AFFECTED_FILE = StandardCharsets.UTF_8;
+    private static final String CACHE_VARIANT = "MD5/RAW/UTF-8";
 
     @Test
     void shouldSkipFingerprintingIfEncodingIsWrong() throws IOException {
@@ -122,6 +132,114 @@ class FingerprintGeneratorTest extends ResourceTest {
         assertThat(referenceIssue.getFingerprint()).isNotEqualTo(currentIssue.getFingerprint());
     }
 
+    @Test
+    void shouldReadEachFileOnlyOnce() throws IOException {
+        Report report = new Report();
+        IssueBuilder builder = new IssueBuilder();
+        for (int line = 1; line <= 10; line++) {
+            report.add(builder.setFileName(AFFECTED_FILE_NAME).setLineStart(line).build());
+            report.add(builder.setFileName(OTHER_FILE_NAME).setLineStart(line).build());
+        }
+        FileSystem fileSystem = stubFileSystem("fingerprint-one.txt", "fingerprint-two.txt");
+
+        new FingerprintGenerator().run(new FullTextFingerprint(fileSystem), report, CHARSET_AFFECTED_FILE);
+
+        verify(fileSystem).readLinesFromFile(AFFECTED_FILE_NAME, CHARSET_AFFECTED_FILE);
+        verify(fileSystem).readLinesFromFile(OTHER_FILE_NAME, CHARSET_AFFECTED_FILE);
+        assertThat(report.getInfoMessages()).contains("-> created fingerprints for 20 issues");
+
+        FullTextFingerprint single = createFullTextFingerprint("fingerprint-one.txt", "fingerprint-two.txt");
+        assertThat(report.get(8).getFingerprint())
+                .isEqualTo(single.compute(AFFECTED_FILE_NAME, 5, CHARSET_AFFECTED_FILE));
+        assertThat(report.get(9).getFingerprint())
+                .isEqualTo(single.compute(OTHER_FILE_NAME, 5, CHARSET_AFFECTED_FILE));
+    }
+
+    @Test
+    void shouldTakeFingerprintsOfUnchangedFilesFromCache() throws IOException {
+        Report report = createTwoIssues();
+        FileSystem fileSystem = stubFileSystem("fingerprint-two.txt", "fingerprint-two.txt");
+        FingerprintCache cache = mock(FingerprintCache.class);
+        when(cache.get(anyString(), anyString())).thenReturn(Collections.emptyMap());
+        when(cache.getState(anyString())).thenReturn(Optional.of("state"));
+        when(cache.get(AFFECTED_FILE_NAME, CACHE_VARIANT))
+                .thenReturn(Collections.singletonMap(5, "cached"));
+
+        new FingerprintGenerator(cache).run(new FullTextFingerprint(fileSystem), report, CHARSET_AFFECTED_FILE);
+
+        verify(fileSystem, never()).readLinesFromFile(eq(AFFECTED_FILE_NAME), any());
+        verify(fileSystem).readLinesFromFile(OTHER_FILE_NAME, CHARSET_AFFECTED_FILE);
+        assertThat(report.get(0)).hasFingerprint("cached");
+
+        String computed = report.get(1).getFingerprint();
+        assertThat(computed).isNotEqualTo("cached");
+        verify(cache).put(OTHER_FILE_NAME, CACHE_VARIANT, "state", Collections.singletonMap(5, computed));
+        verify(cache).flush();
+        assertThat(report.getInfoMessages()).contains(
+                "-> created fingerprints for 2 issues", "-> fingerprint cache: 1 hits, 1 misses");
+    }
+
+    @Test
+    void shouldLogErrorIfCacheCannotBeWritten() throws IOException {
+        Report report = createTwoIssues();
+        FingerprintCache cache = mock(FingerprintCache.class);
+        when(cache.get(anyString(), anyString())).thenReturn(Collections.emptyMap());
+        when(cache.getState(anyString())).thenReturn(Optional.empty());
+        doThrow(new IOException("disk full")).when(cache).flush();
+
+        new FingerprintGenerator(cache).run(createFullTextFingerprint("fingerprint-one.txt", "fingerprint-two.txt"),
+                report, CHARSET_AFFECTED_FILE);
+
+        assertThat(report.get(0).getFingerprint()).isNotEqualTo(report.get(1).getFingerprint());
+        assertThat(report.getInfoMessages()).contains("-> fingerprint cache: 0 hits, 2 misses");
+        assertThat(report.getErrorMessages()).contains("Can't write fingerprint cache");
+    }
+
+    @Test
+    void shouldCreateSameFingerprintsInParallel() throws IOException {
+        Path folder = Files.createTempDirectory("fingerprints");
+        try {
+            Report sequential = new Report();
+            IssueBuilder builder = new IssueBuilder();
+            for (int file = 0; file < 20; file++) {
+                Path path = folder.resolve("file-" + file + ".txt");
+                if (file % 5 != 0) { // some files are missing
+                    List<String> content = new ArrayList<>();
+                    for (int line = 0; line < 100; line++) {
+                        content.add("Line " + line % (file + 3));
+                    }
+                    Files.write(path, content, CHARSET_AFFECTED_FILE);
+                }
+                for (int line = 0; line < 100; line += 7) {
+                    sequential.add(builder.setFileName(path.toString()).setLineStart(line).build());
+                }
+            }
+            sequential.add(new IssueBuilder().build());
+            Report parallel = new Report();
+            for (Issue issue : sequential) {
+                parallel.add(new IssueBuilder().copy(issue).build());
+            }
+
+            FingerprintGenerator generator = new FingerprintGenerator();
+            generator.run(new FullTextFingerprint(), sequential, CHARSET_AFFECTED_FILE);
+            generator.run(new FullTextFingerprint(), parallel, CHARSET_AFFECTED_FILE, 4);
+
+            for (int i = 0; i < sequential.size(); i++) {
+                assertThat(parallel.get(i).getFingerprint()).isEqualTo(sequential.get(i).getFingerprint());
+            }
+            assertThat(parallel.getInfoMessages()).isEqualTo(sequential.getInfoMessages());
+            assertThat(parallel.getErrorMessages()).isEqualTo(sequential.getErrorMessages()).hasSize(5);
+        }
+        finally {
+            try (Stream<Path> files = Files.list(folder)) {
+                for (Path file : files.collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(folder);
+        }
+    }
+
     @ParameterizedTest(name = "[{index}] Illegal filename")
     @ValueSource(strings = {"/does/not/exist", "!<>$&/&(", "\0 Null-Byte"})
     void shouldUseFallbackFingerprintOnError(final String fileName) {
@@ -149,7 +267,7 @@ class FingerprintGeneratorTest extends ResourceTest {
         builder.setFileName(AFFECTED_FILE_NAME);
         builder.setLineStart(5);
         report.add(builder.setPackageName("a").build());
-        report.add(builder.setPackageName("b").build());
+        report.add(builder.setPackageName("b").setFileName(OTHER_FILE_NAME).build());
         return report;
     }
 
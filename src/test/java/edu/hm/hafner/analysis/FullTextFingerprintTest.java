@@ -3,6 +3,8 @@ package edu.hm.hafner.analysis;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.NoSuchFileException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Iterator;
 
 import org.junit.jupiter.api.Test;
@@ -54,6 +56,28 @@ class FullTextFingerprintTest extends ResourceTest {
                 .as("Fingerprint for line numbers out of range should be empty").isEmpty();
     }
 
+    /**
+     * Verifies that the contexts of several lines are extracted in a single pass in the same way as the contexts of
+     * the individual lines.
+     */
+    @Test
+    void shouldExtractContextsOfAllLinesInSinglePass() {
+        String affectedFile = new String(readAllBytes("context.txt"), StandardCharsets.UTF_8);
+
+        FullTextFingerprint fingerprint = new FullTextFingerprint();
+
+        int[] lines = {30, 5, -1, 34, 0, 12, 5, 1, 33, 27, 2, Integer.MAX_VALUE};
+        String[] contexts = fingerprint.extractContexts(lines, asIterator(affectedFile));
+
+        assertThat(contexts).hasSize(lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertThat(contexts[i]).as("Context of line %d", lines[i])
+                    .isEqualTo(fingerprint.extractContext(lines[i], asIterator(affectedFile)));
+        }
+        assertThat(contexts[0]).isEqualTo("7890");
+        assertThat(contexts[1]).isEqualTo("2345678");
+    }
+
     /**
      * Verifies that the fingerprint of line 10 is the same as the fingerprint of line 20. All other lines should have a
      * different fingerprint.
@@ -79,6 +103,108 @@ class FullTextFingerprintTest extends ResourceTest {
         }
     }
 
+    /**
+     * Verifies that the fingerprints of the MD5 algorithm are the MD5 digests of the encoded contexts and that the
+     * other algorithms create stable fingerprints of the same contexts.
+     */
+    @Test
+    void shouldUseSelectedAlgorithm() throws NoSuchAlgorithmException {
+        String affectedFile = new String(readAllBytes("context.txt"), StandardCharsets.UTF_8);
+        Charset charset = StandardCharsets.UTF_16;
+
+        FullTextFingerprint md5 = new FullTextFingerprint();
+        FullTextFingerprint murmur = new FullTextFingerprint(FingerprintAlgorithm.MURMUR3_128);
+        assertThat(md5.getAlgorithm()).isSameAs(FingerprintAlgorithm.MD5);
+        assertThat(murmur.getAlgorithm()).isSameAs(FingerprintAlgorithm.MURMUR3_128);
+
+        MessageDigest digest = MessageDigest.getInstance("MD5");
+        for (int line = -1; line < 35; line++) {
+            String context = md5.extractContext(line, asIterator(affectedFile));
+            assertThat(md5.createFingerprint(line, getTextLinesAsStream(affectedFile), charset))
+                    .isEqualTo(asHex(digest.digest(context.getBytes(charset))));
+
+            String fingerprint = murmur.createFingerprint(line, getTextLinesAsStream(affectedFile), charset);
+            assertThat(fingerprint).hasSize(32)
+                    .isEqualTo(murmur.createFingerprint(line, getTextLinesAsStream(affectedFile), charset));
+        }
+        assertThat(murmur.createFingerprint(10, getTextLinesAsStream(affectedFile), charset))
+                .isEqualTo(murmur.createFingerprint(20, getTextLinesAsStream(affectedFile), charset))
+                .isNotEqualTo(murmur.createFingerprint(11, getTextLinesAsStream(affectedFile), charset));
+    }
+
+    /**
+     * Verifies that the normalized contexts skip whitespace, comments and lines without source code.
+     */
+    @Test
+    void shouldExtractNormalizedContexts() {
+        String source = "package a;\n"
+                + "\n"
+                + "/**\n"
+                + " * Comment.\n"
+                + " */\n"
+                + "class A {\n"
+                + "    int b = 1; // comment\n"
+                + "\n"
+                + "    void c() {\n"
+                + "        b++;\n"
+                + "    }\n"
+                + "}\n";
+        String reformatted = "package a;\n"
+                + "/* Changed comment. */\n"
+                + "class A {\n"
+                + "  int b=1;\n"
+                + "  void c() {\n"
+                + "    b++;\n"
+                + "\n"
+                + "\n"
+                + "  }\n"
+                + "}\n";
+
+        FullTextFingerprint fingerprint = new FullTextFingerprint(FingerprintAlgorithm.MD5,
+                FullTextFingerprint.Mode.NORMALIZED);
+        assertThat(fingerprint.getMode()).isEqualTo(FullTextFingerprint.Mode.NORMALIZED);
+
+        assertThat(fingerprint.extractContexts(new int[] {10, 2, -1, 1, 0, 12, 13}, asIterator(source)))
+                .containsExactly(
+                        "class A { int b = 1 ; void c ( ) { b + + ; } }",
+                        "package a ; class A { int b = 1 ; void c ( ) {",
+                        "",
+                        "package a ; class A { int b = 1 ; void c ( ) {",
+                        "package a ; * Comment. class A { int b = 1 ; void c ( ) {",
+                        "void c ( ) { b + + ; } }",
+                        "");
+
+        Charset charset = getCharset();
+        assertThat(fingerprint.createFingerprint(10, getTextLinesAsStream(source), charset))
+                .isEqualTo(fingerprint.createFingerprint(6, getTextLinesAsStream(reformatted), charset))
+                .isNotEqualTo(fingerprint.createFingerprint(9, getTextLinesAsStream(source), charset))
+                .isNotEqualTo(new FullTextFingerprint().createFingerprint(10, getTextLinesAsStream(source), charset));
+        assertThat(fingerprint.createFingerprint(9, getTextLinesAsStream(source), charset))
+                .isEqualTo(fingerprint.createFingerprint(5, getTextLinesAsStream(reformatted), charset));
+    }
+
+    @Test
+    void shouldDistinguishIssuesInTheSameComment() {
+        String source = "package a;\n"
+                + "/**\n"
+                + " * First   sentence.\n"
+                + " * Second sentence.\n"
+                + " */\n"
+                + "class A {\n"
+                + "}\n";
+
+        FullTextFingerprint fingerprint = new FullTextFingerprint(FingerprintAlgorithm.MD5,
+                FullTextFingerprint.Mode.NORMALIZED);
+
+        assertThat(fingerprint.extractContexts(new int[] {3, 4}, asIterator(source))).containsExactly(
+                "package a ; * First sentence. class A { }",
+                "package a ; * Second sentence. class A { }");
+
+        Charset charset = getCharset();
+        assertThat(fingerprint.createFingerprint(3, getTextLinesAsStream(source), charset))
+                .isNotEqualTo(fingerprint.createFingerprint(4, getTextLinesAsStream(source), charset));
+    }
+
     @Test
     void shouldThrowNoSuchFileExceptionIfFileDoesNotExist() {
         FullTextFingerprint fingerprint = new FullTextFingerprint();
@@ -87,6 +213,14 @@ class FullTextFingerprintTest extends ResourceTest {
                 .isThrownBy(() -> fingerprint.compute("/does/not/exist", 1, getCharset()));
     }
 
+    private String asHex(final byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte value : bytes) {
+            hex.append(String.format("%02X", value));
+        }
+        return hex.toString();
+    }
+
     private Charset getCharset() {
         return Charset.forName("UTF-8");
     }
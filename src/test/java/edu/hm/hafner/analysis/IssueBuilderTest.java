@@ -189,6 +189,37 @@ class IssueBuilderTest {
         assertThat(issue1).isEqualTo(issue2);
     }
 
+    @Test
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    void shouldNotInternFingerprints() {
+        String fingerprint = new String("fingerprint");
+
+        Issue issue = new IssueBuilder().setFingerprint(fingerprint).build();
+
+        assertThat(issue.getFingerprint()).isSameAs(fingerprint);
+    }
+
+    @Test
+    void shouldInternStringsOfAllIssues() {
+        IssueBuilder builder = new IssueBuilder();
+        Issue first = builder.setFileName("/build/a/File.java").setMessage("Message in a").setType("Type").build();
+        Issue second = builder.setFileName("/build/b/File.java").setMessage("Message in b").build();
+        Issue third = builder.setFileName("/build/a/File.java").setMessage("Message in a").build();
+
+        builder.dedup();
+
+        assertThat(first).hasFileName("/build/a/File.java").hasMessage("Message in a");
+        assertThat(second).hasFileName("/build/b/File.java").hasMessage("Message in b");
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first.getFileName()).isNotEqualTo(second.getFileName());
+        assertThat(first.getType()).isSameAs(second.getType());
+        assertThat(third).hasFileName("/build/a/File.java").hasMessage("Message in a");
+
+        Issue afterDedup = builder.setFileName("/build/c/File.java").setMessage("Message in c").build();
+        assertThat(afterDedup).hasFileName("/build/c/File.java").hasMessage("Message in c");
+        assertThat(first).hasFileName("/build/a/File.java").hasMessage("Message in a");
+    }
+
     @Test
     void shouldCollectLineRanges() {
         IssueBuilder builder = new IssueBuilder();
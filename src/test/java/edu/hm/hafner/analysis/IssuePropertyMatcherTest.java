@@ -0,0 +1,65 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Arrays;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link IssuePropertyMatcher}.
+ *
+ * @author Ullrich Hafner
+ */
+class IssuePropertyMatcherTest {
+    @Test
+    void shouldMatchAnyOfMergedPatterns() {
+        IssuePropertyMatcher matcher = new IssuePropertyMatcher(IssueProperty.FILE_NAME,
+                Arrays.asList("(?i)README", ".*\\.java", "src/.*|test/.*"));
+
+        assertThat(matcher.test(createIssue("a/b/File.java"))).isTrue();
+        assertThat(matcher.test(createIssue("src/file.c"))).isTrue();
+        assertThat(matcher.test(createIssue("test/file.c"))).isTrue();
+        assertThat(matcher.test(createIssue("readme"))).isTrue();
+        assertThat(matcher.test(createIssue("a/b/File.javax"))).isFalse();
+        assertThat(matcher.test(createIssue("a/src/file.c"))).isFalse();
+        assertThat(matcher.test(createIssue("README.md"))).isFalse();
+        assertThat(matcher.test(createIssue("a/b/FILE.JAVA"))).isFalse();
+    }
+
+    @Test
+    void shouldNotMergePatternsWithBackReferences() {
+        IssuePropertyMatcher matcher = new IssuePropertyMatcher(IssueProperty.FILE_NAME,
+                Arrays.asList("(a)x", "(b)\\1", "\\Qa.b"));
+
+        assertThat(matcher.test(createIssue("ax"))).isTrue();
+        assertThat(matcher.test(createIssue("bb"))).isTrue();
+        assertThat(matcher.test(createIssue("a.b"))).isTrue();
+        assertThat(matcher.test(createIssue("ba"))).isFalse();
+        assertThat(matcher.test(createIssue("axb"))).isFalse();
+    }
+
+    @Test
+    void shouldReturnCachedResultsForSameValue() {
+        IssuePropertyMatcher matcher = new IssuePropertyMatcher(IssueProperty.CATEGORY, Arrays.asList("Style.*"));
+
+        IssueBuilder builder = new IssueBuilder();
+        for (int i = 0; i < 3; i++) {
+            assertThat(matcher.test(builder.setCategory("Style").build())).isTrue();
+            assertThat(matcher.test(builder.setCategory("Bug").build())).isFalse();
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidPatternsWhenCreated() {
+        assertThatThrownBy(() -> new IssuePropertyMatcher(IssueProperty.TYPE, Arrays.asList("valid", "(invalid")))
+                .isInstanceOf(PatternSyntaxException.class);
+        assertThatThrownBy(() -> new IssuePropertyMatcher(IssueProperty.TYPE, Arrays.asList("a)|(b")))
+                .isInstanceOf(PatternSyntaxException.class);
+    }
+
+    private Issue createIssue(final String fileName) {
+        return new IssueBuilder().setFileName(fileName).build();
+    }
+}
@@ -176,6 +176,28 @@ class IssueTest extends SerializableTest<Issue> {
         });
     }
 
+    @Test
+    void shouldRecomputeHashCodeIfPropertiesChange() {
+        Issue issue = createFilledIssue();
+        Issue other = createFilledIssue();
+        int hashCode = issue.hashCode();
+        assertThat(other.hashCode()).isEqualTo(hashCode);
+
+        other.setModuleName("new-module");
+        assertThat(other).isNotEqualTo(issue);
+        assertThat(other.hashCode()).isNotEqualTo(hashCode);
+
+        other.setModuleName(MODULE_NAME);
+        assertThat(other).isEqualTo(issue);
+        assertThat(other.hashCode()).isEqualTo(hashCode);
+
+        other.setOrigin("new-origin");
+        other.setFileName("new-file");
+        other.setPackageName("new-package");
+        assertThat(other).isNotEqualTo(issue);
+        assertThat(other.hashCode()).isNotEqualTo(hashCode);
+    }
+
     @Test
     @SuppressWarnings("NullAway")
     void testDefaultIssueNullStringsNegativeIntegers() {
@@ -0,0 +1,88 @@
+package edu.hm.hafner.analysis;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link LiteralPrefilter}.
+ *
+ * @author Ullrich Hafner
+ */
+class LiteralPrefilterTest {
+    private static final String[] LINES = {
+            "", "warning", "error", "file.c:10: warning: unused", "file.c:10:20: error: missing", "[WARNING] text",
+            "make[1]: Entering directory '/tmp'", "a.java:[1,2] [deprecation]", "abc", "abcabc", "ab", "ac", "ABC",
+            "foo.bar", "foobar", "x = 1;", "In file included from x.h:1:", "  Compiling Source\\File.cs ...",
+            "C:\\Build\\Module.csproj(10,5): warning CS0168: text", "E501 line too long", "ERROR", ""};
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource(delimiter = ';', value = {
+            "abc; abc",
+            "^abc$; abc",
+            "abc?; ab",
+            "abc*d; ab",
+            "abc+d; abc",
+            "ab{2}c; ab",
+            "ab{0,2}c; a",
+            "(.*):(\\d+): warning: (.*); ': warning: '",
+            "(.*)\\.java:\\[(\\d+),(\\d+)\\] (.*); '.java:['",
+            "warning|error; warning, error",
+            "(?:warning|.*error):; warning, error",
+            "^(?:.*\\s\\s|)\\[(?<severity>WARNING|ERROR)\\]\\s*(?<message>.*)$; WARNING, ERROR",
+            "\\Qfoo.bar\\E; foo.bar",
+            "[abc]+xyz; xyz",
+            "[\\]x]+yz; yz",
+            "(?=abc)def; def",
+            "(?<!abc)def; def",
+            "(?s)abc; abc",
+            "(?s:abc)d; abc",
+            "\\p{Alpha}abc; abc",
+            "\\x41abc; abc",
+            "\\u0041abc; abc",
+            "(abc)\\1; abc",
+            "a\\.b; a.b"})
+    void shouldExtractRequiredLiterals(final String regexp, final String expected) {
+        LiteralPrefilter prefilter = new LiteralPrefilter(regexp);
+
+        assertThat(prefilter.isActive()).isTrue();
+        assertThat(prefilter.getLiterals()).containsExactly(expected.split(", "));
+        assertThatPrefilterIsSound(regexp, prefilter);
+    }
+
+    @ParameterizedTest(name = "Pattern \"{0}\"")
+    @ValueSource(strings = {"", ".*", "\\d+\\s+", "(?i)abc", "abc(?i:d)", "(?x)a b c", "(?:abc)?", "abc|.*",
+            "a?b?c?", "(?:abc|)", "[abc]", "(?:abc){0,3}"})
+    void shouldAcceptAllLinesIfNoLiteralsAreRequired(final String regexp) {
+        LiteralPrefilter prefilter = new LiteralPrefilter(regexp);
+
+        assertThat(prefilter.isActive()).isFalse();
+        assertThat(prefilter.getLiterals()).isEmpty();
+        for (String line : LINES) {
+            assertThat(prefilter.accepts(line)).isTrue();
+        }
+    }
+
+    @Test
+    void shouldRejectLinesWithoutRequiredLiterals() {
+        LiteralPrefilter prefilter = new LiteralPrefilter("(warning|error): (.*)");
+
+        assertThat(prefilter.accepts("file.c:10: warning: unused")).isTrue();
+        assertThat(prefilter.accepts("file.c:10: error: missing")).isTrue();
+        assertThat(prefilter.accepts("gcc -c file.c")).isFalse();
+    }
+
+    private void assertThatPrefilterIsSound(final String regexp, final LiteralPrefilter prefilter) {
+        Pattern pattern = Pattern.compile(regexp);
+        for (String line : LINES) {
+            if (pattern.matcher(line).find()) {
+                assertThat(prefilter.accepts(line)).as("Line '%s' matches '%s'", line, regexp).isTrue();
+            }
+        }
+    }
+}
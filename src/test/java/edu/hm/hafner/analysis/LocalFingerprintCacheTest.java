@@ -0,0 +1,187 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link LocalFingerprintCache}.
+ *
+ * @author Ullrich Hafner
+ */
+class LocalFingerprintCacheTest {
+    private static final String VARIANT = StandardCharsets.UTF_8.name();
+    private static final Duration MAXIMUM_AGE = Duration.ofDays(7);
+    private static final Instant NOW = Instant.parse("2018-10-01T10:00:00Z");
+
+    @Test
+    void shouldPersistFingerprintsOfUnchangedFiles() throws IOException {
+        Path folder = Files.createTempDirectory("fingerprint-cache");
+        try {
+            Path cacheFile = folder.resolve("cache.bin");
+            String source = createSourceFile(folder, "source.txt", "content");
+            Map<Integer, String> fingerprints = createFingerprints(3);
+
+            LocalFingerprintCache cache = createCache(cacheFile, NOW, 100);
+            assertThat(cache.get(source, VARIANT)).isEmpty();
+            put(cache, source, fingerprints);
+            assertThat(cache.get(source, VARIANT)).isEqualTo(fingerprints);
+            cache.flush();
+
+            LocalFingerprintCache restored = createCache(cacheFile, NOW, 100);
+            assertThat(restored.size()).isEqualTo(1);
+            assertThat(restored.get(source, VARIANT)).isEqualTo(fingerprints);
+            assertThat(restored.get(source, StandardCharsets.ISO_8859_1.name())).isEmpty();
+            assertThat(restored.size()).isEqualTo(0);
+        }
+        finally {
+            delete(folder);
+        }
+    }
+
+    @Test
+    void shouldInvalidateFingerprintsOfChangedFiles() throws IOException {
+        Path folder = Files.createTempDirectory("fingerprint-cache");
+        try {
+            String source = createSourceFile(folder, "source.txt", "content");
+            String removed = createSourceFile(folder, "removed.txt", "content");
+
+            LocalFingerprintCache cache = createCache(folder.resolve("cache.bin"), NOW, 100);
+            put(cache, source, createFingerprints(3));
+            put(cache, removed, createFingerprints(3));
+
+            createSourceFile(folder, "source.txt", "changed content");
+            Files.delete(folder.resolve("removed.txt"));
+
+            assertThat(cache.get(source, VARIANT)).isEmpty();
+            assertThat(cache.get(removed, VARIANT)).isEmpty();
+            assertThat(cache.size()).isEqualTo(0);
+
+            assertThat(cache.getState(removed)).isEmpty();
+        }
+        finally {
+            delete(folder);
+        }
+    }
+
+    @Test
+    void shouldInvalidateFingerprintsOfFilesThatHaveBeenChangedWhileReading() throws IOException {
+        Path folder = Files.createTempDirectory("fingerprint-cache");
+        try {
+            String source = createSourceFile(folder, "source.txt", "content");
+
+            LocalFingerprintCache cache = createCache(folder.resolve("cache.bin"), NOW, 100);
+            String state = cache.getState(source).get();
+            createSourceFile(folder, "source.txt", "changed content");
+            cache.put(source, VARIANT, state, createFingerprints(3));
+
+            assertThat(cache.get(source, VARIANT)).isEmpty();
+        }
+        finally {
+            delete(folder);
+        }
+    }
+
+    @Test
+    void shouldEvictEntriesByAgeAndSize() throws IOException {
+        Path folder = Files.createTempDirectory("fingerprint-cache");
+        try {
+            Path cacheFile = folder.resolve("cache.bin");
+            String old = createSourceFile(folder, "old.txt", "old");
+            String recent = createSourceFile(folder, "recent.txt", "recent");
+            String newest = createSourceFile(folder, "newest.txt", "newest");
+
+            LocalFingerprintCache cache = createCache(cacheFile, NOW, 100);
+            put(cache, old, createFingerprints(3));
+            cache.flush();
+
+            cache = createCache(cacheFile, NOW.plus(Duration.ofDays(5)), 100);
+            put(cache, recent, createFingerprints(3));
+            cache.flush();
+
+            cache = createCache(cacheFile, NOW.plus(Duration.ofDays(10)), 100);
+            assertThat(cache.size()).isEqualTo(2);
+            put(cache, newest, createFingerprints(3));
+            cache.flush();
+
+            cache = createCache(cacheFile, NOW.plus(Duration.ofDays(10)), 100);
+            assertThat(cache.size()).isEqualTo(2);
+            assertThat(cache.get(old, VARIANT)).isEmpty();
+            assertThat(cache.get(recent, VARIANT)).hasSize(3);
+            assertThat(cache.get(newest, VARIANT)).hasSize(3);
+
+            cache = createCache(cacheFile, NOW.plus(Duration.ofDays(11)), 4);
+            cache.flush();
+
+            cache = createCache(cacheFile, NOW.plus(Duration.ofDays(11)), 4);
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(cache.get(newest, VARIANT)).hasSize(3);
+        }
+        finally {
+            delete(folder);
+        }
+    }
+
+    @Test
+    void shouldStartEmptyIfCacheFileIsCorrupt() throws IOException {
+        Path folder = Files.createTempDirectory("fingerprint-cache");
+        try {
+            Path cacheFile = folder.resolve("cache.bin");
+            Files.write(cacheFile, new byte[] {1, 2, 3});
+
+            assertThat(createCache(cacheFile, NOW, 100).size()).isEqualTo(0);
+        }
+        finally {
+            delete(folder);
+        }
+    }
+
+    private void put(final LocalFingerprintCache cache, final String fileName,
+            final Map<Integer, String> fingerprints) {
+        cache.put(fileName, VARIANT, cache.getState(fileName).get(), fingerprints);
+    }
+
+    private LocalFingerprintCache createCache(final Path cacheFile, final Instant now, final int maximumSize) {
+        return new LocalFingerprintCache(cacheFile, MAXIMUM_AGE, maximumSize, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private String createSourceFile(final Path folder, final String fileName, final String content)
+            throws IOException {
+        Path file = folder.resolve(fileName);
+        Files.write(file, Collections.singletonList(content), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.from(NOW.plusMillis(content.length())));
+        return file.toString();
+    }
+
+    private Map<Integer, String> createFingerprints(final int size) {
+        Map<Integer, String> fingerprints = new HashMap<>();
+        for (int line = 1; line <= size; line++) {
+            fingerprints.put(line, "fingerprint-" + line);
+        }
+        return fingerprints;
+    }
+
+    private void delete(final Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+}
@@ -0,0 +1,267 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import edu.hm.hafner.analysis.parser.Gcc4CompilerParser;
+import edu.hm.hafner.analysis.parser.GccParser;
+import edu.hm.hafner.analysis.parser.JavacParser;
+import edu.hm.hafner.analysis.parser.MsBuildParser;
+import edu.hm.hafner.util.LookaheadStream;
+import edu.hm.hafner.util.ResourceTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link LookaheadParser}.
+ *
+ * @author Ullrich Hafner
+ */
+class LookaheadParserTest extends ResourceTest {
+    private static final int ENTRIES = 200;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @ParameterizedTest(name = "Chunk size {0}")
+    @ValueSource(ints = {1, 2, 3, 7, 100, 10_000})
+    void shouldParseContinuationLinesAcrossChunks(final int chunkSize) {
+        String log = createLogWithContinuationLines();
+
+        assertThatParallelResultIsIdentical(ContinuationParser::new, log, chunkSize);
+
+        Report report = new ContinuationParser().parseInParallel(new StringReaderFactory(log), pool, chunkSize);
+        assertThat(report.size()).isEqualTo(ENTRIES);
+        assertThat(report.get(0).getFileName()).isEqualTo("/build/module0/file0.c");
+        assertThat(report.get(0).getMessage()).isEqualTo("message 0");
+        assertThat(report.get(2).getMessage()).isEqualTo("message 2 detail 2-0 detail 2-1");
+        assertThat(report.get(ENTRIES - 1).getFileName()).isEqualTo("/build/module11/file199.c");
+    }
+
+    @ParameterizedTest(name = "Chunk size {0}")
+    @ValueSource(ints = {1, 2, 5, 100})
+    void shouldParseResourcesInParallel(final int chunkSize) {
+        assertThatParallelResultIsIdentical(Gcc4CompilerParser::new, toString("parser/gcc4.txt"), chunkSize);
+        assertThatParallelResultIsIdentical(GccParser::new, toString("parser/gnuMakeGcc.txt"), chunkSize);
+        assertThatParallelResultIsIdentical(JavacParser::new, toString("parser/javac.txt"), chunkSize);
+    }
+
+    @Test
+    void shouldParseSequentiallyIfParserDoesNotSupportParallelParsing() {
+        MsBuildParser parser = new MsBuildParser();
+        assertThat(parser.supportsParallelParsing()).isFalse();
+
+        assertThatParallelResultIsIdentical(MsBuildParser::new, toString("parser/msbuild.txt"), 1);
+    }
+
+    @Test
+    void shouldRejectLinesWithoutRequiredLiterals() {
+        ContinuationParser parser = new ContinuationParser();
+        assertThat(parser.getRejectRate()).isZero();
+
+        String log = createLogWithContinuationLines();
+        Report report = parser.parse(new StringReaderFactory(log));
+
+        assertThat(report).isNotEmpty();
+        assertThat(parser.getInspectedLinesCount()).isPositive();
+        assertThat(parser.getRejectedLinesCount()).isPositive().isLessThan(parser.getInspectedLinesCount());
+        assertThat(parser.getRejectRate()).isStrictlyBetween(0.0, 1.0);
+    }
+
+    @Test
+    void shouldParseLinesThatAreNoStrings() {
+        String log = createLogWithContinuationLines();
+        Report expected = new ContinuationParser().parse(new StringReaderFactory(log));
+
+        assertThat(new ContinuationParser().parse(new CharSequenceReaderFactory(log)))
+                .containsExactlyElementsOf(expected);
+        assertThat(new ContinuationParser().parseInParallel(new CharSequenceReaderFactory(log), pool, 7))
+                .containsExactlyElementsOf(expected);
+        assertThat(new CompositeLookaheadParser(new ContinuationParser()).parse(new CharSequenceReaderFactory(log)))
+                .hasSize(1).first().satisfies(report -> assertThat(report).containsExactlyElementsOf(expected));
+    }
+
+    @Test
+    void shouldHandleEmptyReport() {
+        Report report = new ContinuationParser().parseInParallel(new StringReaderFactory(""), pool, 1);
+
+        assertThat(report).isEmpty();
+    }
+
+    @ParameterizedTest(name = "Increment size {0}")
+    @ValueSource(ints = {1, 7, 64, 1000, 100_000})
+    void shouldParseGrowingLogIncrementally(final int incrementSize) throws IOException {
+        assertThatIncrementalResultIsIdentical(ContinuationParser::new, createLogWithContinuationLines(),
+                incrementSize);
+        assertThatIncrementalResultIsIdentical(Gcc4CompilerParser::new, toString("parser/gcc4.txt"), incrementSize);
+        assertThatIncrementalResultIsIdentical(JavacParser::new, toString("parser/javac.txt"), incrementSize);
+    }
+
+    @Test
+    void shouldKeepIssuesPendingIfLookaheadReachesEndOfLog() throws IOException {
+        Path log = Files.createTempFile("growing", ".log");
+        try {
+            ContinuationParser parser = new ContinuationParser();
+            FileReaderFactory readerFactory = new FileReaderFactory(log, StandardCharsets.UTF_8);
+            Report report = new Report();
+
+            Files.write(log, "make: Entering directory '/build'\nfile.c:1: warning: first\n    detail"
+                    .getBytes(StandardCharsets.UTF_8));
+            ParsingCheckpoint checkpoint = parser.parseIncrementally(readerFactory, ParsingCheckpoint.START, report);
+            assertThat(report).isEmpty();
+            assertThat(checkpoint.getLine()).isEqualTo(2);
+            assertThat(checkpoint.getOffset()).isEqualTo(34);
+            assertThat(checkpoint.getDirectory()).isEqualTo("/build");
+
+            Files.write(log, " 1\n    detail 2\nfile.c:2: warning: second\n".getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+            checkpoint = parser.parseIncrementally(readerFactory, checkpoint, report);
+            assertThat(report).hasSize(1);
+            assertThat(report.get(0).getFileName()).isEqualTo("/build/file.c");
+            assertThat(report.get(0).getMessage()).isEqualTo("first detail 1 detail 2");
+            assertThat(checkpoint.getLine()).isEqualTo(5);
+
+            checkpoint = parser.parseIncrementally(readerFactory, checkpoint, report, true);
+            assertThat(report).hasSize(2);
+            assertThat(report.get(1).getMessage()).isEqualTo("second");
+            assertThat(checkpoint.getLine()).isEqualTo(6);
+            assertThat(checkpoint.getOffset()).isEqualTo(Files.size(log));
+        }
+        finally {
+            Files.delete(log);
+        }
+    }
+
+    private void assertThatIncrementalResultIsIdentical(final Supplier<LookaheadParser> parserFactory,
+            final String log, final int incrementSize) throws IOException {
+        Report expected = parserFactory.get().parse(new StringReaderFactory(log));
+
+        byte[] content = log.getBytes(StandardCharsets.UTF_8);
+        Path file = Files.createTempFile("growing", ".log");
+        try {
+            LookaheadParser parser = parserFactory.get();
+            FileReaderFactory readerFactory = new FileReaderFactory(file, StandardCharsets.UTF_8);
+            Report actual = new Report();
+            ParsingCheckpoint checkpoint = ParsingCheckpoint.START;
+            for (int start = 0; start < content.length; start += incrementSize) {
+                int end = Math.min(content.length, start + incrementSize);
+                Files.write(file, Arrays.copyOfRange(content, start, end), StandardOpenOption.APPEND);
+
+                checkpoint = parser.parseIncrementally(readerFactory, checkpoint, actual);
+            }
+            parser.parseIncrementally(readerFactory, checkpoint, actual, true);
+
+            assertThat(expected).isNotEmpty();
+            assertThat(actual).containsExactlyElementsOf(expected);
+            assertThat(actual.getDuplicatesSize()).isEqualTo(expected.getDuplicatesSize());
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    private void assertThatParallelResultIsIdentical(final Supplier<LookaheadParser> parserFactory,
+            final String log, final int chunkSize) {
+        Report expected = parserFactory.get().parse(new StringReaderFactory(log));
+        Report actual = parserFactory.get().parseInParallel(new StringReaderFactory(log), pool, chunkSize);
+
+        assertThat(expected).isNotEmpty();
+        assertThat(actual).containsExactlyElementsOf(expected);
+        assertThat(actual.getDuplicatesSize()).isEqualTo(expected.getDuplicatesSize());
+    }
+
+    private String createLogWithContinuationLines() {
+        StringBuilder log = new StringBuilder();
+        for (int entry = 0; entry < ENTRIES; entry++) {
+            if (entry % 17 == 0) {
+                log.append(String.format("make[1]: Entering directory '/build/module%d'%n", entry / 17));
+            }
+            if (entry % 5 == 0) {
+                log.append(String.format("gcc -c file%d.c%n", entry));
+            }
+            log.append(String.format("file%d.c:%d: warning: message %d%n", entry, entry + 1, entry));
+            for (int detail = 0; detail < entry % 4; detail++) {
+                log.append(String.format("    detail %d-%d%n", entry, detail));
+            }
+        }
+        return log.toString();
+    }
+
+    /**
+     * Provides the lines of a report as {@link StringBuilder} instances. Reading the lines as strings is not
+     * supported.
+     */
+    private static class CharSequenceReaderFactory extends StringReaderFactory {
+        private final String content;
+
+        CharSequenceReaderFactory(final String content) {
+            super(content);
+
+            this.content = content;
+        }
+
+        @Override
+        public Stream<String> readStream() {
+            throw new UnsupportedOperationException("Lines must be read as character sequences");
+        }
+
+        @Override
+        public Stream<CharSequence> readCharSequences() {
+            return Arrays.stream(content.split("\\R")).map(StringBuilder::new);
+        }
+    }
+
+    /**
+     * Parses warnings that may span several lines: each line that starts with a whitespace belongs to the message of
+     * the previous warning.
+     */
+    private static class ContinuationParser extends LookaheadParser {
+        private static final long serialVersionUID = -4853574658215931525L;
+
+        ContinuationParser() {
+            super("^(.*):(\\d+): warning: (.*)$");
+        }
+
+        @Override
+        public boolean supportsParallelParsing() {
+            return true;
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) {
+            StringBuilder message = new StringBuilder(matcher.group(3));
+            while (lookahead.hasNext("^\\s+")) {
+                message.append(' ').append(lookahead.next().trim());
+            }
+            return builder.setFileName(matcher.group(1))
+                    .setLineStart(matcher.group(2))
+                    .setMessage(message.toString())
+                    .buildOptional();
+        }
+    }
+}
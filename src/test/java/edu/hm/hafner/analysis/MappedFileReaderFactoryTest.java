@@ -0,0 +1,155 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import edu.hm.hafner.analysis.parser.Gcc4CompilerParser;
+import edu.hm.hafner.util.ResourceTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link MappedFileReaderFactory}.
+ *
+ * @author Ullrich Hafner
+ */
+class MappedFileReaderFactoryTest extends ResourceTest {
+    private static final String[] CONTENTS = {
+            "", "\n", "\n\n", "one", "one\n", "one\ntwo", "one\ntwo\n", "one\r\ntwo\r\n", "one\rtwo\r", "one\r\rtwo",
+            "one\r\n\r\ntwo", "﻿one\ntwo", "﻿", "Größe\näöü\r\nÄÖÜ ß", "a\nbb\nccc\ndddd\n\neeeee\r\n"};
+
+    private Path file;
+
+    @AfterEach
+    void deleteFile() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @ParameterizedTest(name = "Segment size {0}")
+    @ValueSource(ints = {10, 11, 12, 13, 17, 1024})
+    void shouldReadSameLinesAsFileReaderFactory(final int segmentSize) {
+        for (String content : CONTENTS) {
+            assertThatLinesAreIdentical(content, StandardCharsets.UTF_8, segmentSize);
+            assertThatLinesAreIdentical(content.replace("﻿", ""), StandardCharsets.ISO_8859_1, segmentSize);
+        }
+    }
+
+    @Test
+    void shouldFallbackToReaderForCharsetsThatAreNotAsciiCompatible() {
+        for (String content : CONTENTS) {
+            assertThatLinesAreIdentical(content, StandardCharsets.UTF_16, 1024);
+        }
+    }
+
+    @Test
+    void shouldProvideAsciiLinesAsCharSequences() {
+        MappedFileReaderFactory factory = createFactory("First\r\nSecond Line\näöü", StandardCharsets.UTF_8);
+
+        try (Stream<CharSequence> lines = factory.readCharSequences()) {
+            List<CharSequence> sequences = lines.collect(Collectors.toList());
+
+            assertThat(sequences).hasSize(3);
+            CharSequence second = sequences.get(1);
+            assertThat(second).isNotInstanceOf(String.class);
+            assertThat(second.length()).isEqualTo(11);
+            assertThat(second.charAt(7)).isEqualTo('L');
+            assertThat(second.subSequence(7, 11).toString()).isEqualTo("Line");
+            assertThat(second.toString()).isEqualTo("Second Line");
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> second.charAt(11));
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> second.subSequence(3, 12));
+            assertThat(sequences.get(2).toString()).isEqualTo("äöü");
+        }
+    }
+
+    @Test
+    void shouldApplyLineMapper() {
+        file = writeFile("one\ntwo", StandardCharsets.UTF_8);
+        Function<String, String> lineMapper = line -> line.toUpperCase(Locale.ENGLISH);
+        MappedFileReaderFactory factory = new MappedFileReaderFactory(file, StandardCharsets.UTF_8, lineMapper);
+
+        try (Stream<String> lines = factory.readStream()) {
+            assertThat(lines).containsExactly("ONE", "TWO");
+        }
+        try (Stream<CharSequence> lines = factory.readCharSequences()) {
+            assertThat(lines.map(CharSequence::toString)).containsExactly("ONE", "TWO");
+        }
+        assertThat(factory.readString()).isEqualTo("ONE\nTWO");
+    }
+
+    @Test
+    void shouldRejectLinesThatAreLongerThanSegment() {
+        file = writeFile("0123456789\n", StandardCharsets.UTF_8);
+        MappedFileReaderFactory factory = new MappedFileReaderFactory(file, StandardCharsets.UTF_8,
+                Function.identity(), 5);
+
+        assertThatExceptionOfType(ParsingException.class).isThrownBy(() -> {
+            try (Stream<String> lines = factory.readStream()) {
+                lines.forEach(line -> assertThat(line).isNotNull());
+            }
+        });
+    }
+
+    @Test
+    void shouldThrowParsingExceptionIfFileDoesNotExist() {
+        MappedFileReaderFactory factory = new MappedFileReaderFactory(Paths.get("does-not-exist.txt"),
+                StandardCharsets.UTF_8);
+
+        assertThatExceptionOfType(ParsingException.class).isThrownBy(factory::readStream);
+    }
+
+    @Test
+    void shouldParseSameIssuesAsFileReaderFactory() {
+        Path report = getResourceAsFile("parser/gcc4.txt");
+
+        Report expected = new Gcc4CompilerParser().parse(new FileReaderFactory(report, StandardCharsets.UTF_8));
+        Report actual = new Gcc4CompilerParser().parse(new MappedFileReaderFactory(report, StandardCharsets.UTF_8));
+
+        assertThat(actual).isNotEmpty().containsExactlyElementsOf(expected);
+    }
+
+    private void assertThatLinesAreIdentical(final String content, final Charset charset, final int segmentSize) {
+        file = writeFile(content, charset);
+        try (Stream<String> expected = new FileReaderFactory(file, charset).readStream();
+                Stream<String> actual = new MappedFileReaderFactory(file, charset, Function.identity(),
+                        segmentSize).readStream()) {
+            assertThat(actual).as("Content '%s' in %s", content, charset)
+                    .containsExactlyElementsOf(expected.collect(Collectors.toList()));
+        }
+    }
+
+    private MappedFileReaderFactory createFactory(final String content, final Charset charset) {
+        file = writeFile(content, charset);
+        return new MappedFileReaderFactory(file, charset);
+    }
+
+    private Path writeFile(final String content, final Charset charset) {
+        try {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+            Path temp = Files.createTempFile("mapped", ".txt");
+            Files.write(temp, content.getBytes(charset));
+            return temp;
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link MappedIssueSet}.
+ *
+ * @author Ullrich Hafner
+ */
+class MappedIssueSetTest {
+    private static final String MODULE = "module";
+
+    @Test
+    void shouldBehaveLikeLinkedHashSet() throws IOException {
+        List<Issue> issues = createIssues(100);
+        MappedIssueSet mapped = createSet(issues.subList(0, 80));
+        Set<Issue> expected = new LinkedHashSet<>(issues.subList(0, 80));
+
+        assertThat(mapped).hasSize(80).containsExactlyElementsOf(expected).isEqualTo(expected);
+        assertThat(mapped.hashCode()).isEqualTo(expected.hashCode());
+
+        for (Issue issue : issues) {
+            assertThat(mapped.add(issue)).isEqualTo(expected.add(issue));
+        }
+        assertThat(mapped).hasSize(100).containsExactlyElementsOf(expected);
+        assertThat(mapped).allSatisfy(issue -> assertThat(mapped.contains(issue)).isTrue());
+
+        assertThat(mapped.remove(issues.get(0))).isTrue();
+        assertThat(mapped.remove(issues.get(0))).isFalse();
+        assertThat(mapped.remove(issues.get(99))).isTrue();
+        assertThat(mapped.remove(issues.get(50))).isTrue();
+        assertThat(mapped.remove("issue")).isFalse();
+        expected.remove(issues.get(0));
+        expected.remove(issues.get(99));
+        expected.remove(issues.get(50));
+
+        assertThat(mapped).hasSize(97).containsExactlyElementsOf(expected).doesNotContain(issues.get(50));
+
+        assertThat(mapped.add(issues.get(50))).isTrue();
+        assertThat(mapped).hasSize(98).endsWith(issues.get(50));
+    }
+
+    @Test
+    void shouldProvideIssuesByPosition() throws IOException {
+        List<Issue> issues = createIssues(20);
+        MappedIssueSet mapped = createSet(issues.subList(0, 10));
+        mapped.addAll(issues.subList(10, 20));
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(mapped.get(i)).isEqualTo(issues.get(i));
+        }
+
+        mapped.remove(issues.get(3));
+        mapped.remove(issues.get(15));
+        assertThat(mapped.get(2)).isEqualTo(issues.get(2));
+        assertThat(mapped.get(3)).isEqualTo(issues.get(4));
+        assertThat(mapped.get(14)).isEqualTo(issues.get(16));
+
+        Issue additional = new IssueBuilder().setMessage("additional").build();
+        mapped.add(additional);
+        assertThat(mapped.get(18)).isEqualTo(additional);
+    }
+
+    @Test
+    void shouldProvideSeverityCountsAndFindIssuesById() throws IOException {
+        List<Issue> issues = createIssues(30);
+        MappedIssueSet mapped = createSet(issues);
+
+        assertThat(mapped.getSizeOf(Severity.ERROR)).isEqualTo(10);
+        assertThat(mapped.getSizeOf(Severity.WARNING_LOW)).isEqualTo(10);
+        assertThat(mapped.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(0);
+        assertThat(issues).allSatisfy(issue -> assertThat(mapped.findById(issue.getId())).isEqualTo(issue));
+
+        mapped.remove(issues.get(0));
+        assertThat(mapped.getSizeOf(Severity.ERROR)).isEqualTo(9);
+        assertThat(mapped.findById(issues.get(0).getId())).isNull();
+
+        mapped.add(new IssueBuilder().setSeverity(Severity.WARNING_HIGH).build());
+        assertThat(mapped.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepChangedIssues() throws IOException {
+        List<Issue> issues = createIssues(3);
+        MappedIssueSet mapped = createSet(issues);
+
+        for (Issue issue : mapped) {
+            issue.setModuleName(MODULE);
+        }
+
+        assertThat(mapped).hasSize(3).allSatisfy(issue -> {
+            assertThat(issue.getModuleName()).isEqualTo(MODULE);
+            assertThat(mapped.contains(issue)).isTrue();
+        });
+        assertThat(mapped).doesNotContainAnyElementsOf(issues);
+
+        Iterator<Issue> iterator = mapped.iterator();
+        Issue removed = iterator.next();
+        iterator.remove();
+        assertThatIllegalStateException().isThrownBy(iterator::remove);
+        removed.setModuleName("other");
+        assertThat(mapped).hasSize(2).extracting(Issue::getModuleName).containsOnly(MODULE);
+    }
+
+    @Test
+    void shouldBeReplacedWithLinkedHashSetWhenSerialized() throws IOException, ClassNotFoundException {
+        List<Issue> issues = createIssues(10);
+        MappedIssueSet mapped = createSet(issues);
+        mapped.remove(issues.get(2));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+            stream.writeObject(mapped);
+        }
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(stream.readObject()).isInstanceOf(LinkedHashSet.class).isEqualTo(mapped);
+        }
+    }
+
+    private MappedIssueSet createSet(final List<Issue> issues) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BinaryReportWriter.write(new Report().addAll(issues), output);
+        return new MappedIssueSet(new BinaryReportReader(output.toByteArray()));
+    }
+
+    private List<Issue> createIssues(final int size) {
+        Severity[] severities = {Severity.ERROR, Severity.WARNING_NORMAL, Severity.WARNING_LOW};
+        IssueBuilder builder = new IssueBuilder();
+        List<Issue> issues = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            issues.add(builder.setFileName("file-" + i % 7)
+                    .setLineStart(i)
+                    .setSeverity(severities[i % severities.length])
+                    .setMessage("message-" + i)
+                    .build());
+        }
+        return issues;
+    }
+}
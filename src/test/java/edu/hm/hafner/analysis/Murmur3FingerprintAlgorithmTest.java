@@ -0,0 +1,47 @@
+package edu.hm.hafner.analysis;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link Murmur3FingerprintAlgorithm}.
+ *
+ * @author Ullrich Hafner
+ */
+class Murmur3FingerprintAlgorithmTest {
+    private static final String FOX = "The quick brown fox jumps over the lazy dog";
+
+    @Test
+    void shouldCreateSameHashValuesAsReferenceImplementation() {
+        assertThat(hash("")).isEqualTo("00000000000000000000000000000000");
+        assertThat(hash("hello")).isEqualTo("029BBD41B3A7D8CB191DAE486A901E5B");
+        assertThat(hash(FOX)).isEqualTo("6C1B07BC7BBC4BE347939AC4A93C437A");
+    }
+
+    @Test
+    void shouldHashRangeOfBytes() {
+        FingerprintAlgorithm algorithm = FingerprintAlgorithm.MURMUR3_128;
+        byte[] bytes = ("prefix" + FOX + "suffix").getBytes(StandardCharsets.UTF_8);
+
+        assertThat(algorithm.hash(bytes, 6, FOX.length()))
+                .isEqualTo(algorithm.hash(FOX.getBytes(StandardCharsets.UTF_8), 0, FOX.length()));
+
+        for (int length = 1; length < 32; length++) {
+            assertThat(algorithm.hash(bytes, 0, length)).hasSize(16)
+                    .isNotEqualTo(algorithm.hash(bytes, 0, length + 1))
+                    .isNotEqualTo(algorithm.hash(bytes, 1, length));
+        }
+    }
+
+    private String hash(final String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        StringBuilder hex = new StringBuilder();
+        for (byte value : FingerprintAlgorithm.MURMUR3_128.hash(bytes, 0, bytes.length)) {
+            hex.append(String.format("%02X", value));
+        }
+        return hex.toString();
+    }
+}
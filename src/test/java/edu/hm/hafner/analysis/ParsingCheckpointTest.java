@@ -0,0 +1,38 @@
+package edu.hm.hafner.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.util.SerializableTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link ParsingCheckpoint}.
+ *
+ * @author Ullrich Hafner
+ */
+class ParsingCheckpointTest extends SerializableTest<ParsingCheckpoint> {
+    @Override
+    protected ParsingCheckpoint createSerializable() {
+        return new ParsingCheckpoint(1024, 42, "/build/module");
+    }
+
+    @Test
+    void shouldStartAtFirstLine() {
+        assertThat(ParsingCheckpoint.START.getOffset()).isZero();
+        assertThat(ParsingCheckpoint.START.getLine()).isEqualTo(1);
+        assertThat(ParsingCheckpoint.START.getDirectory()).isNull();
+    }
+
+    @Test
+    void shouldCompareAllProperties() {
+        ParsingCheckpoint checkpoint = createSerializable();
+
+        assertThat(checkpoint).isEqualTo(new ParsingCheckpoint(1024, 42, "/build/module"))
+                .hasSameHashCodeAs(new ParsingCheckpoint(1024, 42, "/build/module"))
+                .isNotEqualTo(new ParsingCheckpoint(1023, 42, "/build/module"))
+                .isNotEqualTo(new ParsingCheckpoint(1024, 41, "/build/module"))
+                .isNotEqualTo(new ParsingCheckpoint(1024, 42, null))
+                .hasToString("[42] @1024 (/build/module)");
+    }
+}
@@ -0,0 +1,75 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link ReportIndex}.
+ *
+ * @author Ullrich Hafner
+ */
+class ReportIndexTest {
+    @Test
+    void shouldOnlyInvalidateIndexesThatContainTheModifiedIssue() {
+        IssueBuilder builder = new IssueBuilder().setModuleName("module");
+        Issue first = builder.setMessage("first").build();
+        Issue second = builder.setMessage("second").build();
+        Issue other = builder.setMessage("other").build();
+
+        ReportIndex index = new ReportIndex(Arrays.asList(first, second));
+        ReportIndex shared = new ReportIndex(Arrays.asList(second, other));
+        ReportIndex unrelated = new ReportIndex(Arrays.asList(first, other));
+
+        second.setModuleName("renamed");
+
+        assertThat(index.isOutdated()).isTrue();
+        assertThat(shared.isOutdated()).isTrue();
+        assertThat(unrelated.isOutdated()).isFalse();
+    }
+
+    @Test
+    void shouldNotInvalidateIndexAfterIssueHasBeenRemoved() {
+        IssueBuilder builder = new IssueBuilder().setFileName("file");
+        Issue first = builder.setMessage("first").build();
+        Issue second = builder.setMessage("second").build();
+
+        ReportIndex index = new ReportIndex(Arrays.asList(first, second));
+        index.remove(second);
+        second.setFileName("renamed");
+
+        assertThat(index.isOutdated()).isFalse();
+
+        first.setFileName("renamed");
+
+        assertThat(index.isOutdated()).isTrue();
+    }
+
+    @Test
+    void shouldSkipRemovedIssues() {
+        IssueBuilder builder = new IssueBuilder().setFileName("file").setCategory("category");
+        Issue first = builder.setMessage("first").build();
+        Issue second = builder.setMessage("second").build();
+        Issue third = builder.setMessage("third").build();
+
+        ReportIndex index = new ReportIndex(Arrays.asList(first, second, third));
+        index.remove(second);
+
+        assertThat(index.find(IssueProperty.FILE_NAME, "file")).containsExactly(first, third);
+        assertThat(index.getCounts(IssueProperty.CATEGORY)).containsEntry("category", 2);
+
+        index.add(second);
+
+        assertThat(index.find(IssueProperty.FILE_NAME, "file")).containsExactly(first, third, second);
+        assertThat(index.getCounts(IssueProperty.CATEGORY)).containsEntry("category", 3);
+
+        index.remove(first);
+        index.remove(second);
+        index.remove(third);
+
+        assertThat(index.find(IssueProperty.FILE_NAME, "file")).isEmpty();
+        assertThat(index.getValues(IssueProperty.CATEGORY)).isEmpty();
+    }
+}
@@ -1,6 +1,9 @@
 package edu.hm.hafner.analysis;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -8,6 +11,11 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -206,6 +214,260 @@ class ReportTest extends SerializableTest<Report> {
         assertThat(byFile.get("file-3")).hasSize(1);
     }
 
+    @Test
+    void shouldStoreIssuesInCompactReport() {
+        Report expected = new Report().addAll(HIGH, NORMAL_1, NORMAL_2, LOW_2_A, LOW_2_B, LOW_FILE_3);
+        expected.logInfo("Hello");
+
+        Report compact = Report.createCompactReport();
+        compact.addAll(expected);
+
+        assertThat(compact).isEqualTo(expected);
+        assertThat(compact.hashCode()).isEqualTo(expected.hashCode());
+
+        compact.add(HIGH);
+        assertThat(compact.iterator()).containsExactly(HIGH, NORMAL_1, NORMAL_2, LOW_2_A, LOW_2_B, LOW_FILE_3);
+        assertThat(compact.get(0)).isEqualTo(HIGH).isNotSameAs(HIGH);
+        assertThat(compact.getDuplicatesSize()).isEqualTo(1);
+        assertThat(compact.getFiles()).containsExactly("file-1", "file-2", "file-3");
+        assertThat(compact.getSizeOf(Severity.WARNING_LOW)).isEqualTo(3);
+        assertThat(compact.findById(NORMAL_2.getId())).isEqualTo(NORMAL_2);
+
+        assertThatReportIsCompact(compact.copy());
+        assertThatReportIsCompact(compact.filter(Issue.byFileName("file-1")));
+        assertThatReportIsCompact(compact.groupByProperty("fileName").get("file-2"));
+        assertThat(compact.copyEmptyInstance()).isEmpty();
+
+        assertThat(compact.remove(HIGH.getId())).isEqualTo(HIGH);
+        assertThat(compact.iterator()).containsExactly(NORMAL_1, NORMAL_2, LOW_2_A, LOW_2_B, LOW_FILE_3);
+
+        for (Issue issue : compact) {
+            issue.setModuleName("module");
+        }
+        assertThat(compact.getModules()).containsExactly("module");
+    }
+
+    @Test
+    void shouldSummarizeIssuesInSinglePass() {
+        Report report = new Report().addAll(HIGH, NORMAL_1, NORMAL_2, LOW_2_A, LOW_2_B, LOW_FILE_3);
+        report.add(new IssueBuilder().setFileName("file-3").setSeverity(Severity.ERROR).setCategory("error").build());
+
+        ReportSummary summary = report.summarize("fileName", "category", "origin");
+
+        assertThat(summary.getSize()).isEqualTo(7);
+        assertThat(summary.getSeverities()).containsExactlyInAnyOrder(Severity.ERROR,
+                Severity.WARNING_HIGH, Severity.WARNING_NORMAL, Severity.WARNING_LOW);
+        for (Severity severity : Severity.getPredefinedValues()) {
+            assertThat(summary.getSizeOf(severity)).isEqualTo(report.getSizeOf(severity));
+        }
+        assertThat(summary.getPropertyNames()).containsExactly("fileName", "category", "origin");
+        assertThat(summary.getProperties("fileName")).isEqualTo(report.getFiles());
+        assertThat(summary.getPropertyCount("fileName").get("file-1")).isEqualTo(3);
+        assertThat(summary.getPropertyCount("fileName").get("file-3")).isEqualTo(2);
+        assertThat(summary.getPropertyCount("category").get("error")).isEqualTo(1);
+        assertThat(summary.getPropertyCount("origin").get(HIGH.getOrigin())).isEqualTo(7);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> summary.getPropertyCount("type"));
+
+        ReportSummary parallel = report.summarizeInParallel("fileName", "category", "origin");
+        assertThat(parallel.getSize()).isEqualTo(7);
+        for (Severity severity : Severity.getPredefinedValues()) {
+            assertThat(parallel.getSizeOf(severity)).isEqualTo(summary.getSizeOf(severity));
+        }
+        for (String property : summary.getPropertyNames()) {
+            assertThat(parallel.getPropertyCount(property)).isEqualTo(summary.getPropertyCount(property));
+        }
+
+        assertThat(new Report().summarize().getSize()).isZero();
+        assertThat(Report.createCompactReport().addAll(report.copy().iterator().next())
+                .summarize("fileName").getPropertyCount("fileName").get("file-1")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldProvideIssuesByPosition() {
+        Report report = new Report().addAll(HIGH, NORMAL_1, NORMAL_2, LOW_2_A);
+
+        assertThat(report.get(0)).isSameAs(HIGH);
+        assertThat(report.get(3)).isSameAs(LOW_2_A);
+
+        report.add(LOW_2_B);
+        report.add(HIGH);
+        assertThat(report.get(4)).isSameAs(LOW_2_B);
+        assertThat(report.subList(1, 4)).containsExactly(NORMAL_1, NORMAL_2, LOW_2_A);
+
+        report.remove(NORMAL_1.getId());
+        assertThat(report.get(1)).isSameAs(NORMAL_2);
+        assertThat(report.subList(0, 4)).containsExactly(HIGH, NORMAL_2, LOW_2_A, LOW_2_B);
+        assertThat(report.subList(2, 2)).isEmpty();
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> report.get(4));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> report.subList(3, 5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> report.subList(-1, 2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> report.subList(2, 1));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> report.subList(0, 1).add(HIGH));
+    }
+
+    @Test
+    void shouldStoreIssuesInMappedReport() throws IOException {
+        Report expected = new Report().addAll(HIGH, NORMAL_1, NORMAL_2, LOW_2_A, LOW_2_B, LOW_FILE_3);
+        expected.add(HIGH);
+        expected.logInfo("Hello");
+        expected.logError("Error");
+
+        Path file = Files.createTempFile("report", ".bin");
+        try {
+            Report mapped = Report.createMappedReport(expected, file);
+
+            assertThat(mapped).isEqualTo(expected);
+            assertThat(Report.openMappedReport(file)).isEqualTo(expected);
+            assertThat(mapped.iterator()).containsExactly(HIGH, NORMAL_1, NORMAL_2, LOW_2_A, LOW_2_B, LOW_FILE_3);
+            assertThat(mapped.get(5)).isEqualTo(LOW_FILE_3).isNotSameAs(LOW_FILE_3);
+            assertThat(mapped.getSizeOf(Severity.WARNING_LOW)).isEqualTo(3);
+            assertThat(mapped.findById(NORMAL_2.getId())).isEqualTo(NORMAL_2);
+
+            mapped.add(HIGH);
+            assertThat(mapped.getDuplicatesSize()).isEqualTo(2);
+            assertThat(mapped.filter(Issue.byFileName("file-1"))).hasSize(3);
+            assertThat(mapped.copy()).isEqualTo(mapped);
+
+            assertThat(mapped.remove(HIGH.getId())).isEqualTo(HIGH);
+            assertThat(mapped.get(0)).isEqualTo(NORMAL_1);
+            assertThat(mapped.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(0);
+
+            for (Issue issue : mapped) {
+                issue.setModuleName("module");
+            }
+            assertThat(mapped.getModules()).containsExactly("module");
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldMergeInParallelLikeSequentially() {
+        IssueBuilder builder = new IssueBuilder();
+        List<Report> reports = new ArrayList<>();
+        for (int module = 0; module < 20; module++) {
+            Report report = new Report();
+            for (int line = 0; line < 500; line++) {
+                report.add(builder.setFileName("file-" + (module + line) % 30).setLineStart(line).build());
+            }
+            report.add(HIGH);
+            report.logInfo("Info of module %d", module);
+            report.logError("Error of module %d", module);
+            reports.add(report);
+        }
+        reports.get(3).add(HIGH);
+
+        Report sequential = new Report().addAll(NORMAL_1, HIGH);
+        Report parallel = sequential.copy();
+        for (Report report : reports) {
+            sequential.addAll(report);
+        }
+        parallel.mergeInParallel(reports);
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(parallel.iterator()).containsExactlyElementsOf(sequential);
+        assertThat(parallel.getDuplicatesSize()).isEqualTo(sequential.getDuplicatesSize()).isPositive();
+        assertThat(parallel.getInfoMessages()).isEqualTo(sequential.getInfoMessages()).hasSize(20);
+        assertThat(parallel.getErrorMessages()).isEqualTo(sequential.getErrorMessages()).hasSize(20);
+    }
+
+    @Test
+    void shouldUpdateIndexWhenAddingAndRemovingIssues() {
+        Report report = new Report();
+        report.addAll(HIGH, NORMAL_1, NORMAL_2);
+
+        assertThat(report.getFiles()).containsExactly("file-1");
+        assertThat(report.getSizeOf(Severity.WARNING_NORMAL)).isEqualTo(2);
+
+        report.addAll(LOW_2_A, LOW_2_B, LOW_FILE_3);
+
+        assertThat(report.getFiles()).containsExactlyInAnyOrder("file-1", "file-2", "file-3");
+        assertThat(report.getSizeOf(Severity.WARNING_LOW)).isEqualTo(3);
+        assertThat(report.getSeverities()).containsExactlyInAnyOrder(
+                Severity.WARNING_HIGH, Severity.WARNING_NORMAL, Severity.WARNING_LOW);
+        assertThat(report.getPropertyCount(Issue.getPropertyValueGetter("fileName")))
+                .containsEntry("file-1", 3).containsEntry("file-2", 2).containsEntry("file-3", 1);
+        assertThat(report.findByProperty(Issue.byFileName("file-2"))).containsExactlyInAnyOrder(LOW_2_A, LOW_2_B);
+        assertThat(report.filter(Issue.byFileName("file-1")).iterator()).containsExactly(HIGH, NORMAL_1, NORMAL_2);
+
+        report.remove(HIGH.getId());
+        report.remove(LOW_FILE_3.getId());
+
+        assertThat(report.getFiles()).containsExactlyInAnyOrder("file-1", "file-2");
+        assertThat(report.getSeverities()).containsExactlyInAnyOrder(Severity.WARNING_NORMAL, Severity.WARNING_LOW);
+        assertThat(report.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(0);
+        assertThat(report.filter(Issue.byFileName("file-1")).iterator()).containsExactly(NORMAL_1, NORMAL_2);
+        assertThat(report.findByProperty(Issue.byFileName("file-3"))).isEmpty();
+    }
+
+    @Test
+    void shouldRecreateIndexWhenIssuesHaveBeenModified() {
+        IssueBuilder builder = new IssueBuilder().setModuleName("module-1");
+        Issue first = builder.setMessage("first").build();
+        Issue second = builder.setMessage("second").build();
+
+        Report report = new Report().addAll(first, second);
+        assertThat(report.getModules()).containsExactly("module-1");
+        assertThat(report.findByProperty(Issue.byModuleName("module-1"))).hasSize(2);
+
+        second.setModuleName("module-2");
+
+        assertThat(report.getModules()).containsExactlyInAnyOrder("module-1", "module-2");
+        assertThat(report.findByProperty(Issue.byModuleName("module-1"))).containsExactly(first);
+        assertThat(report.getPropertyCount(Issue.getPropertyValueGetter("moduleName")))
+                .containsEntry("module-1", 1).containsEntry("module-2", 1);
+    }
+
+    @Test
+    void shouldQueryReportsThatShareIssuesConcurrently() throws InterruptedException, ExecutionException {
+        IssueBuilder builder = new IssueBuilder().setModuleName("module");
+        Report base = new Report();
+        for (int i = 0; i < 1000; i++) {
+            base.add(builder.setFileName("file-" + i % 10).setMessage("issue-" + i).build());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 10; round++) {
+                List<Report> reports = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    reports.add(i % 2 == 0 ? base.copy() : base.filter(Predicates.alwaysTrue()));
+                }
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> results = new ArrayList<>();
+                for (Report report : reports) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return report.findByProperty(Issue.byFileName("file-0")).size();
+                    }));
+                }
+                start.countDown();
+                for (Future<Integer> result : results) {
+                    assertThat(result.get()).isEqualTo(100);
+                }
+
+                String moduleName = "module-" + round;
+                base.get(round).setModuleName(moduleName);
+
+                for (Report report : reports) {
+                    assertThat(report.getModules()).contains(moduleName);
+                    assertThat(report.findByProperty(Issue.byModuleName(moduleName))).hasSize(1);
+                }
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertThatReportIsCompact(final Report report) {
+        assertThat(report.isNotEmpty()).isTrue();
+        assertThat(report.get(0)).isNotSameAs(report.get(0));
+    }
+
     /**
      * Ensures that each method that creates a copy of another issue instance also copies the corresponding properties.
      */
@@ -458,6 +720,39 @@ class ReportTest extends SerializableTest<Report> {
         assertThat(found).isSameAs(HIGH);
     }
 
+    @Test
+    void shouldFindAndRemoveIssuesAfterModifications() {
+        Report report = new Report();
+        report.addAll(asList(HIGH, NORMAL_1));
+        assertThat(report.findById(NORMAL_1.getId())).isSameAs(NORMAL_1);
+
+        report.addAll(NORMAL_2, LOW_2_A);
+        assertThat(report.findById(LOW_2_A.getId())).isSameAs(LOW_2_A);
+
+        assertThat(report.remove(NORMAL_1.getId())).isSameAs(NORMAL_1);
+        assertThatThrownBy(() -> report.findById(NORMAL_1.getId())).isInstanceOf(NoSuchElementException.class);
+        assertThat(report.findById(NORMAL_2.getId())).isSameAs(NORMAL_2);
+        assertThat(report.iterator()).containsExactly(HIGH, NORMAL_2, LOW_2_A);
+    }
+
+    @Test
+    void shouldFindFirstIssueIfIdIsNotUnique() {
+        Issue copy = new IssueBuilder().copy(LOW_2_B).setId(LOW_2_A.getId()).build();
+
+        shouldFindFirstIssueIfIdIsNotUnique(new Report(), copy);
+        shouldFindFirstIssueIfIdIsNotUnique(Report.createCompactReport(), copy);
+    }
+
+    private void shouldFindFirstIssueIfIdIsNotUnique(final Report report, final Issue copy) {
+        report.addAll(LOW_2_A, copy);
+
+        assertThat(report.findById(LOW_2_A.getId())).isEqualTo(LOW_2_A);
+        assertThat(report.remove(LOW_2_A.getId())).isEqualTo(LOW_2_A);
+        assertThat(report.findById(LOW_2_A.getId())).isEqualTo(copy);
+        assertThat(report.remove(LOW_2_A.getId())).isEqualTo(copy);
+        assertThat(report.isEmpty()).isTrue();
+    }
+
     @Test
     void shouldThrowExceptionWhenSearchingWithWrongKey() {
         shouldFindNothing(HIGH);
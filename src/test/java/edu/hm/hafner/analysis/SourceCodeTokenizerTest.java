@@ -0,0 +1,50 @@
+package edu.hm.hafner.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link SourceCodeTokenizer}.
+ *
+ * @author Ullrich Hafner
+ */
+class SourceCodeTokenizerTest {
+    @Test
+    void shouldSeparateTokensBySingleBlank() {
+        SourceCodeTokenizer tokenizer = new SourceCodeTokenizer();
+
+        assertThat(tokenizer.normalize("  int\tvalue=a+b;  ")).isEqualTo("int value = a + b ;");
+        assertThat(tokenizer.normalize("int value = a + b;")).isEqualTo("int value = a + b ;");
+        assertThat(tokenizer.normalize("$field_1 = 0x1F;")).isEqualTo("$field_1 = 0x1F ;");
+        assertThat(tokenizer.normalize(" \t ")).isEmpty();
+        assertThat(tokenizer.normalize("")).isEmpty();
+    }
+
+    @Test
+    void shouldSkipComments() {
+        SourceCodeTokenizer tokenizer = new SourceCodeTokenizer();
+
+        assertThat(tokenizer.normalize("call(); // comment")).isEqualTo("call ( ) ;");
+        assertThat(tokenizer.normalize("// comment")).isEmpty();
+        assertThat(tokenizer.normalize("value = 1; # comment")).isEqualTo("value = 1 ;");
+        assertThat(tokenizer.normalize("#include <stdio.h>")).isEqualTo("# include < stdio . h >");
+        assertThat(tokenizer.normalize("a /* comment */ b")).isEqualTo("a b");
+        assertThat(tokenizer.normalize("a /* comment")).isEqualTo("a");
+        assertThat(tokenizer.normalize(" * still a comment // with slashes")).isEmpty();
+        assertThat(tokenizer.normalize(" end of comment */ b")).isEqualTo("b");
+        assertThat(tokenizer.normalize("/**/c")).isEqualTo("c");
+    }
+
+    @Test
+    void shouldCopyLiterals() {
+        SourceCodeTokenizer tokenizer = new SourceCodeTokenizer();
+
+        assertThat(tokenizer.normalize("s = \"a  // b\";")).isEqualTo("s = \"a  // b\" ;");
+        assertThat(tokenizer.normalize("s = \"quote \\\" /* \";")).isEqualTo("s = \"quote \\\" /* \" ;");
+        assertThat(tokenizer.normalize("c = '#';")).isEqualTo("c = '#' ;");
+        assertThat(tokenizer.normalize("s = \"unterminated")).isEqualTo("s = \"unterminated");
+        assertThat(tokenizer.normalize("s = \"escape at end\\")).isEqualTo("s = \"escape at end\\");
+        assertThat(tokenizer.normalize("next")).isEqualTo("next");
+    }
+}
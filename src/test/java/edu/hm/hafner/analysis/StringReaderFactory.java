@@ -0,0 +1,36 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Provides a reader for a report that is stored in a string.
+ *
+ * @author Ullrich Hafner
+ */
+class StringReaderFactory extends ReaderFactory {
+    private final String content;
+
+    /**
+     * Creates a new factory that reads the specified content.
+     *
+     * @param content
+     *         the content of the report
+     */
+    StringReaderFactory(final String content) {
+        super(StandardCharsets.UTF_8);
+
+        this.content = content;
+    }
+
+    @Override
+    public String getFileName() {
+        return "log.txt";
+    }
+
+    @Override
+    public Reader create() {
+        return new StringReader(content);
+    }
+}
@@ -0,0 +1,118 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.hm.hafner.analysis.FingerprintAlgorithm;
+import edu.hm.hafner.analysis.FullTextFingerprint;
+
+/**
+ * Compares the cost of the raw and the normalized fingerprints of {@link FullTextFingerprint} for the MD5 and the
+ * MurmurHash3 algorithms. Measures the time to create the fingerprints of the issues of a synthetic source file with
+ * comments and indentation.
+ *
+ * @author Ullrich Hafner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FingerprintBenchmark {
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    /** Number of lines of the source file. */
+    @Param("5000")
+    private int size;
+
+    /** Every n-th line of the source file has an issue. */
+    @Param("10")
+    private int distance;
+
+    /** The mode of the fingerprints. */
+    @Param({"RAW", "NORMALIZED"})
+    private FullTextFingerprint.Mode mode;
+
+    /** The name of the algorithm. */
+    @Param({"MD5", "MURMUR3_128"})
+    private String algorithm;
+
+    private Path file;
+    private int[] lines;
+    private FullTextFingerprint fingerprint;
+
+    /**
+     * Creates the source file and the affected lines.
+     *
+     * @throws IOException
+     *         if the file could not be written
+     */
+    @Setup(Level.Trial)
+    public void createSourceFile() throws IOException {
+        List<String> content = new ArrayList<>();
+        for (int line = 0; content.size() < size; line++) {
+            content.add("    /**");
+            content.add("     * Computes the value of element " + line + ".");
+            content.add("     */");
+            content.add("    public int compute" + line + "(final int value) {");
+            content.add("        int result = value * " + line + "; // scale the value");
+            content.add("");
+            content.add("        return result + \"/* not a comment */\".length();");
+            content.add("    }");
+            content.add("");
+        }
+        file = Files.createTempFile("fingerprint-benchmark", ".java");
+        Files.write(file, content.subList(0, size), CHARSET);
+
+        lines = new int[size / distance];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = i * distance + 1;
+        }
+        fingerprint = new FullTextFingerprint("MD5".equals(algorithm)
+                ? FingerprintAlgorithm.MD5 : FingerprintAlgorithm.MURMUR3_128, mode);
+    }
+
+    /**
+     * Deletes the source file.
+     *
+     * @throws IOException
+     *         if the file could not be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteSourceFile() throws IOException {
+        Files.delete(file);
+    }
+
+    /**
+     * Creates the fingerprints of all affected lines in a single pass over the file.
+     *
+     * @return the fingerprints
+     * @throws IOException
+     *         if the file could not be read
+     */
+    @Benchmark
+    public String[] createFingerprints() throws IOException {
+        return fingerprint.compute(file.toString(), lines, CHARSET);
+    }
+}
@@ -0,0 +1,134 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.MappedFileReaderFactory;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+
+/**
+ * Measures the throughput of the parsers for each {@link SyntheticReport}. Besides the number of parsed reports per
+ * second the benchmark reports the processed megabytes per second and the created issues per second. Run the benchmark
+ * with the GC profiler (the {@code benchmark} profile of the Maven build does this automatically) to see the
+ * allocation rate as well.
+ *
+ * @author Ullrich Hafner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ParserBenchmark {
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    @Param({"GCC4", "MSBUILD", "JAVAC", "DOXYGEN", "CHECKSTYLE", "PMD", "FINDBUGS", "TAGLIST", "ECLIPSE_XML",
+            "IDEA_INSPECTION", "STYLECOP", "CPPCHECK"})
+    private SyntheticReport report;
+
+    /** Size of the generated report in megabytes. */
+    @Param("10")
+    private int size;
+
+    /** Determines whether to read the report with a {@link MappedFileReaderFactory}. */
+    @Param("false")
+    private boolean mapped;
+
+    private Path file;
+    private double megabytes;
+    private IssueParser parser;
+    private ReaderFactory readerFactory;
+
+    /**
+     * Creates the synthetic report and the parser.
+     *
+     * @throws IOException
+     *         if the report could not be created
+     */
+    @Setup(Level.Trial)
+    public void createReport() throws IOException {
+        file = report.createFile(size);
+        megabytes = Files.size(file) / BYTES_PER_MEGABYTE;
+        parser = report.createParser();
+        if (mapped) {
+            readerFactory = new MappedFileReaderFactory(file, StandardCharsets.UTF_8);
+        }
+        else {
+            readerFactory = new FileReaderFactory(file, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Deletes the synthetic report.
+     *
+     * @throws IOException
+     *         if the report could not be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteReport() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Parses the synthetic report.
+     *
+     * @param counters
+     *         the counters for the processed megabytes and created issues
+     *
+     * @return the parsed report
+     */
+    @Benchmark
+    public Report parse(final ParsingCounters counters) {
+        Report issues = parser.parse(readerFactory);
+
+        counters.megabytes += megabytes;
+        counters.issues += issues.size();
+
+        return issues;
+    }
+
+    /**
+     * Counts the processed megabytes and the created issues. JMH normalizes these counters by the benchmark time so
+     * that the results are reported in MB/s and issues/s.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @SuppressWarnings("VisibilityModifier")
+    public static class ParsingCounters {
+        /** Processed megabytes. */
+        public double megabytes;
+        /** Created issues. */
+        public long issues;
+
+        /**
+         * Resets the counters before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+            issues = 0;
+        }
+    }
+}
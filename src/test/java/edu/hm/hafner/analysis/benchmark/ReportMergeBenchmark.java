@@ -0,0 +1,86 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+
+/**
+ * Measures the time to merge two large reports into a new report. Half of the issues of the second report are
+ * duplicates of issues of the first report, so the benchmark measures the duplicate detection of {@link Report#add}
+ * as well. Since the issues of both reports are created by the same {@link IssueBuilder}, the tree strings of
+ * duplicates share their nodes, while the issues themselves are different instances.
+ *
+ * @author Ullrich Hafner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ReportMergeBenchmark {
+    private static final Severity[] SEVERITIES = {Severity.WARNING_HIGH, Severity.WARNING_NORMAL,
+            Severity.WARNING_LOW, Severity.ERROR};
+
+    /** Number of issues in each of the merged reports. */
+    @Param({"10000", "50000", "100000", "1000000"})
+    private int size;
+
+    private Report first;
+    private Report second;
+
+    /**
+     * Creates the reports to merge.
+     */
+    @Setup(Level.Trial)
+    public void createReports() {
+        IssueBuilder builder = new IssueBuilder();
+        first = createReport(builder, 0);
+        second = createReport(builder, size / 2);
+        builder.dedup();
+    }
+
+    private Report createReport(final IssueBuilder builder, final int start) {
+        Report report = new Report();
+        for (int i = start; i < start + size; i++) {
+            report.add(builder.setFileName(String.format(
+                    "/workspace/project/module-%d/src/main/java/edu/hm/hafner/pkg%d/Class%d.java",
+                    i % 20, i % 300, i % 5000))
+                    .setPackageName("edu.hm.hafner.pkg" + i % 300)
+                    .setModuleName("module-" + i % 20)
+                    .setCategory("Category" + i % 10)
+                    .setType("Type" + i % 100)
+                    .setSeverity(SEVERITIES[i % SEVERITIES.length])
+                    .setLineStart(i % 1000 + 1)
+                    .setMessage(String.format("The local variable 'value%d' is never read in method compute%d",
+                            i % 100, i))
+                    .build());
+        }
+        return report;
+    }
+
+    /**
+     * Merges both reports into a new report.
+     *
+     * @return the merged report
+     */
+    @Benchmark
+    public Report merge() {
+        return new Report(first, second);
+    }
+}
@@ -0,0 +1,161 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.hm.hafner.analysis.BinaryReportReader;
+import edu.hm.hafner.analysis.BinaryReportWriter;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+
+/**
+ * Compares the Java serialization of a {@link Report} with the binary format of {@link BinaryReportWriter} and {@link
+ * BinaryReportReader}. Measures the time to write a report, to read all issues of a report, and to read only the
+ * number of issues per severity.
+ *
+ * @author Ullrich Hafner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ReportSerializationBenchmark {
+    private static final Severity[] SEVERITIES = {Severity.WARNING_HIGH, Severity.WARNING_NORMAL,
+            Severity.WARNING_LOW, Severity.ERROR};
+
+    /** Number of issues in the report. */
+    @Param("200000")
+    private int size;
+
+    private Report report;
+    private byte[] serialized;
+    private byte[] binary;
+
+    /**
+     * Creates the report and its serialized forms.
+     *
+     * @throws IOException
+     *         if the report could not be written
+     */
+    @Setup(Level.Trial)
+    public void createReport() throws IOException {
+        IssueBuilder builder = new IssueBuilder();
+        report = new Report();
+        for (int i = 0; i < size; i++) {
+            report.add(builder.setFileName(String.format(
+                    "/workspace/project/module-%d/src/main/java/edu/hm/hafner/pkg%d/Class%d.java",
+                    i % 20, i % 300, i % 5000))
+                    .setPackageName("edu.hm.hafner.pkg" + i % 300)
+                    .setModuleName("module-" + i % 20)
+                    .setCategory("Category" + i % 10)
+                    .setType("Type" + i % 100)
+                    .setSeverity(SEVERITIES[i % SEVERITIES.length])
+                    .setLineStart(i % 1000 + 1)
+                    .setMessage(String.format("The local variable 'value%d' is never read in method compute%d",
+                            i % 100, i))
+                    .build());
+        }
+        serialized = writeSerialized();
+        binary = writeBinary();
+    }
+
+    /**
+     * Writes the report using Java serialization.
+     *
+     * @return the serialized report
+     * @throws IOException
+     *         if the report could not be written
+     */
+    @Benchmark
+    public byte[] writeSerialized() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(output)) {
+            stream.writeObject(report);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Writes the report using the binary format.
+     *
+     * @return the written report
+     * @throws IOException
+     *         if the report could not be written
+     */
+    @Benchmark
+    public byte[] writeBinary() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BinaryReportWriter.write(report, output);
+        return output.toByteArray();
+    }
+
+    /**
+     * Reads the report using Java serialization.
+     *
+     * @return the report
+     * @throws IOException
+     *         if the report could not be read
+     * @throws ClassNotFoundException
+     *         if the report could not be read
+     */
+    @Benchmark
+    public Report readSerialized() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return (Report) stream.readObject();
+        }
+    }
+
+    /**
+     * Reads the report using the binary format.
+     *
+     * @return the report
+     */
+    @Benchmark
+    public Report readBinary() {
+        return new BinaryReportReader(binary).readReport();
+    }
+
+    /**
+     * Reads the number of errors using Java serialization.
+     *
+     * @return the number of errors
+     * @throws IOException
+     *         if the report could not be read
+     * @throws ClassNotFoundException
+     *         if the report could not be read
+     */
+    @Benchmark
+    public int countSerialized() throws IOException, ClassNotFoundException {
+        return readSerialized().getSizeOf(Severity.ERROR);
+    }
+
+    /**
+     * Reads the number of errors using the binary format.
+     *
+     * @return the number of errors
+     */
+    @Benchmark
+    public int countBinary() {
+        return new BinaryReportReader(binary).getSizeOf(Severity.ERROR);
+    }
+}
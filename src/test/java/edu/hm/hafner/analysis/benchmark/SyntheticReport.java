@@ -0,0 +1,436 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.parser.DoxygenParser;
+import edu.hm.hafner.analysis.parser.EclipseXMLParser;
+import edu.hm.hafner.analysis.parser.FindBugsParser;
+import edu.hm.hafner.analysis.parser.FindBugsParser.PriorityProperty;
+import edu.hm.hafner.analysis.parser.Gcc4CompilerParser;
+import edu.hm.hafner.analysis.parser.IdeaInspectionParser;
+import edu.hm.hafner.analysis.parser.JavacParser;
+import edu.hm.hafner.analysis.parser.MsBuildParser;
+import edu.hm.hafner.analysis.parser.StyleCopParser;
+import edu.hm.hafner.analysis.parser.TaglistParser;
+import edu.hm.hafner.analysis.parser.checkstyle.CheckStyleParser;
+import edu.hm.hafner.analysis.parser.pmd.PmdParser;
+import edu.hm.hafner.analysis.parser.violations.CppCheckAdapter;
+
+/**
+ * Synthetic reports of a configurable size for each family of parsers. Every constant knows how to write a report in
+ * the format of the associated tool and how to create the parser that reads this report. Console logs interleave the
+ * warnings with typical build output (compiler invocations, {@code make} directory changes) so that the fast line
+ * checks of the parsers are exercised as well.
+ *
+ * @author Ullrich Hafner
+ */
+public enum SyntheticReport {
+    /** Console log of gcc 4.x, parsed by a {@link edu.hm.hafner.analysis.LookaheadParser}. */
+    GCC4 {
+        @Override
+        IssueParser createParser() {
+            return new Gcc4CompilerParser();
+        }
+
+        @Override
+        String createEntry(final int index) {
+            return String.format("make[2]: Entering directory '/build/workspace/module%d'%n"
+                            + "gcc -O2 -Wall -c src/file%d.c -o obj/file%d.o%n"
+                            + "src/file%d.c:%d:%d: warning: unused variable 'value%d' [-Wunused-variable]%n",
+                    index % MODULES, index, index, index, line(index), column(index), index);
+        }
+    },
+    /** Console log of MSBuild, parsed by a {@link edu.hm.hafner.analysis.LookaheadParser}. */
+    MSBUILD {
+        @Override
+        IssueParser createParser() {
+            return new MsBuildParser();
+        }
+
+        @Override
+        String createEntry(final int index) {
+            return String.format("  Compiling Source\\File%d.cs ...%n"
+                            + "Source\\Module%d\\File%d.cs(%d,%d): warning CS0168: The variable 'e%d' is declared "
+                            + "but never used [C:\\Build\\Module%d\\Module%d.csproj]%n",
+                    index, index % MODULES, index, line(index), column(index), index, index % MODULES,
+                    index % MODULES);
+        }
+    },
+    /** Console log of Maven and javac, parsed by a {@link edu.hm.hafner.analysis.LookaheadParser}. */
+    JAVAC {
+        @Override
+        IssueParser createParser() {
+            return new JavacParser();
+        }
+
+        @Override
+        String createEntry(final int index) {
+            return String.format("[INFO] Compiling 1 source file to /build/module%d/target/classes%n"
+                            + "[WARNING] /build/module%d/src/main/java/edu/hm/Class%d.java:[%d,%d] [deprecation] "
+                            + "method%d() in Class%d has been deprecated%n",
+                    index % MODULES, index % MODULES, index, line(index), column(index), index, index);
+        }
+    },
+    /** Console log of Doxygen, parsed by a {@link edu.hm.hafner.analysis.RegexpDocumentParser}. */
+    DOXYGEN {
+        @Override
+        IssueParser createParser() {
+            return new DoxygenParser();
+        }
+
+        @Override
+        String createEntry(final int index) {
+            return String.format("/build/module%d/src/File%d.cpp:%d: Warning: documented function "
+                    + "`Class%d::method%d' was not declared or defined.%n", index % MODULES, index, line(index),
+                    index, index);
+        }
+    },
+    /** Checkstyle XML report, parsed with a StAX stream. */
+    CHECKSTYLE {
+        @Override
+        IssueParser createParser() {
+            return new CheckStyleParser();
+        }
+
+        @Override
+        String createHeader() {
+            return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<checkstyle version=\"8.15\">\n";
+        }
+
+        @Override
+        String createEntry(final int index) {
+            return String.format("<file name=\"/build/module%d/src/main/java/edu/hm/Class%d.java\">%n"
+                            + "<error line=\"%d\" column=\"%d\" severity=\"warning\" message=\"Line is longer "
+                            + "than 120 characters (found %d).\" "
+                            + "source=\"com.puppycrawl.tools.checkstyle.checks.sizes.LineLengthCheck\"/>%n"
+                            + "</file>%n",
+                    index % MODULES, index, line(index), column(index), 120 + index % 80);
+        }
+
+        @Override
+        String createFooter() {
+            return "</checkstyle>\n";
+        }
+    },
+    /** PMD XML report, parsed with a StAX stream. */
+    PMD {
+        @Override
+        IssueParser createParser() {
+            return new PmdParser();
+        }
+
+        @Override
+        String createHeader() {
+            return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<pmd version=\"6.10.0\">\n";
+        }
+
+        @Override
+        String createEntry(final int index) {
+            return String.format("<file name=\"/build/module%d/src/main/java/edu/hm/Class%d.java\">%n"
+                            + "<violation beginline=\"%d\" endline=\"%d\" begincolumn=\"%d\" endcolumn=\"%d\" "
+                            + "rule=\"UnusedLocalVariable\" ruleset=\"Best Practices\" package=\"edu.hm\" "
+                            + "class=\"Class%d\" priority=\"3\">%n"
+                            + "Avoid unused local variables such as 'value%d'.%n"
+                            + "</violation>%n"
+                            + "</file>%n",
+                    index % MODULES, index, line(index), line(index), column(index), column(index) + 10,
+                    index, index);
+        }
+
+        @Override
+        String createFooter() {
+            return "</pmd>\n";
+        }
+    },
+    /** Native FindBugs XML report, pre-parsed with a StAX stream and parsed with the FindBugs library. */
+    FINDBUGS {
+        @Override
+        IssueParser createParser() {
+            return new FindBugsParser(PriorityProperty.RANK);
+        }
+
+        @Override
+        String createHeader() {
+            return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                    + "<BugCollection version=\"3.1.9\" sequence=\"0\" timestamp=\"1545332400000\" "
+                    + "analysisTimestamp=\"1545332400000\" release=\"\">\n"
+                    + "<Project projectName=\"benchmark\"></Project>\n";
+        }
+
+        @Override
+        String createEntry(final int index) {
+            return String.format("<BugInstance type=\"DLS_DEAD_LOCAL_STORE\" priority=\"2\" rank=\"17\" "
+                            + "abbrev=\"DLS\" category=\"STYLE\" instanceHash=\"%032x\">%n"
+                            + "<LongMessage>Dead store to value%d in edu.hm.Class%d.method()</LongMessage>%n"
+                            + "<Class classname=\"edu.hm.Class%d\">%n"
+                            + "<SourceLine classname=\"edu.hm.Class%d\" start=\"1\" end=\"%d\" "
+                            + "sourcefile=\"Class%d.java\" sourcepath=\"edu/hm/Class%d.java\"/>%n"
+                            + "</Class>%n"
+                            + "<SourceLine classname=\"edu.hm.Class%d\" start=\"%d\" end=\"%d\" "
+                            + "sourcefile=\"Class%d.java\" sourcepath=\"edu/hm/Class%d.java\"/>%n"
+                            + "</BugInstance>%n",
+                    index, index, index, index, index, line(index) + 100, index, index, index, line(index),
+                    line(index), index, index);
+        }
+
+        @Override
+        String createFooter() {
+            return "</BugCollection>\n";
+        }
+    },
+    /** Taglist XML report, parsed with a StAX stream. */
+    TAGLIST {
+        @Override
+        IssueParser createParser() {
+            return new TaglistParser();
+        }
+
+        @Override
+        String createHeader() {
+            return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                    + "<report><tags><tag name=\"TODO\"><files>\n";
+        }
+
+        @Override
+        String createEntry(final int index) {
+            return String.format("<file name=\"edu.hm.Class%d\"><comments>%n"
+                            + "<comment><lineNumber>%d</lineNumber><comment>implement method%d</comment></comment>%n"
+                            + "</comments></file>%n",
+                    index, line(index), index);
+        }
+
+        @Override
+        String createFooter() {
+            return "</files></tag></tags></report>\n";
+        }
+    },
+    /** Eclipse compiler XML report, parsed with a StAX stream. */
+    ECLIPSE_XML {
+        @Override
+        IssueParser createParser() {
+            return new EclipseXMLParser();
+        }
+
+        @Override
+        String createHeader() {
+            return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                    + "<compiler name=\"Eclipse Compiler for Java(TM)\" version=\"3.15.0\"><sources>\n";
+        }
+
+        @Override
+        String createEntry(final int index) {
+            return String.format("<source package=\"edu.hm\" path=\"/build/module%d/src/edu/hm/Class%d.java\">%n"
+                            + "<problems errors=\"0\" infos=\"0\" problems=\"1\" warnings=\"1\">%n"
+                            + "<problem id=\"LocalVariableIsNeverUsed\" line=\"%d\" severity=\"WARNING\">%n"
+                            + "<message value=\"The value of the local variable value%d is not used\"/>%n"
+                            + "<source_context sourceEnd=\"%d\" sourceStart=\"%d\" value=\"int value%d = 0;\"/>%n"
+                            + "</problem>%n"
+                            + "</problems>%n"
+                            + "</source>%n",
+                    index % MODULES, index, line(index), index, column(index) + 10, column(index), index);
+        }
+
+        @Override
+        String createFooter() {
+            return "</sources></compiler>\n";
+        }
+    },
+    /** IntelliJ IDEA inspections XML report, parsed with a StAX stream. */
+    IDEA_INSPECTION {
+        @Override
+        IssueParser createParser() {
+            return new IdeaInspectionParser();
+        }
+
+        @Override
+        String createHeader() {
+            return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<problems>\n";
+        }
+
+        @Override
+        String createEntry(final int index) {
+            return String.format("<problem>%n"
+                            + "<file>file://$PROJECT_DIR$/module%d/src/edu/hm/Class%d.java</file>%n"
+                            + "<line>%d</line>%n"
+                            + "<module>module%d</module>%n"
+                            + "<problem_class severity=\"WARNING\">Unused declaration</problem_class>%n"
+                            + "<description>Method &lt;code&gt;method%d()&lt;/code&gt; is never used</description>%n"
+                            + "</problem>%n",
+                    index % MODULES, index, line(index), index % MODULES, index);
+        }
+
+        @Override
+        String createFooter() {
+            return "</problems>\n";
+        }
+    },
+    /** StyleCop XML report, parsed with a StAX stream. */
+    STYLECOP {
+        @Override
+        IssueParser createParser() {
+            return new StyleCopParser();
+        }
+
+        @Override
+        String createHeader() {
+            return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<StyleCopViolations>\n";
+        }
+
+        @Override
+        String createEntry(final int index) {
+            return String.format("<Violation Section=\"Root.Module%d.Class%d\" LineNumber=\"%d\" "
+                            + "Source=\"Module%d\\Class%d.cs\" RuleNamespace=\"StyleCop.CSharp.ReadabilityRules\" "
+                            + "Rule=\"PrefixLocalCallsWithThis\" RuleId=\"SA1101\">%n"
+                            + "The call to value%d must begin with the 'this.' prefix.%n"
+                            + "</Violation>%n",
+                    index % MODULES, index, line(index), index % MODULES, index, index);
+        }
+
+        @Override
+        String createFooter() {
+            return "</StyleCopViolations>\n";
+        }
+    },
+    /** CppCheck XML report, parsed by an {@link edu.hm.hafner.analysis.parser.violations.AbstractViolationAdapter}. */
+    CPPCHECK {
+        @Override
+        IssueParser createParser() {
+            return new CppCheckAdapter();
+        }
+
+        @Override
+        String createHeader() {
+            return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                    + "<results version=\"2\">\n<cppcheck version=\"1.86\"/>\n<errors>\n";
+        }
+
+        @Override
+        String createEntry(final int index) {
+            return String.format("<error id=\"variableScope\" severity=\"style\" "
+                            + "msg=\"The scope of the variable 'value%d' can be reduced.\" "
+                            + "verbose=\"The scope of the variable 'value%d' can be reduced.\">%n"
+                            + "<location file=\"module%d/file%d.c\" line=\"%d\"/>%n"
+                            + "</error>%n",
+                    index, index, index % MODULES, index, line(index));
+        }
+
+        @Override
+        String createFooter() {
+            return "</errors>\n</results>\n";
+        }
+    };
+
+    private static final int MODULES = 50;
+    private static final int MAX_LINE = 5000;
+    private static final int MAX_COLUMN = 80;
+    private static final int BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    /**
+     * Creates a new parser instance that is capable of reading this report.
+     *
+     * @return the parser
+     */
+    abstract IssueParser createParser();
+
+    /**
+     * Creates the text that precedes the entries of the report.
+     *
+     * @return the header
+     */
+    String createHeader() {
+        return "";
+    }
+
+    /**
+     * Creates the entry with the specified index. Each entry contains exactly one issue.
+     *
+     * @param index
+     *         the index of the entry
+     *
+     * @return the entry
+     */
+    abstract String createEntry(int index);
+
+    /**
+     * Creates the text that follows the entries of the report.
+     *
+     * @return the footer
+     */
+    String createFooter() {
+        return "";
+    }
+
+    /**
+     * Writes a new report with the specified minimum size into a temporary file.
+     *
+     * @param megabytes
+     *         the minimum size of the report in megabytes
+     *
+     * @return the created file
+     */
+    public Path createFile(final int megabytes) {
+        long expectedSize = (long) megabytes * BYTES_PER_MEGABYTE;
+        return write(writer -> {
+            long size = 0;
+            for (int index = 0; size < expectedSize; index++) {
+                String entry = createEntry(index);
+                writer.write(entry);
+                size += entry.length();
+            }
+        });
+    }
+
+    /**
+     * Writes a new report with the specified number of entries into a temporary file.
+     *
+     * @param entries
+     *         the number of entries
+     *
+     * @return the created file
+     */
+    public Path createFileWithEntries(final int entries) {
+        return write(writer -> {
+            for (int index = 0; index < entries; index++) {
+                writer.write(createEntry(index));
+            }
+        });
+    }
+
+    private Path write(final EntryWriter entryWriter) {
+        try {
+            Path file = Files.createTempFile(name().toLowerCase(Locale.ENGLISH), ".report");
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write(createHeader());
+                entryWriter.write(writer);
+                writer.write(createFooter());
+            }
+            return file;
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static int line(final int index) {
+        return 1 + index % MAX_LINE;
+    }
+
+    private static int column(final int index) {
+        return 1 + index % MAX_COLUMN;
+    }
+
+    /**
+     * Writes the entries of a report.
+     */
+    @FunctionalInterface
+    private interface EntryWriter {
+        void write(Writer writer) throws IOException;
+    }
+}
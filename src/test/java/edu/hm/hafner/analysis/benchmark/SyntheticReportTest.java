@@ -0,0 +1,50 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.Report;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link SyntheticReport}.
+ *
+ * @author Ullrich Hafner
+ */
+class SyntheticReportTest {
+    private static final int ENTRIES = 100;
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(SyntheticReport.class)
+    void shouldCreateOneIssuePerEntry(final SyntheticReport syntheticReport) throws IOException {
+        Path file = syntheticReport.createFileWithEntries(ENTRIES);
+        try {
+            Report report = syntheticReport.createParser().parse(new FileReaderFactory(file, StandardCharsets.UTF_8));
+
+            assertThat(report.size()).isEqualTo(ENTRIES);
+            assertThat(report.getDuplicatesSize()).isZero();
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(SyntheticReport.class)
+    void shouldCreateFileOfRequestedSize(final SyntheticReport syntheticReport) throws IOException {
+        Path file = syntheticReport.createFile(1);
+        try {
+            assertThat(Files.size(file)).isGreaterThanOrEqualTo(1024 * 1024);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package edu.hm.hafner.analysis.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+
+/**
+ * Measures how the parsing time of the XML parsers grows with the number of entries in a {@link SyntheticReport}.
+ * The benchmark reports the average time to parse a report with the given number of entries and the average time per
+ * parsed entry. If a parser scales linearly, then the time per entry stays constant (within the measurement error)
+ * when the number of entries grows from 1,000 to 100,000.
+ *
+ * @author Ullrich Hafner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class XmlParserScalingBenchmark {
+    @Param({"TAGLIST", "ECLIPSE_XML", "IDEA_INSPECTION", "STYLECOP"})
+    private SyntheticReport report;
+
+    /** Number of entries in the generated report. */
+    @Param({"1000", "10000", "100000"})
+    private int entries;
+
+    private Path file;
+    private IssueParser parser;
+    private ReaderFactory readerFactory;
+
+    /**
+     * Creates the synthetic report and the parser.
+     */
+    @Setup(Level.Trial)
+    public void createReport() {
+        file = report.createFileWithEntries(entries);
+        parser = report.createParser();
+        readerFactory = new FileReaderFactory(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deletes the synthetic report.
+     *
+     * @throws IOException
+     *         if the report could not be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteReport() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Parses the synthetic report.
+     *
+     * @param counters
+     *         the counter for the parsed entries
+     *
+     * @return the parsed report
+     */
+    @Benchmark
+    public Report parse(final EntryCounters counters) {
+        Report issues = parser.parse(readerFactory);
+
+        counters.parsedEntries += issues.size();
+
+        return issues;
+    }
+
+    /**
+     * Counts the parsed entries. JMH normalizes this counter by the benchmark time so that the result is reported as
+     * time per parsed entry.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @SuppressWarnings("VisibilityModifier")
+    public static class EntryCounters {
+        /** Parsed entries. */
+        public long parsedEntries;
+
+        /**
+         * Resets the counter before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            parsedEntries = 0;
+        }
+    }
+}
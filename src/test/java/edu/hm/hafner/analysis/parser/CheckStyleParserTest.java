@@ -79,6 +79,27 @@ class CheckStyleParserTest extends AbstractParserTest {
         assertThat(report).hasSize(2);
     }
 
+    /**
+     * Parses a file that uses an internal DTD entity. Such files are not supported by the StAX stream, so the file will
+     * be parsed using the Digester.
+     */
+    @Test
+    void shouldFallBackToDigesterIfDtdIsUsed() {
+        Report report = parseInCheckStyleFolder("checkstyle-internal-entity.xml");
+
+        assertThat(report).hasSize(2);
+        assertThat(report.get(0)).hasLineStart(10)
+                .hasColumnStart(5)
+                .hasCategory("Javadoc")
+                .hasType("JavadocMethodCheck")
+                .hasSeverity(Severity.WARNING_NORMAL)
+                .hasMessage("Missing a Javadoc comment.");
+        assertThat(report.get(1)).hasLineStart(20)
+                .hasCategory("Sizes")
+                .hasType("LineLengthCheck")
+                .hasSeverity(Severity.WARNING_HIGH);
+    }
+
     private Report parseInCheckStyleFolder(final String fileName) {
         return parse(PREFIX + fileName);
     }
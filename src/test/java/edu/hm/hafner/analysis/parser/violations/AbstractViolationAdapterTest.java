@@ -0,0 +1,71 @@
+package edu.hm.hafner.analysis.parser.violations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.util.ResourceTest;
+import se.bjurr.violations.lib.model.Violation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.*;
+
+/**
+ * Tests the class {@link AbstractViolationAdapter}.
+ *
+ * @author Ullrich Hafner
+ */
+class AbstractViolationAdapterTest extends ResourceTest {
+    private static Stream<Arguments> createAdaptersWithRecordTerminator() {
+        return Stream.of(
+                arguments(new CppCheckAdapter(), "cppcheck.xml"),
+                arguments(new AndroidLintParserAdapter(), "android-lint.xml"),
+                arguments(new JsHintAdapter(), "jshint.xml"),
+                arguments(new Flake8Adapter(), "flake8.txt"),
+                arguments(new Flake8Adapter(), "flake8-issue53786"),
+                arguments(new MyPyAdapter(), "mypy.txt"),
+                arguments(new YamlLintAdapter(), "yamllint.txt"),
+                arguments(new ZptLintAdapter(), "zptlint.log"));
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("createAdaptersWithRecordTerminator")
+    void shouldCreateSameViolationsForChunksAsForWholeReport(final AbstractViolationAdapter adapter,
+            final String fileName) throws Exception {
+        List<Violation> expected = adapter.createParser().parseReportOutput(toString(fileName));
+        assertThat(expected).isNotEmpty();
+
+        Optional<String> terminator = adapter.getRecordTerminator();
+        assertThat(terminator).isPresent();
+        for (int chunkSize : new int[] {1, 10, 200, 1 << 20}) {
+            List<Violation> actual = new ArrayList<>();
+            adapter.parseInChunks(createReaderFactory(fileName), terminator.get(), chunkSize, actual::add);
+
+            assertThat(actual).as("Chunk size %d", chunkSize).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void shouldStreamSameViolationsAsKlocworkParser() throws Exception {
+        KlocWorkAdapter adapter = new KlocWorkAdapter();
+        List<Violation> expected = adapter.createParser().parseReportOutput(toString("klocwork.xml"));
+
+        List<Violation> actual = new ArrayList<>();
+        adapter.parseViolations(createReaderFactory("klocwork.xml"), actual::add);
+
+        assertThat(actual).isNotEmpty().containsExactlyElementsOf(expected);
+    }
+
+    private ReaderFactory createReaderFactory(final String fileName) {
+        return new FileReaderFactory(getResourceAsFile(fileName), StandardCharsets.UTF_8);
+    }
+}
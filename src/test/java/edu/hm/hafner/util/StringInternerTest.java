@@ -0,0 +1,65 @@
+package edu.hm.hafner.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link StringInterner}.
+ *
+ * @author Ullrich Hafner
+ */
+class StringInternerTest {
+    private static final String FIRST = "/workspace/module/src/main/java/First.java";
+    private static final String SECOND = "/workspace/module/src/main/java/Second.java";
+    private static final String OTHER = "/other/src/main/java/First.java";
+
+    @Test
+    void shouldShareTreeStringsAcrossInterns() {
+        StringInterner interner = new StringInterner();
+
+        TreeString first = interner.intern(FIRST);
+        TreeString second = interner.intern(SECOND);
+        TreeString other = interner.intern(OTHER);
+
+        assertThat(first).hasToString(FIRST).isNotEqualTo(second).isNotEqualTo(other);
+        assertThat(second).hasToString(SECOND);
+        assertThat(other).hasToString(OTHER);
+        assertThat(interner.intern(FIRST)).isSameAs(first);
+
+        interner.dedup();
+
+        assertThat(first).hasToString(FIRST).isEqualTo(TreeString.valueOf(FIRST));
+        assertThat(second).hasToString(SECOND).hasSameHashCodeAs(TreeString.valueOf(SECOND));
+        assertThat(other).hasToString(OTHER);
+        assertThat(interner.intern(FIRST)).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    void shouldStartNewTreeIfMaximumSizeHasBeenReached() {
+        StringInterner interner = new StringInterner(2);
+
+        TreeString first = interner.intern(FIRST);
+        assertThat(interner.intern(FIRST)).isSameAs(first);
+        assertThat(interner.intern(FIRST)).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    void shouldInternStringsInLocalPool() {
+        StringInterner interner = new StringInterner(10, 1);
+
+        String category = new String("Category");
+        assertThat(interner.internString(category)).isSameAs(category);
+        assertThat(interner.internString(new String("Category"))).isSameAs(category);
+
+        String type = new String("Type");
+        assertThat(interner.internString(type)).isSameAs("Type".intern());
+    }
+
+    @Test
+    void shouldRejectInvalidSizes() {
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> new StringInterner(0));
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> new StringInterner(1, -1));
+    }
+}
@@ -34,6 +34,36 @@ class TreeStringBuilderTest {
         assertThat(TreeString.valueOf("foo/bar/zot")).hasToString("foo/bar/zot");
     }
 
+    @Test
+    void shouldCompareCompleteStringsOfTreeStrings() {
+        TreeStringBuilder builder = new TreeStringBuilder();
+        TreeString first = builder.intern("foo/bar/zot");
+        TreeString second = builder.intern("foo/xxx/zot");
+        TreeString other = builder.intern("bar/zot");
+
+        assertThat(first).isEqualTo(TreeString.valueOf("foo/bar/zot")).isNotEqualTo(second).isNotEqualTo(other);
+        assertThat(second).isEqualTo(TreeString.valueOf("foo/xxx/zot")).isNotEqualTo(first).isNotEqualTo(other);
+    }
+
+    @Test
+    void shouldCompareTreeStringsWithDifferentNodes() {
+        TreeStringBuilder builder = new TreeStringBuilder();
+        TreeString split = builder.intern("foo/bar/zot");
+        builder.intern("foo/bar/baz");
+        builder.intern("foo/bar");
+        TreeString shared = builder.intern("foo/bar/zot");
+
+        assertThat(shared).isSameAs(split);
+        assertThat(split).isEqualTo(TreeString.valueOf("foo/bar/zot"));
+        assertThat(TreeString.valueOf("foo/bar/zot")).isEqualTo(split);
+        assertThat(split).isNotEqualTo(TreeString.valueOf("foo/bar/zoo"))
+                .isNotEqualTo(TreeString.valueOf("goo/bar/zot"))
+                .isNotEqualTo(TreeString.valueOf("foo/bar/zot/"))
+                .isNotEqualTo(builder.intern("foo/bar"))
+                .isNotEqualTo("foo/bar/zot");
+        assertThat(builder.intern("")).isEqualTo(TreeString.valueOf(""));
+    }
+
     /**
      * Pseudo random (but deterministic) test.
      */
@@ -0,0 +1,71 @@
+package edu.hm.hafner.util;
+
+import java.io.StringReader;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.SecureXmlInputFactory;
+
+import static edu.hm.hafner.util.XmlStreamUtil.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link XmlStreamUtil}.
+ *
+ * @author Ullrich Hafner
+ */
+class XmlStreamUtilTest {
+    private static final String XML = "<?xml version=\"1.0\"?>\n"
+            + "<!-- comment -->\n"
+            + "<root>\n"
+            + "  <first name=\"1\"><nested><deep/></nested></first>\n"
+            + "  <second>text <b>bold</b> &amp; <![CDATA[<cdata>]]></second>\n"
+            + "  <third/>\n"
+            + "</root>\n";
+
+    @Test
+    void shouldNavigateThroughChildElements() throws XMLStreamException {
+        XMLStreamReader reader = createReader();
+
+        assertThat(nextChildElement(reader)).isTrue();
+        assertThat(reader.getLocalName()).isEqualTo("root");
+
+        assertThat(nextChildElement(reader)).isTrue();
+        assertThat(reader.getLocalName()).isEqualTo("first");
+        assertThat(getAttribute(reader, "name")).isEqualTo("1");
+        assertThat(getAttribute(reader, "missing")).isEmpty();
+        assertThat(getOptionalAttribute(reader, "missing")).isNull();
+        skipElement(reader);
+
+        assertThat(nextChildElement(reader)).isTrue();
+        assertThat(reader.getLocalName()).isEqualTo("second");
+        assertThat(readTextContent(reader)).isEqualTo("text bold & <cdata>");
+
+        assertThat(nextChildElement(reader)).isTrue();
+        assertThat(reader.getLocalName()).isEqualTo("third");
+        assertThat(nextChildElement(reader)).isFalse();
+
+        assertThat(nextChildElement(reader)).isFalse();
+        assertThat(reader.getLocalName()).isEqualTo("root");
+
+        assertThat(nextChildElement(reader)).isFalse();
+        assertThat(reader.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldReturnEmptyTextContentOfEmptyElement() throws XMLStreamException {
+        XMLStreamReader reader = createReader();
+
+        nextChildElement(reader);
+        nextChildElement(reader);
+
+        assertThat(readTextContent(reader)).isEmpty();
+        assertThat(reader.getLocalName()).isEqualTo("first");
+    }
+
+    private XMLStreamReader createReader() throws XMLStreamException {
+        return SecureXmlInputFactory.createXmlStreamReader(new StringReader(XML));
+    }
+}